@@ -0,0 +1,121 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// BoardBenchmark // 보드 생성, 첫 클릭 최적화, 공개, 승리 판정 측정
+// GameBoard의 private 메소드는 모델 계층으로 옮겨진 같은 코드를 측정함
+//   optimizeMineLayout -> MinePlacer.prepareFirstClick, revealAdjacentCells -> RevealEngine.reveal,
+//   checkWinCondition -> BoardModel.isCleared
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class BoardBenchmark {
+    // 행x열x지뢰 수 // 기본 난이도 세 가지와 큰 사용자 지정 보드
+    @Param({"8x8x10", "16x16x40", "16x30x99", "1000x1000x150000"})
+    public String board;
+
+    private int rows;
+    private int cols;
+    private int mines;
+    private long seed;
+    private Object model;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Throwable {
+        String[] parts = board.split("x");
+        rows = Integer.parseInt(parts[0]);
+        cols = Integer.parseInt(parts[1]);
+        mines = Integer.parseInt(parts[2]);
+        model = Game.ENTRY_MODEL.invoke(Game.GENERATE.invoke(rows, cols, mines, 42L));
+    }
+
+    // generate // 빈 보드 생성과 지뢰 배치 (인접 지뢰 수는 배치 중 증분 갱신, 지뢰가 많으면 마지막에 한 번에 계산)
+    @Benchmark
+    public Object generate() throws Throwable {
+        return Game.GENERATE.invoke(rows, cols, mines, seed++);
+    }
+
+    // calculateAdjacentMines // 전체 인접 지뢰 수 재계산
+    @Benchmark
+    public Object calculateAdjacentMines() throws Throwable {
+        Game.CALCULATE_ADJACENT_MINES.invoke(model);
+        return model;
+    }
+
+    // checkWinCondition // 승리 판정
+    @Benchmark
+    public boolean checkWinCondition() throws Throwable {
+        return (boolean) Game.IS_CLEARED.invoke(model);
+    }
+
+    // newGameBoard // GameBoard 생성 (UI 구성 포함, 보드 생성은 제외)
+    @Benchmark
+    public Object newGameBoard(FreshBoard fresh) throws Throwable {
+        Runnable none = () -> { };
+        return Game.NEW_GAME_BOARD.invoke(fresh.entry, none, none);
+    }
+
+    // optimizeMineLayout // 첫 클릭 주변 3x3 비우기와 50-50 보정
+    @Benchmark
+    public Object optimizeMineLayout(FreshBoard fresh) throws Throwable {
+        return Game.PREPARE_FIRST_CLICK.invoke(fresh.placer, fresh.model, fresh.center);
+    }
+
+    // revealAdjacentCells // 열린 보드(지뢰 0.5%)에서 가운데 클릭 후 연쇄 공개
+    @Benchmark
+    public int revealAdjacentCells(OpenBoard open) throws Throwable {
+        return (int) Game.REVEAL.invoke(open.engine, open.center);
+    }
+
+    // FreshBoard // 호출마다 새로 배치한 보드 // 첫 클릭 최적화와 GameBoard 생성은 보드를 변경하므로 매번 준비
+    @State(Scope.Thread)
+    public static class FreshBoard {
+        Object entry;
+        Object model;
+        Object placer;
+        int center;
+        private long seed;
+
+        @Setup(Level.Invocation)
+        public void setUp(BoardBenchmark benchmark) throws Throwable {
+            entry = Game.GENERATE.invoke(benchmark.rows, benchmark.cols, benchmark.mines, seed++);
+            model = Game.ENTRY_MODEL.invoke(entry);
+            placer = Game.ENTRY_PLACER.invoke(entry);
+            center = (int) Game.INDEX.invoke(model, benchmark.rows / 2, benchmark.cols / 2);
+        }
+    }
+
+    // OpenBoard // 호출마다 새로 만든 열린 보드와 공개 엔진
+    @State(Scope.Thread)
+    public static class OpenBoard {
+        Object engine;
+        int center;
+        private long seed;
+
+        @Setup(Level.Invocation)
+        public void setUp(BoardBenchmark benchmark) throws Throwable {
+            int openMines = Math.max(1, benchmark.rows * benchmark.cols / 200);
+            Object entry = Game.GENERATE.invoke(benchmark.rows, benchmark.cols, openMines, seed++);
+            Object model = Game.ENTRY_MODEL.invoke(entry);
+            center = (int) Game.INDEX.invoke(model, benchmark.rows / 2, benchmark.cols / 2);
+            Game.PREPARE_FIRST_CLICK.invoke(Game.ENTRY_PLACER.invoke(entry), model, center);
+            engine = Game.NEW_REVEAL_ENGINE.invoke(model);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// CustomerBenchmark // Customer 직렬화/역직렬화 측정 // 마일리지 기록 수별
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CustomerBenchmark {
+    @Param({"0", "10", "100"})
+    public int records;
+
+    private Object customer;
+    private String serialized;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Throwable {
+        customer = newCustomer("user0", records);
+        serialized = (String) Game.SERIALIZE.invoke(customer);
+    }
+
+    // serialize // 고객 정보를 텍스트 블록으로 변환
+    @Benchmark
+    public String serialize() throws Throwable {
+        return (String) Game.SERIALIZE.invoke(customer);
+    }
+
+    // deserialize // 텍스트 블록에서 고객 정보 복원
+    @Benchmark
+    public Object deserialize() throws Throwable {
+        return Game.DESERIALIZE.invoke(serialized);
+    }
+
+    // newCustomer // 적립/사용 기록과 구매 색상을 가진 테스트 고객 생성
+    static Object newCustomer(String id, int records) throws Throwable {
+        Object customer = Game.NEW_CUSTOMER.invoke("이름" + id, id, "password");
+        for (int i = 0; i < records; i++) {
+            if (i % 3 == 2) {
+                Game.DEDUCT_MILEAGE.invoke(customer, 10, "색상 구매");
+            } else {
+                Game.ADD_MILEAGE.invoke(customer, 20, "게임 승리");
+            }
+        }
+        Game.ADD_PURCHASED_COLOR.invoke(customer, "하늘색");
+        return customer;
+    }
+}
@@ -0,0 +1,87 @@
+package benchmarks;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+// CustomerStoreBenchmark // 텍스트 파일 저장소와 내장 키-값 저장소 비교 // 고객 수별
+// 내장 저장소는 같은 고객으로 채운 텍스트 파일에서 옮겨 와 만듦
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CustomerStoreBenchmark {
+    private static final int RECORDS_PER_CUSTOMER = 5;
+    private static final int MAX_RESIDENT_CUSTOMERS = 1024;
+
+    @Param({"text", "embedded"})
+    public String store;
+
+    @Param({"1000", "100000"})
+    public int customers;
+
+    private Path directory;
+    private Object manager;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Throwable {
+        directory = Files.createTempDirectory("customer-store-benchmark");
+        String textFile = directory.resolve("users.txt").toString();
+        Object text = Game.NEW_MILEAGE_MANAGER.invoke(textFile);
+        for (int i = 0; i < customers; i++) {
+            Game.REGISTER_CUSTOMER.invoke(text, CustomerBenchmark.newCustomer("user" + i, RECORDS_PER_CUSTOMER));
+        }
+        Game.SAVE_DATA.invoke(text);
+        if (store.equals("embedded")) {
+            Game.CLOSE_MILEAGE_MANAGER.invoke(text);
+            Object embedded = Game.OPEN_EMBEDDED_STORE.invoke(directory.resolve("users.db"), textFile);
+            manager = Game.NEW_MILEAGE_MANAGER_ON_STORE.invoke(embedded, MAX_RESIDENT_CUSTOMERS);
+        } else {
+            manager = text;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Throwable {
+        Game.CLOSE_MILEAGE_MANAGER.invoke(manager);
+        try (var files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.deleteIfExists(file);
+            }
+        }
+        Files.deleteIfExists(directory);
+    }
+
+    // getCustomer // 고객을 차례로 조회 // 캐시보다 고객이 많으면 대부분 색인 탐색 후 값 한 번 읽기
+    @Benchmark
+    public Object getCustomer() throws Throwable {
+        next = next + 1 < customers ? next + 1 : 0;
+        return Game.MANAGER_GET_CUSTOMER.invoke(manager, "user" + next);
+    }
+
+    // addMileageDurable // 여러 고객에 게임 결과를 반영하고 디스크 반영까지 대기
+    // 텍스트 파일은 로그 기록 한 건, 내장 저장소는 그 고객의 값 하나를 트랜잭션으로 씀
+    @Benchmark
+    public Object addMileageDurable() throws Throwable {
+        next = next + 1 < customers ? next + 1 : 0;
+        return ((CompletableFuture<?>) Game.MANAGER_ADD_MILEAGE.invoke(manager, "user" + next, 1, "benchmark")).join();
+    }
+}
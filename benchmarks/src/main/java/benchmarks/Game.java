@@ -0,0 +1,117 @@
+package benchmarks;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+
+// Game // 기본 패키지의 게임 클래스 접근
+// JMH는 기본 패키지의 벤치마크를 허용하지 않고, 이름 있는 패키지에서는 기본 패키지 클래스를 import할 수 없으므로
+// static final MethodHandle로 연결함 (JIT이 상수로 취급해 직접 호출과 같은 수준으로 인라인됨)
+final class Game {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    static final Class<?> BOARD_MODEL = load("BoardModel");
+    static final Class<?> BOARD_POOL_ENTRY = load("BoardPool$Entry");
+    static final Class<?> MINE_PLACER = load("MinePlacer");
+    static final Class<?> REVEAL_ENGINE = load("RevealEngine");
+    static final Class<?> GAME_BOARD = load("GameBoard");
+    static final Class<?> CUSTOMER = load("Customer");
+    static final Class<?> MILEAGE_MANAGER = load("CustomerMileageManager");
+    static final Class<?> CUSTOMER_STORE = load("CustomerStore");
+    static final Class<?> TEXT_CUSTOMER_STORE = load("TextCustomerStore");
+    static final Class<?> EMBEDDED_CUSTOMER_STORE = load("EmbeddedCustomerStore");
+
+    static final MethodHandle GENERATE = findStatic(load("BoardPool"), "generate",
+            MethodType.methodType(BOARD_POOL_ENTRY, int.class, int.class, int.class, long.class));
+    static final MethodHandle ENTRY_MODEL = findVirtual(BOARD_POOL_ENTRY, "getModel", MethodType.methodType(BOARD_MODEL));
+    static final MethodHandle ENTRY_PLACER = findVirtual(BOARD_POOL_ENTRY, "getPlacer", MethodType.methodType(MINE_PLACER));
+    static final MethodHandle CALCULATE_ADJACENT_MINES = findVirtual(BOARD_MODEL, "calculateAdjacentMines",
+            MethodType.methodType(void.class));
+    static final MethodHandle IS_CLEARED = findVirtual(BOARD_MODEL, "isCleared", MethodType.methodType(boolean.class));
+    static final MethodHandle INDEX = findVirtual(BOARD_MODEL, "index", MethodType.methodType(int.class, int.class, int.class));
+    static final MethodHandle PREPARE_FIRST_CLICK = findVirtual(MINE_PLACER, "prepareFirstClick",
+            MethodType.methodType(int[].class, BOARD_MODEL, int.class));
+    static final MethodHandle NEW_REVEAL_ENGINE = findConstructor(REVEAL_ENGINE, MethodType.methodType(void.class, BOARD_MODEL));
+    static final MethodHandle REVEAL = findVirtual(REVEAL_ENGINE, "reveal", MethodType.methodType(int.class, int.class));
+    static final MethodHandle NEW_GAME_BOARD = findConstructor(GAME_BOARD,
+            MethodType.methodType(void.class, BOARD_POOL_ENTRY, Runnable.class, Runnable.class));
+
+    static final MethodHandle NEW_CUSTOMER = findConstructor(CUSTOMER,
+            MethodType.methodType(void.class, String.class, String.class, String.class));
+    static final MethodHandle ADD_MILEAGE = findVirtual(CUSTOMER, "addMileage",
+            MethodType.methodType(void.class, int.class, String.class));
+    static final MethodHandle DEDUCT_MILEAGE = findVirtual(CUSTOMER, "deductMileage",
+            MethodType.methodType(boolean.class, int.class, String.class));
+    static final MethodHandle ADD_PURCHASED_COLOR = findVirtual(CUSTOMER, "addPurchasedColor",
+            MethodType.methodType(void.class, String.class));
+    static final MethodHandle GET_CUSTOMER_ID = findVirtual(CUSTOMER, "getCustomerId", MethodType.methodType(String.class));
+    static final MethodHandle SERIALIZE = findVirtual(CUSTOMER, "serialize", MethodType.methodType(String.class));
+    static final MethodHandle DESERIALIZE = findStatic(CUSTOMER, "deserialize", MethodType.methodType(CUSTOMER, String.class));
+
+    static final MethodHandle NEW_MILEAGE_MANAGER = findConstructor(MILEAGE_MANAGER,
+            MethodType.methodType(void.class, String.class));
+    static final MethodHandle REGISTER_CUSTOMER = findVirtual(MILEAGE_MANAGER, "registerCustomer",
+            MethodType.methodType(boolean.class, CUSTOMER));
+    static final MethodHandle MANAGER_GET_CUSTOMER = findVirtual(MILEAGE_MANAGER, "getCustomer",
+            MethodType.methodType(CUSTOMER, String.class));
+    static final MethodHandle SAVE_DATA = findVirtual(MILEAGE_MANAGER, "saveData", MethodType.methodType(void.class));
+    static final MethodHandle MANAGER_ADD_MILEAGE = findVirtual(MILEAGE_MANAGER, "addMileage",
+            MethodType.methodType(java.util.concurrent.CompletableFuture.class, String.class, int.class, String.class));
+    static final MethodHandle NEW_MILEAGE_MANAGER_ON_STORE = findConstructor(MILEAGE_MANAGER,
+            MethodType.methodType(void.class, CUSTOMER_STORE, int.class));
+    static final MethodHandle GET_STORE = findVirtual(MILEAGE_MANAGER, "getStore", MethodType.methodType(CUSTOMER_STORE));
+    static final MethodHandle CLOSE_MILEAGE_MANAGER = findVirtual(MILEAGE_MANAGER, "close", MethodType.methodType(void.class));
+    static final MethodHandle LOAD_DATA = findPrivate(TEXT_CUSTOMER_STORE, "loadData");
+    static final MethodHandle OPEN_EMBEDDED_STORE = findStatic(EMBEDDED_CUSTOMER_STORE, "open",
+            MethodType.methodType(EMBEDDED_CUSTOMER_STORE, java.nio.file.Path.class, String.class));
+
+    private Game() {}
+
+    // load // 기본 패키지 클래스 로드
+    private static Class<?> load(String name) {
+        try {
+            return Class.forName(name);
+        } catch (ClassNotFoundException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static MethodHandle findStatic(Class<?> owner, String name, MethodType type) {
+        try {
+            return LOOKUP.findStatic(owner, name, type);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static MethodHandle findVirtual(Class<?> owner, String name, MethodType type) {
+        try {
+            return LOOKUP.findVirtual(owner, name, type);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // findConstructor // protected 생성자도 사용할 수 있도록 리플렉션으로 접근 허용 후 변환
+    private static MethodHandle findConstructor(Class<?> owner, MethodType type) {
+        try {
+            var constructor = owner.getDeclaredConstructor(type.parameterArray());
+            constructor.setAccessible(true);
+            return LOOKUP.unreflectConstructor(constructor);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // findPrivate // 인자 없는 private 메소드 접근 (TextCustomerStore.loadData)
+    private static MethodHandle findPrivate(Class<?> owner, String name) {
+        try {
+            Method method = owner.getDeclaredMethod(name);
+            method.setAccessible(true);
+            return LOOKUP.unreflect(method);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package benchmarks;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+// MileagePersistenceBenchmark // 텍스트 파일 저장소의 저장/시작/조회 측정 // 고객 수별
+// 실제 resources 파일 대신 임시 파일을 사용
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MileagePersistenceBenchmark {
+    private static final int RECORDS_PER_CUSTOMER = 5;
+
+    @Param({"10", "1000", "100000"})
+    public int customers;
+
+    private Path dataFile;
+    private Object manager;
+    private Object store;
+
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Throwable {
+        dataFile = Files.createTempFile("mileage-benchmark", ".txt");
+        manager = Game.NEW_MILEAGE_MANAGER.invoke(dataFile.toString());
+        for (int i = 0; i < customers; i++) {
+            Game.REGISTER_CUSTOMER.invoke(manager, CustomerBenchmark.newCustomer("user" + i, RECORDS_PER_CUSTOMER));
+        }
+        Game.SAVE_DATA.invoke(manager);
+        store = Game.GET_STORE.invoke(manager);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Throwable {
+        Game.CLOSE_MILEAGE_MANAGER.invoke(manager);
+        Files.deleteIfExists(dataFile);
+        Files.deleteIfExists(Path.of(dataFile + ".wal"));
+        Files.deleteIfExists(Path.of(dataFile + ".idx"));
+    }
+
+    // getCustomer // 고객을 차례로 조회 // 고객 수가 캐시보다 많으면 대부분 색인 탐색 후 스냅숏에서 한 블록 읽기
+    @Benchmark
+    public Object getCustomer() throws Throwable {
+        next = next + 1 < customers ? next + 1 : 0;
+        return Game.MANAGER_GET_CUSTOMER.invoke(manager, "user" + next);
+    }
+
+    // addMileage // 게임 결과 하나 반영 // 메모리만 바꾸고 로그 기록은 큐에 넣으므로 고객 수와 무관
+    @Benchmark
+    public Object addMileage() throws Throwable {
+        return Game.MANAGER_ADD_MILEAGE.invoke(manager, "user0", 1, "benchmark");
+    }
+
+    // addMileageDurable // 게임 결과 하나 반영 후 디스크 반영까지 대기 // 커밋 간격과 fsync 비용 포함
+    @Benchmark
+    public Object addMileageDurable() throws Throwable {
+        return ((CompletableFuture<?>) Game.MANAGER_ADD_MILEAGE.invoke(manager, "user0", 1, "benchmark")).join();
+    }
+
+    // saveData // 로그 압축 // 바뀌지 않은 고객 블록은 그대로 복사하고 색인을 다시 씀
+    @Benchmark
+    public Object saveData() throws Throwable {
+        Game.SAVE_DATA.invoke(manager);
+        return manager;
+    }
+
+    // loadData // 시작 비용 // 스냅숏 세대를 읽고 색인을 엶, 고객은 읽지 않으므로 고객 수와 무관
+    @Benchmark
+    public Object loadData() throws Throwable {
+        return Game.LOAD_DATA.invoke(store);
+    }
+}
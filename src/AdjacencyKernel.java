@@ -0,0 +1,180 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public final class AdjacencyKernel {
+    // 이보다 작은 보드는 작업을 나누는 비용이 더 크므로 현재 스레드에서 계산
+    private static final int CELLS_PER_TASK = 1 << 18;
+    // 8개 셀의 인접 지뢰 수를 long 하나로 모아 byte 배열에 한 번에 기록
+    private static final VarHandle LONG_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    // SPREAD[b]의 i번째 바이트 = b의 i번째 비트 // 비트 평면 8비트를 셀 8개의 바이트로 펼침
+    private static final long[] SPREAD = new long[256];
+
+    static {
+        for (int b = 0; b < 256; b++) {
+            long spread = 0;
+            for (int bit = 0; bit < 8; bit++) {
+                if ((b & (1 << bit)) != 0) {
+                    spread |= 1L << (bit * 8);
+                }
+            }
+            SPREAD[b] = spread;
+        }
+    }
+
+    private AdjacencyKernel() {
+    }
+
+    // compute // 지뢰 비트셋으로 전체 셀의 인접 지뢰 수 계산 // 결과는 counts에 행 우선 순서로 기록
+    // 행을 64비트 워드로 정렬한 뒤 좌우로 1비트 민 이웃 8개 평면을 비트 단위 가산기로 더해 64셀을 한 번에 셈
+    // 큰 보드는 행 구간으로 나눠 fork-join 풀에서 병렬 계산, 각 구간은 자기 행의 바이트만 씀
+    public static void compute(long[] mines, int rows, int cols, byte[] counts) {
+        int rowsPerTask = Math.max(1, CELLS_PER_TASK / cols);
+        if (rows <= rowsPerTask) {
+            computeRows(mines, rows, cols, counts, 0, rows);
+            return;
+        }
+        ForkJoinPool.commonPool().invoke(new BandTask(mines, rows, cols, counts, 0, rows, rowsPerTask));
+    }
+
+    // computeRows // [from, to) 행의 인접 지뢰 수 계산 // 위/현재/아래 행 버퍼 세 개를 돌려 쓰며 내려감
+    static void computeRows(long[] mines, int rows, int cols, byte[] counts, int from, int to) {
+        int words = (cols + 63) >>> 6;
+        long[] above = new long[words];
+        long[] current = new long[words];
+        long[] below = new long[words];
+        if (from > 0) {
+            extractRow(mines, cols, from - 1, above);
+        }
+        extractRow(mines, cols, from, current);
+        for (int row = from; row < to; row++) {
+            if (row + 1 < rows) {
+                extractRow(mines, cols, row + 1, below);
+            } else {
+                Arrays.fill(below, 0L);
+            }
+            countRow(above, current, below, words, cols, counts, row * cols);
+            long[] recycled = above;
+            above = current;
+            current = below;
+            below = recycled;
+        }
+    }
+
+    // extractRow // 행 하나의 지뢰 비트를 0번 비트부터 시작하도록 꺼냄 // 열 수를 넘는 비트는 0
+    private static void extractRow(long[] mines, int cols, int row, long[] out) {
+        long start = (long) row * cols;
+        int words = out.length;
+        for (int word = 0; word < words; word++) {
+            long bit = start + ((long) word << 6);
+            int index = (int) (bit >>> 6);
+            int shift = (int) (bit & 63);
+            long value = mines[index] >>> shift;
+            if (shift != 0 && index + 1 < mines.length) {
+                value |= mines[index + 1] << (64 - shift);
+            }
+            out[word] = value;
+        }
+        int tail = cols & 63;
+        if (tail != 0) {
+            out[words - 1] &= (1L << tail) - 1;
+        }
+    }
+
+    // countRow // 워드마다 이웃 8개 평면을 4비트 카운터(b0~b3 평면)로 더한 뒤 셀별 바이트로 펼침
+    private static void countRow(long[] above, long[] current, long[] below, int words, int cols,
+            byte[] counts, int offset) {
+        for (int word = 0; word < words; word++) {
+            long x0 = shiftedLeft(above, word, words);
+            long x1 = above[word];
+            long x2 = shiftedRight(above, word, words);
+            long x3 = shiftedLeft(current, word, words);
+            long x4 = shiftedRight(current, word, words);
+            long x5 = shiftedLeft(below, word, words);
+            long x6 = below[word];
+            long x7 = shiftedRight(below, word, words);
+            // 자리올림 보존 가산기 트리 // 1의 자리 8개 -> 2의 자리 4개 -> 4의 자리 2개 -> 8의 자리
+            long s1 = x0 ^ x1 ^ x2;
+            long c1 = (x0 & x1) | (x2 & (x0 ^ x1));
+            long s2 = x3 ^ x4 ^ x5;
+            long c2 = (x3 & x4) | (x5 & (x3 ^ x4));
+            long s3 = x6 ^ x7;
+            long c3 = x6 & x7;
+            long b0 = s1 ^ s2 ^ s3;
+            long c4 = (s1 & s2) | (s3 & (s1 ^ s2));
+            long t = c1 ^ c2 ^ c3;
+            long c5 = (c1 & c2) | (c3 & (c1 ^ c2));
+            long b1 = t ^ c4;
+            long c6 = t & c4;
+            long b2 = c5 ^ c6;
+            long b3 = c5 & c6;
+            int col = word << 6;
+            int cells = Math.min(64, cols - col);
+            int base = offset + col;
+            int group = 0;
+            for (; group + 8 <= cells; group += 8) {
+                LONG_VIEW.set(counts, base + group, spread(b0, b1, b2, b3, group));
+            }
+            for (int cell = group; cell < cells; cell++) {
+                counts[base + cell] = (byte) (((b0 >>> cell) & 1) | (((b1 >>> cell) & 1) << 1)
+                        | (((b2 >>> cell) & 1) << 2) | (((b3 >>> cell) & 1) << 3));
+            }
+        }
+    }
+
+    // spread // 카운터 평면에서 group번째부터 8개 셀의 값을 바이트 8개로 조립
+    private static long spread(long b0, long b1, long b2, long b3, int group) {
+        return SPREAD[(int) (b0 >>> group) & 0xFF]
+                | SPREAD[(int) (b1 >>> group) & 0xFF] << 1
+                | SPREAD[(int) (b2 >>> group) & 0xFF] << 2
+                | SPREAD[(int) (b3 >>> group) & 0xFF] << 3;
+    }
+
+    // shiftedLeft // 각 셀 위치에 왼쪽 이웃의 비트가 오도록 민 워드
+    private static long shiftedLeft(long[] row, int word, int words) {
+        long value = row[word] << 1;
+        return word > 0 ? value | row[word - 1] >>> 63 : value;
+    }
+
+    // shiftedRight // 각 셀 위치에 오른쪽 이웃의 비트가 오도록 민 워드
+    private static long shiftedRight(long[] row, int word, int words) {
+        long value = row[word] >>> 1;
+        return word + 1 < words ? value | row[word + 1] << 63 : value;
+    }
+
+    // BandTask // 행 구간을 반으로 나눠 병렬 계산
+    private static class BandTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final long[] mines;
+        private final int rows;
+        private final int cols;
+        private final byte[] counts;
+        private final int from;
+        private final int to;
+        private final int rowsPerTask;
+
+        BandTask(long[] mines, int rows, int cols, byte[] counts, int from, int to, int rowsPerTask) {
+            this.mines = mines;
+            this.rows = rows;
+            this.cols = cols;
+            this.counts = counts;
+            this.from = from;
+            this.to = to;
+            this.rowsPerTask = rowsPerTask;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > rowsPerTask) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new BandTask(mines, rows, cols, counts, from, middle, rowsPerTask),
+                        new BandTask(mines, rows, cols, counts, middle, to, rowsPerTask));
+                return;
+            }
+            computeRows(mines, rows, cols, counts, from, to);
+        }
+    }
+}
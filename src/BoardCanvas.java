@@ -0,0 +1,348 @@
+import javax.swing.JComponent;
+import javax.swing.JViewport;
+import javax.swing.Scrollable;
+import javax.swing.SwingConstants;
+import javax.swing.SwingUtilities;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+public class BoardCanvas extends JComponent implements Scrollable {
+    private static final long serialVersionUID = 1L;
+    private static final Color REVEALED_COLOR = new Color(211, 211, 211);
+    private static final Color HOVER_COLOR = new Color(230, 230, 230);
+    private static final Color GRID_COLOR = Color.GRAY;
+    private static final Color MINE_COLOR = Color.RED;
+    private static final Map<Integer, Color> NUMBER_COLORS = GameResources.NUMBER_COLORS;
+    private static final Font EMOJI_FONT = new Font("Noto Color Emoji", Font.PLAIN, 16);
+    private static final Font NUMBER_FONT = new Font("맑은 고딕", Font.BOLD, 14);
+    private static final int[] ZOOM_LEVELS = {2, 4, 6, 8, 12, 16, 20, 24, 30, 40};
+    private static final int DETAIL_MIN_CELL_SIZE = 12;
+    private static final Dimension MAX_VIEWPORT_SIZE = new Dimension(900, 700);
+    private final BoardModel model;
+    private int cellSize;
+    private BufferedImage reducedDetailImage;
+    private final IntConsumer leftClickHandler;
+    private final IntConsumer rightClickHandler;
+    private Color cellColor = Color.LIGHT_GRAY;
+    private boolean showMines;
+    private int hoverIndex = -1;
+
+    // BoardCanvas 생성자 // 보드 전체를 하나의 컴포넌트로 그림 // 보드 단위 마우스 리스너 하나로 클릭 위치 판정
+    public BoardCanvas(BoardModel model, int cellSize, IntConsumer leftClickHandler, IntConsumer rightClickHandler) {
+        this.model = model;
+        this.cellSize = cellSize;
+        this.leftClickHandler = leftClickHandler;
+        this.rightClickHandler = rightClickHandler;
+        setOpaque(true);
+
+        MouseAdapter mouseHandler = new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (!isEnabled()) return;
+                int index = cellAt(e.getX(), e.getY());
+                if (index < 0) return;
+                if (SwingUtilities.isRightMouseButton(e)) {
+                    rightClickHandler.accept(index);
+                } else if (SwingUtilities.isLeftMouseButton(e)) {
+                    leftClickHandler.accept(index);
+                }
+            }
+
+            @Override
+            public void mouseMoved(MouseEvent e) {
+                setHoverIndex(isEnabled() ? cellAt(e.getX(), e.getY()) : -1);
+            }
+
+            @Override
+            public void mouseExited(MouseEvent e) {
+                setHoverIndex(-1);
+            }
+
+            @Override
+            public void mouseWheelMoved(MouseWheelEvent e) {
+                if (e.isControlDown()) {
+                    zoom(-e.getWheelRotation(), e.getPoint());
+                } else if (getParent() != null) {
+                    // 스크롤은 바깥 스크롤 패널로 전달
+                    getParent().dispatchEvent(SwingUtilities.convertMouseEvent(BoardCanvas.this, e, getParent()));
+                }
+            }
+        };
+        addMouseListener(mouseHandler);
+        addMouseMotionListener(mouseHandler);
+        addMouseWheelListener(mouseHandler);
+    }
+
+    @Override
+    // getPreferredSize // 현재 확대 수준의 보드 전체 크기 반환
+    public Dimension getPreferredSize() {
+        return new Dimension(model.getCols() * cellSize, model.getRows() * cellSize);
+    }
+
+    // getCellSize // 현재 셀 크기(확대 수준) 반환
+    public int getCellSize() {
+        return cellSize;
+    }
+
+    // zoom // 확대/축소 // anchor 위치의 셀이 화면에서 같은 자리에 남도록 스크롤 위치 보정
+    public void zoom(int steps, Point anchor) {
+        int level = 0;
+        while (level < ZOOM_LEVELS.length - 1 && ZOOM_LEVELS[level] < cellSize) {
+            level++;
+        }
+        level = Math.max(0, Math.min(ZOOM_LEVELS.length - 1, level + steps));
+        int newSize = ZOOM_LEVELS[level];
+        if (newSize == cellSize) return;
+
+        JViewport viewport = getParent() instanceof JViewport ? (JViewport) getParent() : null;
+        Point view = viewport != null ? viewport.getViewPosition() : new Point();
+        if (anchor == null) {
+            anchor = viewport != null
+                    ? new Point(view.x + viewport.getWidth() / 2, view.y + viewport.getHeight() / 2)
+                    : new Point();
+        }
+        double scale = (double) newSize / cellSize;
+        int offsetX = anchor.x - view.x;
+        int offsetY = anchor.y - view.y;
+
+        cellSize = newSize;
+        hoverIndex = -1;
+        reducedDetailImage = null;
+        setSize(getPreferredSize());
+        revalidate();
+        if (viewport != null) {
+            int maxX = Math.max(0, getWidth() - viewport.getWidth());
+            int maxY = Math.max(0, getHeight() - viewport.getHeight());
+            int x = (int) Math.round(anchor.x * scale) - offsetX;
+            int y = (int) Math.round(anchor.y * scale) - offsetY;
+            viewport.setViewPosition(new Point(Math.max(0, Math.min(maxX, x)), Math.max(0, Math.min(maxY, y))));
+        }
+        repaint();
+    }
+
+    @Override
+    // getPreferredScrollableViewportSize // 스크롤 영역 크기 // 작은 보드는 전체, 큰 보드는 최대 크기로 제한
+    public Dimension getPreferredScrollableViewportSize() {
+        Dimension preferred = getPreferredSize();
+        return new Dimension(Math.min(preferred.width, MAX_VIEWPORT_SIZE.width),
+                Math.min(preferred.height, MAX_VIEWPORT_SIZE.height));
+    }
+
+    @Override
+    // getScrollableUnitIncrement // 한 칸 스크롤 시 셀 하나만큼 이동
+    public int getScrollableUnitIncrement(Rectangle visibleRect, int orientation, int direction) {
+        return cellSize;
+    }
+
+    @Override
+    // getScrollableBlockIncrement // 페이지 스크롤 시 보이는 영역만큼 이동
+    public int getScrollableBlockIncrement(Rectangle visibleRect, int orientation, int direction) {
+        return orientation == SwingConstants.VERTICAL ? visibleRect.height : visibleRect.width;
+    }
+
+    @Override
+    // getScrollableTracksViewportWidth // 보드 크기를 유지하고 스크롤
+    public boolean getScrollableTracksViewportWidth() {
+        return false;
+    }
+
+    @Override
+    // getScrollableTracksViewportHeight // 보드 크기를 유지하고 스크롤
+    public boolean getScrollableTracksViewportHeight() {
+        return false;
+    }
+
+    // cellAt // 좌표로 셀 인덱스 계산 // 보드 밖이면 -1 반환
+    public int cellAt(int x, int y) {
+        if (x < 0 || y < 0) return -1;
+        int row = y / cellSize;
+        int col = x / cellSize;
+        return model.isValidCell(row, col) ? model.index(row, col) : -1;
+    }
+
+    // setCellColor // 공개되지 않은 셀 색상 변경 // 전체 다시 그리기
+    public void setCellColor(Color color) {
+        this.cellColor = color;
+        repaint();
+    }
+
+    // setShowMines // 게임 오버 표시 설정 // 모든 지뢰와 잘못된 깃발 표시
+    public void setShowMines(boolean showMines) {
+        this.showMines = showMines;
+        repaint();
+    }
+
+    // repaintCell // 변경된 셀 영역만 다시 그리기
+    public void repaintCell(int index) {
+        repaint(model.colOf(index) * cellSize, model.rowOf(index) * cellSize, cellSize, cellSize);
+    }
+
+    // repaintCells // 변경된 셀들을 감싸는 영역만 다시 그리기
+    public void repaintCells(int[] indices, int count) {
+        if (count <= 0) return;
+        int minRow = Integer.MAX_VALUE, minCol = Integer.MAX_VALUE;
+        int maxRow = -1, maxCol = -1;
+        for (int i = 0; i < count; i++) {
+            int row = model.rowOf(indices[i]);
+            int col = model.colOf(indices[i]);
+            minRow = Math.min(minRow, row);
+            maxRow = Math.max(maxRow, row);
+            minCol = Math.min(minCol, col);
+            maxCol = Math.max(maxCol, col);
+        }
+        repaint(minCol * cellSize, minRow * cellSize,
+                (maxCol - minCol + 1) * cellSize, (maxRow - minRow + 1) * cellSize);
+    }
+
+    // setHoverIndex // 마우스가 올라간 셀 변경 // 이전 셀과 새 셀만 다시 그리기
+    private void setHoverIndex(int index) {
+        if (index == hoverIndex) return;
+        if (hoverIndex >= 0) repaintCell(hoverIndex);
+        hoverIndex = index;
+        if (hoverIndex >= 0) repaintCell(hoverIndex);
+    }
+
+    @Override
+    // paintComponent // 보드 그리기 // 클립 영역에 걸친 셀만 그림
+    protected void paintComponent(Graphics g) {
+        Graphics2D g2 = (Graphics2D) g;
+        g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) {
+            clip = new Rectangle(0, 0, getWidth(), getHeight());
+        }
+        g.setColor(GRID_COLOR);
+        g.fillRect(clip.x, clip.y, clip.width, clip.height);
+
+        int rowStart = Math.max(0, clip.y / cellSize);
+        int rowEnd = Math.min(model.getRows() - 1, (clip.y + clip.height - 1) / cellSize);
+        int colStart = Math.max(0, clip.x / cellSize);
+        int colEnd = Math.min(model.getCols() - 1, (clip.x + clip.width - 1) / cellSize);
+        if (rowStart > rowEnd || colStart > colEnd) return;
+        if (cellSize < DETAIL_MIN_CELL_SIZE) {
+            paintReducedDetail(g, rowStart, rowEnd, colStart, colEnd);
+            return;
+        }
+        for (int row = rowStart; row <= rowEnd; row++) {
+            for (int col = colStart; col <= colEnd; col++) {
+                paintCell(g2, model.index(row, col), col * cellSize, row * cellSize);
+            }
+        }
+    }
+
+    // paintReducedDetail // 축소 화면 그리기 // 글자와 테두리 없이 셀 색상만 이미지 버퍼에 직접 기록
+    private void paintReducedDetail(Graphics g, int rowStart, int rowEnd, int colStart, int colEnd) {
+        int width = (colEnd - colStart + 1) * cellSize;
+        int height = (rowEnd - rowStart + 1) * cellSize;
+        if (reducedDetailImage == null
+                || reducedDetailImage.getWidth() < width || reducedDetailImage.getHeight() < height) {
+            reducedDetailImage = new BufferedImage(Math.max(width, getVisibleRect().width + cellSize),
+                    Math.max(height, getVisibleRect().height + cellSize), BufferedImage.TYPE_INT_RGB);
+        }
+        int[] pixels = ((DataBufferInt) reducedDetailImage.getRaster().getDataBuffer()).getData();
+        int stride = reducedDetailImage.getWidth();
+        int gridRgb = GRID_COLOR.getRGB();
+        boolean gaps = cellSize >= 6;
+
+        for (int row = rowStart; row <= rowEnd; row++) {
+            int y0 = (row - rowStart) * cellSize;
+            for (int col = colStart; col <= colEnd; col++) {
+                int x0 = (col - colStart) * cellSize;
+                int rgb = reducedDetailColor(model.index(row, col)).getRGB();
+                for (int dy = 0; dy < cellSize; dy++) {
+                    int offset = (y0 + dy) * stride + x0;
+                    boolean gapRow = gaps && dy == cellSize - 1;
+                    for (int dx = 0; dx < cellSize; dx++) {
+                        pixels[offset + dx] = gapRow || (gaps && dx == cellSize - 1) ? gridRgb : rgb;
+                    }
+                }
+            }
+        }
+        int x = colStart * cellSize;
+        int y = rowStart * cellSize;
+        g.drawImage(reducedDetailImage, x, y, x + width, y + height, 0, 0, width, height, null);
+    }
+
+    // reducedDetailColor // 축소 화면에서 셀 상태를 나타내는 색상 반환
+    private Color reducedDetailColor(int index) {
+        boolean mine = model.isMine(index);
+        if (model.isRevealed(index)) {
+            if (mine) return MINE_COLOR;
+            int count = model.getAdjacentMines(index);
+            return count > 0 ? NUMBER_COLORS.getOrDefault(count, Color.BLACK) : REVEALED_COLOR;
+        }
+        if (model.isFlagged(index)) {
+            return showMines && !mine ? Color.BLACK : Color.RED;
+        }
+        if (showMines && mine) return MINE_COLOR;
+        return cellColor;
+    }
+
+    // paintCell // 셀 하나 그리기 // 모델 상태에 따라 배경, 숫자, 깃발, 지뢰 표시
+    private void paintCell(Graphics2D g, int index, int x, int y) {
+        int inner = cellSize - 1;
+        boolean revealed = model.isRevealed(index);
+        boolean flagged = model.isFlagged(index);
+        boolean mine = model.isMine(index);
+
+        if (revealed) {
+            g.setColor(mine ? MINE_COLOR : REVEALED_COLOR);
+            g.fillRect(x, y, inner, inner);
+            if (mine) {
+                drawCentered(g, "💣", EMOJI_FONT, Color.BLACK, x, y);
+            } else if (model.getAdjacentMines(index) > 0) {
+                int count = model.getAdjacentMines(index);
+                drawCentered(g, String.valueOf(count), NUMBER_FONT,
+                        NUMBER_COLORS.getOrDefault(count, Color.BLACK), x, y);
+            }
+            return;
+        }
+
+        if (showMines && mine && !flagged) {
+            g.setColor(MINE_COLOR);
+            g.fillRect(x, y, inner, inner);
+            drawCentered(g, "💣", EMOJI_FONT, Color.BLACK, x, y);
+            return;
+        }
+
+        g.setColor(index == hoverIndex && !flagged ? HOVER_COLOR : cellColor);
+        g.fillRect(x, y, inner, inner);
+        g.setColor(Color.WHITE);
+        g.drawLine(x, y, x + inner - 1, y);
+        g.drawLine(x, y, x, y + inner - 1);
+        g.setColor(Color.DARK_GRAY);
+        g.drawLine(x, y + inner - 1, x + inner - 1, y + inner - 1);
+        g.drawLine(x + inner - 1, y, x + inner - 1, y + inner - 1);
+        if (flagged) {
+            if (showMines && !mine) {
+                drawCentered(g, "❌", EMOJI_FONT, Color.RED, x, y);
+            } else {
+                drawCentered(g, "🚩", EMOJI_FONT, Color.RED, x, y);
+            }
+        }
+    }
+
+    // drawCentered // 셀 가운데에 문자열 그리기
+    private void drawCentered(Graphics2D g, String text, Font font, Color color, int x, int y) {
+        g.setFont(font);
+        g.setColor(color);
+        FontMetrics metrics = g.getFontMetrics();
+        int textX = x + (cellSize - 1 - metrics.stringWidth(text)) / 2;
+        int textY = y + (cellSize - 1 - metrics.getHeight()) / 2 + metrics.getAscent();
+        g.drawString(text, textX, textY);
+    }
+}
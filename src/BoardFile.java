@@ -0,0 +1,234 @@
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+public final class BoardFile {
+    private static final int MAGIC = 0x4D535742; // "MSWB"
+    private static final byte VERSION = 1;
+    private static final byte RAW = 0;
+    private static final byte RUN_LENGTH = 1;
+    private static final int HEADER_BYTES = 4 + 1 + 4 + 4;
+    private static final int PLANE_HEADER_BYTES = 1 + 4;
+
+    // 생성자를 private으로 설정하여 인스턴스화 방지
+    private BoardFile() {}
+
+    // 파일 형식 (빅 엔디언)
+    //   int magic "MSWB", byte version, int rows, int cols
+    //   지뢰, 깃발, 공개 비트 평면 3개: byte 인코딩(0 원본, 1 런 길이), int 바이트 수, 내용
+    //   원본은 64비트 워드 배열, 런 길이는 0 비트부터 시작해 번갈아 나오는 런 길이를 가변 길이 정수로 기록
+    // 인접 지뢰 수는 지뢰 평면에서 다시 계산하므로 저장하지 않음
+
+    // save // 보드 상태를 파일에 저장 // 임시 파일에 쓴 뒤 원자적으로 교체
+    public static void save(BoardModel model, Path path, boolean compress) throws IOException {
+        ByteBuffer buffer = encode(model, compress);
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // load // 파일에서 보드 상태를 불러와 새 모델 생성
+    public static BoardModel load(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (length > Integer.MAX_VALUE) {
+                throw new IOException("Board file too large: " + length);
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) length);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // 끝까지 읽기
+            }
+            buffer.flip();
+            return decode(buffer);
+        }
+    }
+
+    // encode // 보드 상태를 버퍼에 기록 // compress가 true면 평면마다 더 작은 인코딩 선택
+    public static ByteBuffer encode(BoardModel model, boolean compress) {
+        return encode(model.getRows(), model.getCols(), model.mineBits(), model.flagBits(), model.revealedBits(),
+                compress);
+    }
+
+    // encode // 비트 평면 3개로 보드 상태를 버퍼에 기록 // 다른 스레드에서 인코딩할 평면 복사본용
+    static ByteBuffer encode(int rows, int cols, long[] mineBits, long[] flagBits, long[] revealedBits,
+                             boolean compress) {
+        int size = rows * cols;
+        int words = mineBits.length;
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + 3 * (PLANE_HEADER_BYTES + words * Long.BYTES));
+        buffer.putInt(MAGIC).put(VERSION).putInt(rows).putInt(cols);
+        writePlane(buffer, mineBits, size, compress);
+        writePlane(buffer, flagBits, size, compress);
+        writePlane(buffer, revealedBits, size, compress);
+        buffer.flip();
+        return buffer;
+    }
+
+    // decode // 버퍼에서 보드 상태 복원 // 인접 지뢰 수와 남은 안전 셀 수는 다시 계산
+    public static BoardModel decode(ByteBuffer buffer) throws IOException {
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Not a board file");
+            }
+            byte version = buffer.get();
+            if (version != VERSION) {
+                throw new IOException("Unsupported board file version: " + version);
+            }
+            int rows = buffer.getInt();
+            int cols = buffer.getInt();
+            if (rows <= 0 || cols <= 0 || (long) rows * cols > Integer.MAX_VALUE) {
+                throw new IOException("Invalid board size: " + rows + "x" + cols);
+            }
+            BoardModel model = new BoardModel(rows, cols);
+            int words = model.mineBits().length;
+            long[] mines = readPlane(buffer, words, model.size());
+            long[] flags = readPlane(buffer, words, model.size());
+            long[] revealed = readPlane(buffer, words, model.size());
+            model.setBits(mines, flags, revealed);
+            return model;
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Truncated board file", e);
+        }
+    }
+
+    // writePlane // 비트 평면 하나 기록 // 런 길이 인코딩이 원본보다 크면 원본으로 기록
+    private static void writePlane(ByteBuffer buffer, long[] bits, int size, boolean compress) {
+        int start = buffer.position();
+        int rawBytes = bits.length * Long.BYTES;
+        if (compress) {
+            buffer.put(RUN_LENGTH).putInt(0);
+            if (writeRuns(buffer, bits, size, start + PLANE_HEADER_BYTES + rawBytes)) {
+                buffer.putInt(start + 1, buffer.position() - start - PLANE_HEADER_BYTES);
+                return;
+            }
+            buffer.position(start);
+        }
+        buffer.put(RAW).putInt(rawBytes);
+        for (long word : bits) {
+            buffer.putLong(word);
+        }
+    }
+
+    // writeRuns // 번갈아 나오는 0/1 런 길이를 기록 // limit을 넘으면 중단하고 false 반환
+    private static boolean writeRuns(ByteBuffer buffer, long[] bits, int size, int limit) {
+        int position = 0;
+        boolean value = false;
+        while (position < size) {
+            int next = nextBit(bits, position, size, !value);
+            if (buffer.position() + 5 > limit) {
+                return false;
+            }
+            putVarInt(buffer, next - position);
+            position = next;
+            value = !value;
+        }
+        return true;
+    }
+
+    // readPlane // 비트 평면 하나 읽기
+    private static long[] readPlane(ByteBuffer buffer, int words, int size) throws IOException {
+        byte encoding = buffer.get();
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IOException("Invalid plane length: " + length);
+        }
+        long[] bits = new long[words];
+        int end = buffer.position() + length;
+        if (encoding == RAW) {
+            if (length != words * Long.BYTES) {
+                throw new IOException("Invalid raw plane length: " + length);
+            }
+            for (int i = 0; i < words; i++) {
+                bits[i] = buffer.getLong();
+            }
+        } else if (encoding == RUN_LENGTH) {
+            int position = 0;
+            boolean value = false;
+            while (buffer.position() < end) {
+                int run = getVarInt(buffer);
+                if (run < 0 || run > size - position) {
+                    throw new IOException("Invalid run length: " + run);
+                }
+                if (value) {
+                    setRange(bits, position, position + run);
+                }
+                position += run;
+                value = !value;
+            }
+            if (position != size) {
+                throw new IOException("Run lengths do not cover board: " + position + "/" + size);
+            }
+        } else {
+            throw new IOException("Unknown plane encoding: " + encoding);
+        }
+        if (size % 64 != 0 && (bits[words - 1] >>> (size % 64)) != 0) {
+            throw new IOException("Bits set beyond board size");
+        }
+        return bits;
+    }
+
+    // nextBit // from부터 값이 value인 첫 비트 위치 반환 // 없으면 size
+    private static int nextBit(long[] bits, int from, int size, boolean value) {
+        int word = from >>> 6;
+        long current = (value ? bits[word] : ~bits[word]) & (-1L << from);
+        while (true) {
+            if (current != 0) {
+                return Math.min(size, (word << 6) + Long.numberOfTrailingZeros(current));
+            }
+            if (++word >= bits.length) {
+                return size;
+            }
+            current = value ? bits[word] : ~bits[word];
+        }
+    }
+
+    // setRange // [from, to) 범위의 비트를 워드 단위로 설정
+    private static void setRange(long[] bits, int from, int to) {
+        if (from >= to) return;
+        int first = from >>> 6;
+        int last = (to - 1) >>> 6;
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> -to;
+        if (first == last) {
+            bits[first] |= firstMask & lastMask;
+            return;
+        }
+        bits[first] |= firstMask;
+        for (int i = first + 1; i < last; i++) {
+            bits[i] = -1L;
+        }
+        bits[last] |= lastMask;
+    }
+
+    // putVarInt // 7비트 단위 가변 길이 정수 기록
+    private static void putVarInt(ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    // getVarInt // 가변 길이 정수 읽기
+    private static int getVarInt(ByteBuffer buffer) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed run length");
+    }
+}
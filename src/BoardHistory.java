@@ -0,0 +1,164 @@
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+public class BoardHistory {
+    private static final int DEFAULT_MAX_STEPS = 10_000;
+    private final BoardModel model;
+    private final int maxSteps;
+    private final Deque<Step> undoSteps = new ArrayDeque<>();
+    private final Deque<Step> redoSteps = new ArrayDeque<>();
+    private boolean mineRevealed;
+    private long deltaBytes;
+
+    // BoardHistory 생성자 // 기본 최대 단계 수로 초기화
+    public BoardHistory(BoardModel model) {
+        this(model, DEFAULT_MAX_STEPS);
+    }
+
+    // BoardHistory 생성자 // 되돌리기/다시 실행 기록 초기화 // 최대 단계 수를 넘으면 가장 오래된 단계부터 버림
+    // 보드 복사본 대신 이동마다 바뀐 64비트 워드의 XOR 마스크만 보관하므로 단계당 크기는 바뀐 셀 수에 비례
+    // 지뢰 배치는 첫 클릭 이후 바뀌지 않으므로 공개와 깃발 비트만 기록
+    public BoardHistory(BoardModel model, int maxSteps) {
+        if (maxSteps <= 0) {
+            throw new IllegalArgumentException("Invalid history size: " + maxSteps);
+        }
+        this.model = model;
+        this.maxSteps = maxSteps;
+    }
+
+    // recordReveal // 공개 한 번 기록 // RevealEngine이 새로 공개한 셀 목록을 받음, 모델에 반영한 뒤 호출
+    public void recordReveal(int[] cells, int count) {
+        if (count > 0) {
+            push(new Step(false, false, cells, count));
+        }
+    }
+
+    // recordMineHit // 지뢰 공개 기록 // 되돌리면 게임을 이어서 할 수 있음
+    public void recordMineHit(int index) {
+        push(new Step(false, true, new int[] {index}, 1));
+        mineRevealed = true;
+    }
+
+    // recordFlag // 깃발 토글 기록
+    public void recordFlag(int index) {
+        push(new Step(true, false, new int[] {index}, 1));
+    }
+
+    // push // 새 단계 추가 // 다시 실행 기록은 버림
+    private void push(Step step) {
+        for (Step redo : redoSteps) {
+            deltaBytes -= redo.bytes();
+        }
+        redoSteps.clear();
+        undoSteps.push(step);
+        deltaBytes += step.bytes();
+        if (undoSteps.size() > maxSteps) {
+            deltaBytes -= undoSteps.removeLast().bytes();
+        }
+    }
+
+    // canUndo // 되돌릴 단계가 있는지 확인
+    public boolean canUndo() {
+        return !undoSteps.isEmpty();
+    }
+
+    // canRedo // 다시 실행할 단계가 있는지 확인
+    public boolean canRedo() {
+        return !redoSteps.isEmpty();
+    }
+
+    // undo // 마지막 단계 되돌리기 // 바뀐 워드만 XOR하므로 O(바뀐 셀 수), 바뀐 셀 인덱스 반환
+    public int[] undo() {
+        Step step = undoSteps.pop();
+        step.apply(model);
+        redoSteps.push(step);
+        if (step.mineHit) {
+            mineRevealed = false;
+        }
+        return step.cells();
+    }
+
+    // redo // 되돌린 단계 다시 실행 // 같은 XOR을 한 번 더 적용, 바뀐 셀 인덱스 반환
+    public int[] redo() {
+        Step step = redoSteps.pop();
+        step.apply(model);
+        undoSteps.push(step);
+        if (step.mineHit) {
+            mineRevealed = true;
+        }
+        return step.cells();
+    }
+
+    // isMineRevealed // 현재 상태에 공개된 지뢰가 있는지 확인 // 지뢰를 밟은 단계가 적용되어 있는지로 판단
+    public boolean isMineRevealed() {
+        return mineRevealed;
+    }
+
+    // getDeltaBytes // 보관 중인 모든 단계의 XOR 마스크 크기 반환 (워드 인덱스 + 마스크)
+    public long getDeltaBytes() {
+        return deltaBytes;
+    }
+
+    // Step // 한 번의 이동으로 바뀐 비트 // 워드 인덱스와 XOR 마스크 쌍, 공개 또는 깃발 평면 중 하나에만 적용
+    private static class Step {
+        private final boolean flags;
+        private final boolean mineHit;
+        private final int[] words;
+        private final long[] masks;
+
+        // Step 생성자 // 셀 인덱스를 정렬해 같은 워드끼리 하나의 마스크로 묶음
+        Step(boolean flags, boolean mineHit, int[] cells, int count) {
+            this.flags = flags;
+            this.mineHit = mineHit;
+            int[] sorted = Arrays.copyOf(cells, count);
+            Arrays.sort(sorted);
+            int[] wordBuffer = new int[count];
+            long[] maskBuffer = new long[count];
+            int used = 0;
+            for (int index : sorted) {
+                int word = index >>> 6;
+                if (used == 0 || wordBuffer[used - 1] != word) {
+                    wordBuffer[used++] = word;
+                }
+                maskBuffer[used - 1] |= 1L << index;
+            }
+            this.words = Arrays.copyOf(wordBuffer, used);
+            this.masks = Arrays.copyOf(maskBuffer, used);
+        }
+
+        // apply // 마스크를 XOR로 적용 // 두 번 적용하면 원래 상태로 돌아감
+        void apply(BoardModel model) {
+            for (int i = 0; i < words.length; i++) {
+                if (flags) {
+                    model.flipFlags(words[i], masks[i]);
+                } else {
+                    model.flipRevealed(words[i], masks[i]);
+                }
+            }
+        }
+
+        // cells // 바뀐 셀 인덱스 목록 // 화면 갱신용
+        int[] cells() {
+            int count = 0;
+            for (long mask : masks) {
+                count += Long.bitCount(mask);
+            }
+            int[] cells = new int[count];
+            int next = 0;
+            for (int i = 0; i < words.length; i++) {
+                long mask = masks[i];
+                while (mask != 0) {
+                    cells[next++] = (words[i] << 6) + Long.numberOfTrailingZeros(mask);
+                    mask &= mask - 1;
+                }
+            }
+            return cells;
+        }
+
+        // bytes // 마스크 저장 크기
+        long bytes() {
+            return (long) words.length * (Integer.BYTES + Long.BYTES);
+        }
+    }
+}
@@ -0,0 +1,284 @@
+import java.util.Arrays;
+
+public class BoardModel {
+    private final int rows;
+    private final int cols;
+    private final int size;
+    private final long[] mines;
+    private final long[] flags;
+    private final long[] revealed;
+    private final byte[] adjacentMines;
+    private int mineCount;
+    private int remainingSafeCells;
+
+    // BoardModel 생성자 // 보드 상태 초기화 // 지뢰/깃발/공개 상태를 비트셋으로 관리
+    public BoardModel(int rows, int cols) {
+        if (rows <= 0 || cols <= 0) {
+            throw new IllegalArgumentException("Invalid board size: " + rows + "x" + cols);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.size = rows * cols;
+        int words = (size + 63) >>> 6;
+        this.mines = new long[words];
+        this.flags = new long[words];
+        this.revealed = new long[words];
+        this.adjacentMines = new byte[size];
+        this.mineCount = 0;
+        this.remainingSafeCells = size;
+    }
+
+    // getRows // 행 수 반환
+    public int getRows() {
+        return rows;
+    }
+
+    // getCols // 열 수 반환
+    public int getCols() {
+        return cols;
+    }
+
+    // size // 전체 셀 수 반환
+    public int size() {
+        return size;
+    }
+
+    // index // 행과 열을 셀 인덱스로 변환
+    public int index(int row, int col) {
+        return row * cols + col;
+    }
+
+    // rowOf // 셀 인덱스의 행 반환
+    public int rowOf(int index) {
+        return index / cols;
+    }
+
+    // colOf // 셀 인덱스의 열 반환
+    public int colOf(int index) {
+        return index % cols;
+    }
+
+    // isValidCell // 유효한 셀인지 확인 // 행과 열 범위 내인지 확인
+    public boolean isValidCell(int row, int col) {
+        return row >= 0 && row < rows && col >= 0 && col < cols;
+    }
+
+    // isMine // 지뢰 여부 확인
+    public boolean isMine(int index) {
+        return getBit(mines, index);
+    }
+
+    // setMine // 지뢰 여부 설정 // 전체 지뢰 수 및 주변 3x3 인접 지뢰 수를 +1/-1로 갱신
+    public void setMine(int index, boolean mine) {
+        if (getBit(mines, index) == mine) return;
+        setBit(mines, index, mine);
+        int delta = mine ? 1 : -1;
+        mineCount += delta;
+        if (!isRevealed(index)) {
+            remainingSafeCells -= delta;
+        }
+        updateAdjacentMines(index, delta);
+    }
+
+    // setMineDeferred // 지뢰 추가 // 지뢰 수와 남은 안전 셀 수만 갱신하고 인접 지뢰 수는 그대로 둠
+    // 지뢰를 한꺼번에 많이 배치할 때 사용하며, 끝나면 calculateAdjacentMines를 호출해야 함
+    void setMineDeferred(int index) {
+        if (getBit(mines, index)) return;
+        setBit(mines, index, true);
+        mineCount++;
+        if (!isRevealed(index)) {
+            remainingSafeCells--;
+        }
+    }
+
+    // moveMine // 지뢰 이동 // 두 위치의 3x3 이웃만 갱신
+    public void moveMine(int from, int to) {
+        setMine(from, false);
+        setMine(to, true);
+    }
+
+    // updateAdjacentMines // 인접 지뢰 수 갱신 // 지정한 셀 주변 이웃들의 인접 지뢰 수에 delta 적용
+    private void updateAdjacentMines(int index, int delta) {
+        int row = index / cols;
+        int col = index - row * cols;
+        int rowStart = Math.max(0, row - 1);
+        int rowEnd = Math.min(rows - 1, row + 1);
+        int colStart = Math.max(0, col - 1);
+        int colEnd = Math.min(cols - 1, col + 1);
+        for (int nRow = rowStart; nRow <= rowEnd; nRow++) {
+            for (int nCol = colStart; nCol <= colEnd; nCol++) {
+                int neighbor = nRow * cols + nCol;
+                if (neighbor != index) {
+                    adjacentMines[neighbor] = (byte) (adjacentMines[neighbor] + delta);
+                }
+            }
+        }
+    }
+
+    // isFlagged // 깃발 여부 확인
+    public boolean isFlagged(int index) {
+        return getBit(flags, index);
+    }
+
+    // setFlagged // 깃발 여부 설정
+    public void setFlagged(int index, boolean flagged) {
+        setBit(flags, index, flagged);
+    }
+
+    // toggleFlag // 깃발 토글 // 공개되지 않은 셀만 변경, 변경 여부 반환
+    public boolean toggleFlag(int index) {
+        if (isRevealed(index)) return false;
+        setBit(flags, index, !isFlagged(index));
+        return true;
+    }
+
+    // isRevealed // 공개 여부 확인
+    public boolean isRevealed(int index) {
+        return getBit(revealed, index);
+    }
+
+    // setRevealed // 공개 여부 설정 // 남은 안전 셀 수 갱신
+    public void setRevealed(int index, boolean value) {
+        if (getBit(revealed, index) == value) return;
+        setBit(revealed, index, value);
+        if (!isMine(index)) {
+            remainingSafeCells += value ? -1 : 1;
+        }
+    }
+
+    // getAdjacentMines // 인접 지뢰 수 반환
+    public int getAdjacentMines(int index) {
+        return adjacentMines[index];
+    }
+
+    // setAdjacentMines // 인접 지뢰 수 설정
+    public void setAdjacentMines(int index, int count) {
+        adjacentMines[index] = (byte) count;
+    }
+
+    // getMineCount // 배치된 지뢰 수 반환
+    public int getMineCount() {
+        return mineCount;
+    }
+
+    // getRemainingSafeCells // 공개되지 않은 안전 셀 수 반환
+    public int getRemainingSafeCells() {
+        return remainingSafeCells;
+    }
+
+    // isCleared // 승리 조건 확인 // 모든 안전 셀이 공개되었는지 상수 시간에 확인
+    public boolean isCleared() {
+        return remainingSafeCells == 0;
+    }
+
+    // calculateAdjacentMines // 인접 지뢰 수 계산 // 전체 셀의 인접 지뢰 수를 처음부터 다시 설정
+    // 지뢰 비트셋에서 64셀씩 워드 단위로 세고 큰 보드는 행 구간별로 병렬 계산 (AdjacencyKernel)
+    public void calculateAdjacentMines() {
+        AdjacencyKernel.compute(mines, rows, cols, adjacentMines);
+    }
+
+    // countAdjacentMines // 인접 지뢰 수 세기 // 인접 셀의 지뢰 수 계산
+    public int countAdjacentMines(int row, int col) {
+        int count = 0;
+        int rowStart = Math.max(0, row - 1);
+        int rowEnd = Math.min(rows - 1, row + 1);
+        int colStart = Math.max(0, col - 1);
+        int colEnd = Math.min(cols - 1, col + 1);
+        for (int nRow = rowStart; nRow <= rowEnd; nRow++) {
+            for (int nCol = colStart; nCol <= colEnd; nCol++) {
+                if ((nRow != row || nCol != col) && getBit(mines, nRow * cols + nCol)) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    // clear // 보드 초기화 // 지뢰, 깃발, 공개 상태와 인접 지뢰 수를 모두 비움
+    public void clear() {
+        Arrays.fill(flags, 0L);
+        Arrays.fill(revealed, 0L);
+        clearMines();
+    }
+
+    // clearMines // 지뢰만 제거 // 깃발과 공개 상태는 유지하고 남은 안전 셀 수 재계산
+    public void clearMines() {
+        Arrays.fill(mines, 0L);
+        Arrays.fill(adjacentMines, (byte) 0);
+        mineCount = 0;
+        int revealedCount = 0;
+        for (long word : revealed) {
+            revealedCount += Long.bitCount(word);
+        }
+        remainingSafeCells = size - revealedCount;
+    }
+
+    // copy // 보드 상태 복사본 생성 // 다른 스레드에서 읽을 스냅샷용, 비트셋과 인접 지뢰 수를 통째로 복사
+    public BoardModel copy() {
+        BoardModel copy = new BoardModel(rows, cols);
+        System.arraycopy(mines, 0, copy.mines, 0, mines.length);
+        System.arraycopy(flags, 0, copy.flags, 0, flags.length);
+        System.arraycopy(revealed, 0, copy.revealed, 0, revealed.length);
+        System.arraycopy(adjacentMines, 0, copy.adjacentMines, 0, size);
+        copy.mineCount = mineCount;
+        copy.remainingSafeCells = remainingSafeCells;
+        return copy;
+    }
+
+    // mineBits // 지뢰 비트셋 반환 // 워드 단위 연산용
+    long[] mineBits() {
+        return mines;
+    }
+
+    // flagBits // 깃발 비트셋 반환 // 워드 단위 연산용
+    long[] flagBits() {
+        return flags;
+    }
+
+    // revealedBits // 공개 비트셋 반환 // 워드 단위 연산용
+    long[] revealedBits() {
+        return revealed;
+    }
+
+    // setBits // 비트 평면으로 전체 상태 교체 // 지뢰 수, 남은 안전 셀 수, 인접 지뢰 수를 다시 계산
+    void setBits(long[] mineBits, long[] flagBits, long[] revealedBits) {
+        System.arraycopy(mineBits, 0, mines, 0, mines.length);
+        System.arraycopy(flagBits, 0, flags, 0, flags.length);
+        System.arraycopy(revealedBits, 0, revealed, 0, revealed.length);
+        mineCount = 0;
+        int revealedSafe = 0;
+        for (int word = 0; word < mines.length; word++) {
+            mineCount += Long.bitCount(mines[word]);
+            revealedSafe += Long.bitCount(revealed[word] & ~mines[word]);
+        }
+        remainingSafeCells = size - mineCount - revealedSafe;
+        calculateAdjacentMines();
+    }
+
+    // flipRevealed // 공개 비트를 워드 단위로 뒤집기 // 남은 안전 셀 수는 바뀐 비트만 세어 갱신
+    void flipRevealed(int word, long mask) {
+        long old = revealed[word];
+        long safe = mask & ~mines[word];
+        remainingSafeCells += Long.bitCount(safe & old) - Long.bitCount(safe & ~old);
+        revealed[word] = old ^ mask;
+    }
+
+    // flipFlags // 깃발 비트를 워드 단위로 뒤집기
+    void flipFlags(int word, long mask) {
+        flags[word] ^= mask;
+    }
+
+    // getBit // 비트셋에서 비트 조회
+    static boolean getBit(long[] bits, int index) {
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    // setBit // 비트셋에서 비트 설정 또는 해제
+    static void setBit(long[] bits, int index, boolean value) {
+        if (value) {
+            bits[index >>> 6] |= 1L << index;
+        } else {
+            bits[index >>> 6] &= ~(1L << index);
+        }
+    }
+}
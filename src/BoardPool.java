@@ -0,0 +1,119 @@
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public class BoardPool {
+    private static final Logger LOGGER = Logger.getLogger(BoardPool.class.getName());
+    private static final long MAX_POOLED_CELLS = 4_000_000L;
+    private final ExecutorService executor;
+    private final int capacity;
+    private final Map<String, Queue<Entry>> pools = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> pending = new ConcurrentHashMap<>();
+
+    // BoardPool 생성자 // 난이도별로 미리 생성한 보드를 보관 // 보충은 executor에서 비동기로 수행
+    public BoardPool(ExecutorService executor, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Invalid pool capacity: " + capacity);
+        }
+        this.executor = executor;
+        this.capacity = capacity;
+    }
+
+    // prefill // 해당 크기의 보드를 목표 개수까지 비동기로 생성
+    public void prefill(int rows, int cols, int mines) {
+        refill(key(rows, cols, mines), rows, cols, mines);
+    }
+
+    // take // 미리 생성한 보드를 O(1)로 꺼냄 // 비어 있으면 즉시 생성하고 보충 예약
+    public Entry take(int rows, int cols, int mines) {
+        String key = key(rows, cols, mines);
+        Entry entry = queue(key).poll();
+        refill(key, rows, cols, mines);
+        return entry != null ? entry : generate(rows, cols, mines);
+    }
+
+    // size // 해당 크기로 준비된 보드 수 반환
+    public int size(int rows, int cols, int mines) {
+        return queue(key(rows, cols, mines)).size();
+    }
+
+    // refill // 준비된 보드와 생성 중인 보드를 합쳐 목표 개수가 되도록 생성 작업 예약
+    private void refill(String key, int rows, int cols, int mines) {
+        int target = targetSize(rows, cols);
+        Queue<Entry> queue = queue(key);
+        AtomicInteger inFlight = pending.computeIfAbsent(key, k -> new AtomicInteger());
+        while (queue.size() + inFlight.get() < target) {
+            inFlight.incrementAndGet();
+            try {
+                executor.execute(() -> {
+                    try {
+                        queue.offer(generate(rows, cols, mines));
+                    } catch (RuntimeException e) {
+                        LOGGER.log(Level.WARNING, "Failed to pre-generate board " + key, e);
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                inFlight.decrementAndGet();
+                return;
+            }
+        }
+    }
+
+    // targetSize // 보관할 보드 수 // 큰 보드는 메모리 한도에 맞춰 줄임
+    private int targetSize(int rows, int cols) {
+        long cells = (long) rows * cols;
+        return (int) Math.max(1, Math.min(capacity, MAX_POOLED_CELLS / cells));
+    }
+
+    // queue // 크기별 보드 큐 반환
+    private Queue<Entry> queue(String key) {
+        return pools.computeIfAbsent(key, k -> new ConcurrentLinkedQueue<>());
+    }
+
+    // key // 보드 크기와 지뢰 수로 풀 키 생성
+    private static String key(int rows, int cols, int mines) {
+        return rows + "x" + cols + ":" + mines;
+    }
+
+    // generate // 새 시드로 보드를 만들고 지뢰 배치
+    private static Entry generate(int rows, int cols, int mines) {
+        return generate(rows, cols, mines, MinePlacer.newSeed());
+    }
+
+    // generate // 주어진 시드로 보드를 만들고 지뢰 배치
+    public static Entry generate(int rows, int cols, int mines, long seed) {
+        BoardModel model = new BoardModel(rows, cols);
+        MinePlacer placer = new MinePlacer(seed);
+        placer.placeMines(model, mines, new int[0]);
+        return new Entry(model, placer);
+    }
+
+    public static class Entry {
+        private final BoardModel model;
+        private final MinePlacer placer;
+
+        // Entry 생성자 // 지뢰가 배치된 모델과 이어서 재배치에 쓸 배치기 보관
+        public Entry(BoardModel model, MinePlacer placer) {
+            this.model = model;
+            this.placer = placer;
+        }
+
+        // getModel // 지뢰가 배치된 보드 모델 반환
+        public BoardModel getModel() {
+            return model;
+        }
+
+        // getPlacer // 배치에 사용한 배치기 반환 // 첫 클릭 재배치가 같은 난수 흐름을 이어서 사용
+        public MinePlacer getPlacer() {
+            return placer;
+        }
+    }
+}
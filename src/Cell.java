@@ -8,12 +8,10 @@ import java.awt.Font;
 
 public class Cell extends JButton {
     private static final long serialVersionUID = 1L;
+    private final BoardModel model;
     private final int row;
     private final int col;
-    private boolean isMine;
-    private boolean isFlagged;
-    private boolean isRevealed;
-    private int adjacentMines;
+    private final int index;
     private static final Color REVEALED_COLOR = new Color(211, 211, 211);
     private static final Map<Integer, Color> NUMBER_COLORS = GameResources.NUMBER_COLORS;
     private static final Color UNREVEALED_COLOR = Color.WHITE; 
@@ -24,14 +22,12 @@ public class Cell extends JButton {
     private static final Color HOVER_COLOR = new Color(230, 230, 230);
 
     // Cell constructor
-    // Initializes the cell with default properties and sets up the UI
-    public Cell(int row, int col) {
+    // Initializes the cell as a view over the board model and sets up the UI
+    public Cell(BoardModel model, int row, int col) {
+        this.model = model;
         this.row = row;
         this.col = col;
-        this.isMine = false;
-        this.isFlagged = false;
-        this.isRevealed = false;
-        this.adjacentMines = 0;
+        this.index = model.index(row, col);
         
         setMargin(new Insets(0, 0, 0, 0));
         setFocusPainted(false);
@@ -47,12 +43,12 @@ public class Cell extends JButton {
 
         addMouseListener(new java.awt.event.MouseAdapter() {
             public void mouseEntered(java.awt.event.MouseEvent evt) {
-                if (!isRevealed && !isFlagged) {
+                if (!isRevealed() && !isFlagged()) {
                     setBackground(HOVER_COLOR);
                 }
             }
             public void mouseExited(java.awt.event.MouseEvent evt) {
-                if (!isRevealed && !isFlagged) {
+                if (!isRevealed() && !isFlagged()) {
                     setBackground(currentColor);
                 }
             }
@@ -71,37 +67,42 @@ public class Cell extends JButton {
         return col;
     }
 
+    // getIndex method
+    // Returns the index of the cell in the board model
+    public int getIndex() {
+        return index;
+    }
+
     // isMine method
     // Checks if the cell contains a mine
     public boolean isMine() {
-        return isMine;
+        return model.isMine(index);
     }
 
     // setMine method
     // Sets the mine status of the cell
     public void setMine(boolean isMine) {
-        this.isMine = isMine;
+        model.setMine(index, isMine);
     }
 
     // isFlagged method
     // Checks if the cell is flagged
     public boolean isFlagged() {
-        return isFlagged;
+        return model.isFlagged(index);
     }
 
     // setFlagged method
     // Flags or unflags the cell and updates the UI
     public void setFlagged(boolean flagged) {
-        isFlagged = flagged;
-        setText(isFlagged ? "🚩" : "");
+        model.setFlagged(index, flagged);
+        setText(flagged ? "🚩" : "");
     }
 
     // toggleFlag method
     // Toggles the flagged status of the cell and updates the UI
     public void toggleFlag() {
-        if (!isRevealed) {
-            isFlagged = !isFlagged;
-            setText(isFlagged ? "🚩" : "");
+        if (model.toggleFlag(index)) {
+            setText(isFlagged() ? "🚩" : "");
             setFont(EMOJI_FONT);
         }
     }
@@ -109,14 +110,16 @@ public class Cell extends JButton {
     // isRevealed method
     // Checks if the cell is revealed
     public boolean isRevealed() {
-        return isRevealed;
+        return model.isRevealed(index);
     }
 
     // setRevealed method
     // Reveals the cell and updates the UI based on its content
     public void setRevealed(boolean revealed) {
-        isRevealed = revealed;
-        if (isRevealed) {
+        model.setRevealed(index, revealed);
+        if (revealed) {
+            boolean isMine = isMine();
+            int adjacentMines = getAdjacentMines();
             setBackground(isMine ? MINE_COLOR : REVEALED_COLOR); 
             if (isMine) {
                 setFont(EMOJI_FONT);
@@ -134,48 +137,69 @@ public class Cell extends JButton {
     // reveal method
     // Reveals the cell with a custom color and updates the UI based on its content
     public void reveal(Color customColor) {
-        if (!isRevealed && !isFlagged) {
-            isRevealed = true;
-            if (isMine) {
-                setBackground(MINE_COLOR); 
-            } else {
-                setBackground(REVEALED_COLOR); 
-            }
-            
-            if (isMine) {
-                setFont(EMOJI_FONT);
-                setText("💣");
-                setForeground(Color.BLACK);
+        if (!isRevealed() && !isFlagged()) {
+            model.setRevealed(index, true);
+            showRevealed();
+        }
+    }
+
+    // showRevealed method
+    // Updates the UI of a cell that has already been revealed in the board model
+    public void showRevealed() {
+        boolean isMine = isMine();
+        int adjacentMines = getAdjacentMines();
+        if (isMine) {
+            setBackground(MINE_COLOR); 
+        } else {
+            setBackground(REVEALED_COLOR); 
+        }
+        
+        if (isMine) {
+            setFont(EMOJI_FONT);
+            setText("💣");
+            setForeground(Color.BLACK);
+        } else {
+            setFont(NUMBER_FONT);
+            if (adjacentMines > 0) {
+                setText(String.valueOf(adjacentMines));
+                setForeground(NUMBER_COLORS.getOrDefault(adjacentMines, Color.BLACK));
             } else {
-                setFont(NUMBER_FONT);
-                if (adjacentMines > 0) {
-                    setText(String.valueOf(adjacentMines));
-                    setForeground(NUMBER_COLORS.getOrDefault(adjacentMines, Color.BLACK));
-                } else {
-                    setText("");
-                }
+                setText("");
             }
-            setBorder(BorderFactory.createLineBorder(REVEALED_COLOR, 1)); 
-            setOpaque(true);
+        }
+        setBorder(BorderFactory.createLineBorder(REVEALED_COLOR, 1)); 
+        setOpaque(true);
+    }
+
+    // refresh method
+    // Updates the UI to match the current state of the board model
+    public void refresh() {
+        if (isRevealed()) {
+            showRevealed();
+        } else {
+            setFont(EMOJI_FONT);
+            setText(isFlagged() ? "🚩" : "");
+            setBackground(currentColor);
+            setBorder(BorderFactory.createRaisedBevelBorder());
         }
     }
 
     // getAdjacentMines method
     // Returns the number of adjacent mines
     public int getAdjacentMines() {
-        return adjacentMines;
+        return model.getAdjacentMines(index);
     }
 
     // setAdjacentMines method
     // Sets the number of adjacent mines
     public void setAdjacentMines(int adjacentMines) {
-        this.adjacentMines = adjacentMines;
+        model.setAdjacentMines(index, adjacentMines);
     }
 
     // setCellColor method
     // Sets the background color of the cell if it is not revealed
     public void setCellColor(Color color) {
-        if (!isRevealed) {
+        if (!isRevealed()) {
             currentColor = color;
             setBackground(currentColor);
         }
@@ -184,7 +208,7 @@ public class Cell extends JButton {
     // revealMine method
     // Reveals the mine in the cell if it is not flagged
     public void revealMine() {
-        if (isMine && !isFlagged) {
+        if (isMine() && !isFlagged()) {
             setBackground(MINE_COLOR); 
             setText("💣");
             setForeground(Color.BLACK);
@@ -194,7 +218,7 @@ public class Cell extends JButton {
     // markWrongFlag method
     // Marks the cell with a wrong flag indication if it is flagged but not a mine
     public void markWrongFlag() {
-        if (isFlagged && !isMine) {
+        if (isFlagged() && !isMine()) {
             setText("❌");
             setForeground(Color.RED);
         }
@@ -0,0 +1,313 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+public class ChunkedBoard {
+    private static final Logger LOGGER = Logger.getLogger(ChunkedBoard.class.getName());
+    public static final int CHUNK_SHIFT = 5;
+    public static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    // 청크 하나의 대략적인 메모리 크기 // 비트 평면 3개 + 인접 지뢰 수 + 객체 오버헤드
+    static final long CHUNK_BYTES = 3L * (CHUNK_SIZE * CHUNK_SIZE / 64) * Long.BYTES + CHUNK_SIZE * CHUNK_SIZE + 256;
+    // 공개 중 청크를 하나 잡은 채 이웃 청크를 읽어도 밀려나지 않도록 하는 최소 청크 수
+    private static final int MIN_CACHED_CHUNKS = 16;
+    private static final int MAX_FLOOD_CELLS = 1 << 20;
+    private static final int DENSITY_SCALE = 1 << 16;
+    private final long seed;
+    private final int mineThreshold;
+    private final Path directory;
+    private final int maxChunks;
+    private final Map<Long, BoardModel> chunks;
+    private final Set<Long> dirty = new HashSet<>();
+    private long[] queue = new long[256];
+    private long revealedCells;
+    private boolean mineRevealed;
+    private long chunksGenerated;
+    private long chunksLoaded;
+    private long chunksWritten;
+
+    // ChunkedBoard 생성자 // 끝없는 보드 초기화 // 청크는 처음 접근할 때 seed와 청크 좌표로 생성
+    // 메모리 예산을 넘으면 가장 오래 쓰지 않은 청크부터 내보내고, 바뀐 청크만 directory에 파일로 저장
+    // (0, 0) 주변 3x3에는 지뢰를 두지 않아 첫 공개가 항상 열림
+    public ChunkedBoard(long seed, double density, Path directory, long memoryBudgetBytes) {
+        if (density <= 0 || density >= 1) {
+            throw new IllegalArgumentException("Invalid mine density: " + density);
+        }
+        this.seed = seed;
+        this.mineThreshold = (int) Math.round(density * DENSITY_SCALE);
+        this.directory = directory;
+        this.maxChunks = (int) Math.max(MIN_CACHED_CHUNKS, Math.min(Integer.MAX_VALUE, memoryBudgetBytes / CHUNK_BYTES));
+        this.chunks = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, BoardModel> eldest) {
+                return size() > maxChunks && evict(eldest.getKey(), eldest.getValue());
+            }
+        };
+    }
+
+    // getSeed // 월드 시드 반환
+    public long getSeed() {
+        return seed;
+    }
+
+    // isMine // 지뢰 여부 확인 // 좌표는 (0, 0)을 기준으로 음수도 가능
+    public boolean isMine(int x, int y) {
+        return chunk(x, y).isMine(localIndex(x, y));
+    }
+
+    // isRevealed // 공개 여부 확인
+    public boolean isRevealed(int x, int y) {
+        return chunk(x, y).isRevealed(localIndex(x, y));
+    }
+
+    // isFlagged // 깃발 여부 확인
+    public boolean isFlagged(int x, int y) {
+        return chunk(x, y).isFlagged(localIndex(x, y));
+    }
+
+    // getAdjacentMines // 인접 지뢰 수 반환 // 청크 안쪽 셀은 청크의 값, 경계 셀은 이웃 청크까지 직접 셈
+    public int getAdjacentMines(int x, int y) {
+        int localX = x & CHUNK_MASK;
+        int localY = y & CHUNK_MASK;
+        if (localX > 0 && localX < CHUNK_MASK && localY > 0 && localY < CHUNK_MASK) {
+            return chunk(x, y).getAdjacentMines(localIndex(x, y));
+        }
+        int count = 0;
+        for (int dy = -1; dy <= 1; dy++) {
+            for (int dx = -1; dx <= 1; dx++) {
+                if ((dx != 0 || dy != 0) && isMine(x + dx, y + dy)) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    // toggleFlag // 깃발 토글 // 공개되지 않은 셀만 변경, 변경 여부 반환
+    public boolean toggleFlag(int x, int y) {
+        BoardModel chunk = chunk(x, y);
+        if (!chunk.toggleFlag(localIndex(x, y))) {
+            return false;
+        }
+        dirty.add(key(x >> CHUNK_SHIFT, y >> CHUNK_SHIFT));
+        return true;
+    }
+
+    // reveal // 셀 공개 // 인접 지뢰가 없으면 청크 경계를 넘어 반복 공개, 새로 공개한 셀 수 반환
+    // 지뢰를 공개하면 -1 // 한 번에 MAX_FLOOD_CELLS개까지만 공개
+    // 한도에서 멈춰 숨은 이웃이 남은 빈 칸은 이미 공개되어 있어도 누르면 그 이웃부터 이어서 공개
+    public int reveal(int x, int y) {
+        if (isFlagged(x, y)) {
+            return 0;
+        }
+        if (isRevealed(x, y)) {
+            return getAdjacentMines(x, y) == 0 ? flood(x, y, 0) : 0;
+        }
+        if (isMine(x, y)) {
+            setRevealed(x, y);
+            mineRevealed = true;
+            return -1;
+        }
+        setRevealed(x, y);
+        return flood(x, y, 1);
+    }
+
+    // flood // 공개된 셀에서 시작해 인접 지뢰가 없는 셀의 숨은 이웃을 차례로 공개
+    // revealed는 이미 센 공개 셀 수 // 합계가 MAX_FLOOD_CELLS에 이르면 멈추고 합계 반환
+    private int flood(int x, int y, int revealed) {
+        int tail = 0;
+        int count = revealed;
+        queue[tail++] = pack(x, y);
+        for (int head = 0; head < tail && count < MAX_FLOOD_CELLS; head++) {
+            int cellX = (int) (queue[head] >> 32);
+            int cellY = (int) queue[head];
+            if (getAdjacentMines(cellX, cellY) != 0) continue;
+            for (int dy = -1; dy <= 1; dy++) {
+                for (int dx = -1; dx <= 1; dx++) {
+                    int nx = cellX + dx;
+                    int ny = cellY + dy;
+                    if (count >= MAX_FLOOD_CELLS || isRevealed(nx, ny) || isFlagged(nx, ny)) continue;
+                    setRevealed(nx, ny);
+                    count++;
+                    if (tail == queue.length) {
+                        queue = Arrays.copyOf(queue, tail * 2);
+                    }
+                    queue[tail++] = pack(nx, ny);
+                }
+            }
+        }
+        revealedCells += count;
+        return count;
+    }
+
+    // setRevealed // 공개 표시 // 값을 바꾸기 직전에 청크를 다시 가져와 밀려난 청크를 고치지 않음
+    private void setRevealed(int x, int y) {
+        chunk(x, y).setRevealed(localIndex(x, y), true);
+        dirty.add(key(x >> CHUNK_SHIFT, y >> CHUNK_SHIFT));
+    }
+
+    // isMineRevealed // 지뢰를 공개했는지 확인 // 끝없는 모드의 게임 오버 조건
+    public boolean isMineRevealed() {
+        return mineRevealed;
+    }
+
+    // getRevealedCells // 지금까지 공개한 안전한 셀 수 반환 // 점수로 사용
+    public long getRevealedCells() {
+        return revealedCells;
+    }
+
+    // getCachedChunks // 메모리에 있는 청크 수 반환
+    public int getCachedChunks() {
+        return chunks.size();
+    }
+
+    // getMaxChunks // 메모리 예산으로 정한 최대 청크 수 반환
+    public int getMaxChunks() {
+        return maxChunks;
+    }
+
+    // getChunksGenerated // 시드에서 새로 만든 청크 수 반환
+    public long getChunksGenerated() {
+        return chunksGenerated;
+    }
+
+    // getChunksLoaded // 청크 파일에서 다시 읽은 청크 수 반환
+    public long getChunksLoaded() {
+        return chunksLoaded;
+    }
+
+    // getChunksWritten // 청크 파일로 내보낸 청크 수 반환
+    public long getChunksWritten() {
+        return chunksWritten;
+    }
+
+    // chunk // 좌표가 속한 청크 반환 // 캐시에 없으면 파일에서 읽거나 시드로 생성
+    private BoardModel chunk(int x, int y) {
+        int chunkX = x >> CHUNK_SHIFT;
+        int chunkY = y >> CHUNK_SHIFT;
+        long key = key(chunkX, chunkY);
+        BoardModel chunk = chunks.get(key);
+        if (chunk == null) {
+            chunk = load(chunkX, chunkY);
+            chunks.put(key, chunk);
+        }
+        return chunk;
+    }
+
+    // load // 저장된 청크 파일이 있으면 읽고 없으면 생성
+    private BoardModel load(int chunkX, int chunkY) {
+        Path path = chunkPath(chunkX, chunkY);
+        if (Files.exists(path)) {
+            try {
+                BoardModel chunk = BoardFile.load(path);
+                if (chunk.getRows() == CHUNK_SIZE && chunk.getCols() == CHUNK_SIZE) {
+                    chunksLoaded++;
+                    return chunk;
+                }
+                LOGGER.warning("Ignoring chunk file with wrong size " + path);
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "Failed to load chunk " + path + ", regenerating", e);
+            }
+        }
+        chunksGenerated++;
+        return generate(chunkX, chunkY);
+    }
+
+    // generate // 월드 시드와 청크 좌표로 지뢰 배치 // 같은 좌표는 항상 같은 청크가 됨
+    BoardModel generate(int chunkX, int chunkY) {
+        SplittableRandom random = new SplittableRandom(seed ^ (chunkX * 0x9E3779B97F4A7C15L) ^ (chunkY * 0xC2B2AE3D27D4EB4FL));
+        BoardModel chunk = new BoardModel(CHUNK_SIZE, CHUNK_SIZE);
+        long[] mines = new long[CHUNK_SIZE * CHUNK_SIZE / 64];
+        for (int localY = 0; localY < CHUNK_SIZE; localY++) {
+            for (int localX = 0; localX < CHUNK_SIZE; localX++) {
+                boolean mine = random.nextInt(DENSITY_SCALE) < mineThreshold;
+                int x = (chunkX << CHUNK_SHIFT) + localX;
+                int y = (chunkY << CHUNK_SHIFT) + localY;
+                if (mine && (Math.abs(x) > 1 || Math.abs(y) > 1)) {
+                    BoardModel.setBit(mines, localY * CHUNK_SIZE + localX, true);
+                }
+            }
+        }
+        chunk.setBits(mines, new long[mines.length], new long[mines.length]);
+        return chunk;
+    }
+
+    // evict // 캐시에서 밀려나는 청크 처리 // 바뀐 청크는 파일로 저장, 저장에 실패하면 캐시에 남김
+    private boolean evict(long key, BoardModel chunk) {
+        if (!dirty.contains(key)) {
+            return true;
+        }
+        try {
+            write(key, chunk);
+            dirty.remove(key);
+            return true;
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Failed to write chunk " + key + ", keeping it in memory", e);
+            return false;
+        }
+    }
+
+    // write // 청크를 BoardFile 형식으로 저장 // 게임 중에만 쓰는 임시 저장이므로 fsync는 하지 않음
+    private void write(long key, BoardModel chunk) throws IOException {
+        Files.createDirectories(directory);
+        ByteBuffer buffer = BoardFile.encode(chunk, true);
+        Files.write(chunkPath((int) (key >> 32), (int) key),
+                Arrays.copyOfRange(buffer.array(), buffer.position(), buffer.limit()));
+        chunksWritten++;
+    }
+
+    // flush // 캐시에 있는 바뀐 청크를 모두 파일로 저장
+    public void flush() throws IOException {
+        Iterator<Long> iterator = dirty.iterator();
+        while (iterator.hasNext()) {
+            long key = iterator.next();
+            write(key, chunks.get(key));
+            iterator.remove();
+        }
+    }
+
+    // delete // 캐시를 비우고 이 월드의 청크 파일을 모두 삭제 // 게임이 끝난 뒤 호출
+    public void delete() {
+        chunks.clear();
+        dirty.clear();
+        if (!Files.isDirectory(directory)) return;
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.deleteIfExists(file);
+            }
+            Files.deleteIfExists(directory);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to delete chunk directory " + directory, e);
+        }
+    }
+
+    // chunkPath // 청크 파일 경로 // <청크 X>_<청크 Y>.bin
+    private Path chunkPath(int chunkX, int chunkY) {
+        return directory.resolve(chunkX + "_" + chunkY + ".bin");
+    }
+
+    private static int localIndex(int x, int y) {
+        return (y & CHUNK_MASK) * CHUNK_SIZE + (x & CHUNK_MASK);
+    }
+
+    private static long key(int chunkX, int chunkY) {
+        return ((long) chunkX << 32) | (chunkY & 0xFFFFFFFFL);
+    }
+
+    private static long pack(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+}
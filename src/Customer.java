@@ -12,7 +12,8 @@ public class Customer {
     private String customerId;
     private String passwordHash;
     private String salt;
-    private int mileage;
+    // Changed under the manager's per-customer lock, read without it (e.g. the mileage display)
+    private volatile int mileage;
     private List<MileageRecord> mileageRecords;
     private Set<String> purchasedColors; 
     private int winStreak;
@@ -104,6 +105,22 @@ public class Customer {
         return false;
     }
 
+    // applyRecord
+    // Applies an existing mileage record without re-validating it.
+    // Used when replaying the mileage log, where the record was already accepted.
+    void applyRecord(MileageRecord record) {
+        mileage += record.isCredit() ? record.getAmount() : -record.getAmount();
+        mileageRecords.add(record);
+    }
+
+    // restore
+    // Sets the saved balance and record history as they were stored, without re-applying the records.
+    // Used by stores that keep the balance apart from the history.
+    void restore(int mileage, List<MileageRecord> records) {
+        this.mileage = mileage;
+        mileageRecords.addAll(records);
+    }
+
     // addPurchasedColor
     // Adds the specified color to the set of purchased colors.
     public void addPurchasedColor(String colorName) {
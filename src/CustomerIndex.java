@@ -0,0 +1,389 @@
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+public class CustomerIndex {
+    private static final Logger LOGGER = Logger.getLogger(CustomerIndex.class.getName());
+    private static final int MAGIC = 0x4D534958; // "MSIX"
+    private static final byte VERSION = 1;
+    private static final int HEADER_BYTES = 4 + 1 + 8 + 8 + 4;
+    private static final int SLOT_BYTES = 64;
+    // 슬롯: byte 고객번호 길이, 고객번호 UTF-8(0으로 채움), long 위치, int 길이
+    private static final int MAX_ID_BYTES = SLOT_BYTES - 1 - 8 - 4;
+    private static final int FOREACH_SLOTS = 1024;
+    static final String SEPARATOR = "======================================";
+    private static final byte[] SEPARATOR_BYTES = SEPARATOR.getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ID_PREFIX = "고객번호: ".getBytes(StandardCharsets.UTF_8);
+    private static final String ID_SUFFIX = " || ";
+
+    // 색인 형식 (빅 엔디언)
+    //   헤더: int magic "MSIX", byte version, long 세대, long 스냅숏 파일 크기, int 슬롯 수
+    //   슬롯: 고객번호 바이트 순으로 정렬된 64바이트 고정 크기 // 이진 탐색으로 찾으므로 메모리에 올리지 않음
+    //   뒤이어 슬롯에 들어가지 않는 긴 고객번호: UTF 고객번호, long 위치, int 길이 // 드물기 때문에 열 때 메모리에 올림
+    // 세대나 스냅숏 크기가 맞지 않으면 스냅숏을 한 번 훑어 다시 만듦
+
+    private final FileChannel channel;
+    private final long snapshotSize;
+    private final int count;
+    private final Map<String, Location> overflow;
+
+    // CustomerIndex 생성자 // 열린 색인 파일로 초기화
+    private CustomerIndex(FileChannel channel, long snapshotSize, int count, Map<String, Location> overflow) {
+        this.channel = channel;
+        this.snapshotSize = snapshotSize;
+        this.count = count;
+        this.overflow = overflow;
+    }
+
+    // open // 스냅숏의 색인 열기 // 세대와 크기가 맞지 않거나 읽을 수 없으면 스냅숏을 훑어 다시 만듦
+    public static CustomerIndex open(Path indexPath, Path snapshotPath, long generation) throws IOException {
+        long snapshotSize = Files.size(snapshotPath);
+        CustomerIndex index = read(indexPath, generation);
+        if (index != null && index.snapshotSize == snapshotSize) {
+            return index;
+        }
+        if (index != null) {
+            index.close();
+        }
+        if (Files.exists(indexPath)) {
+            LOGGER.info("Customer index " + indexPath + " is stale, rebuilding");
+        }
+        List<Entry> entries = new java.util.ArrayList<>();
+        scan(snapshotPath, (customerId, offset, length, block) -> entries.add(new Entry(customerId, offset, length)),
+                false);
+        return write(indexPath, generation, snapshotSize, entries);
+    }
+
+    // read // 색인 파일을 그대로 열기 // 없거나 세대가 다르거나 읽을 수 없으면 null
+    public static CustomerIndex read(Path indexPath, long generation) throws IOException {
+        if (!Files.exists(indexPath)) {
+            return null;
+        }
+        FileChannel channel = FileChannel.open(indexPath, StandardOpenOption.READ);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        while (header.hasRemaining() && channel.read(header) >= 0) {
+            // 헤더 끝까지 읽기
+        }
+        header.flip();
+        if (header.remaining() == HEADER_BYTES && header.getInt() == MAGIC && header.get() == VERSION
+                && header.getLong() == generation) {
+            long snapshotSize = header.getLong();
+            int count = header.getInt();
+            long slots = HEADER_BYTES + (long) count * SLOT_BYTES;
+            if (channel.size() >= slots) {
+                Map<String, Location> overflow = readOverflow(channel, slots);
+                if (overflow != null) {
+                    return new CustomerIndex(channel, snapshotSize, count, overflow);
+                }
+            }
+        }
+        channel.close();
+        return null;
+    }
+
+    // readOverflow // 슬롯 뒤에 붙은 긴 고객번호 목록 읽기 // 잘렸으면 null
+    private static Map<String, Location> readOverflow(FileChannel channel, long position) throws IOException {
+        ByteBuffer trailer = ByteBuffer.allocate((int) (channel.size() - position));
+        while (trailer.hasRemaining() && channel.read(trailer, position + trailer.position()) >= 0) {
+            // 끝까지 읽기
+        }
+        trailer.flip();
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(trailer.array(), 0, trailer.limit()));
+        Map<String, Location> overflow = new HashMap<>();
+        try {
+            while (in.available() > 0) {
+                String customerId = in.readUTF();
+                overflow.put(customerId, new Location(in.readLong(), in.readInt()));
+            }
+        } catch (EOFException e) {
+            return null;
+        }
+        return overflow;
+    }
+
+    // write // 색인 파일 작성 // 임시 파일에 쓰고 원자적으로 교체한 뒤 연 색인 반환
+    public static CustomerIndex write(Path indexPath, long generation, long snapshotSize, List<Entry> entries)
+            throws IOException {
+        Map<String, Location> overflow = new HashMap<>();
+        Entry[] sorted = entries.stream().filter(entry -> {
+            if (entry.id.length <= MAX_ID_BYTES) return true;
+            overflow.put(new String(entry.id, StandardCharsets.UTF_8), entry.location);
+            return false;
+        }).sorted((a, b) -> Arrays.compareUnsigned(a.id, b.id)).toArray(Entry[]::new);
+
+        ByteArrayOutputStream trailer = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(trailer);
+        for (Map.Entry<String, Location> entry : overflow.entrySet()) {
+            out.writeUTF(entry.getKey());
+            out.writeLong(entry.getValue().offset);
+            out.writeInt(entry.getValue().length);
+        }
+
+        Path temp = indexPath.resolveSibling(indexPath.getFileName() + ".tmp");
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + sorted.length * SLOT_BYTES + trailer.size());
+        buffer.putInt(MAGIC).put(VERSION).putLong(generation).putLong(snapshotSize).putInt(sorted.length);
+        for (Entry entry : sorted) {
+            int start = buffer.position();
+            buffer.put((byte) entry.id.length).put(entry.id);
+            buffer.position(start + 1 + MAX_ID_BYTES);
+            buffer.putLong(entry.location.offset).putInt(entry.location.length);
+        }
+        buffer.put(trailer.toByteArray());
+        buffer.flip();
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(temp, indexPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return new CustomerIndex(FileChannel.open(indexPath, StandardOpenOption.READ), snapshotSize, sorted.length, overflow);
+    }
+
+    // find // 고객 블록 위치 찾기 // 정렬된 슬롯을 이진 탐색, 없으면 null
+    public Location find(String customerId) throws IOException {
+        byte[] id = customerId.getBytes(StandardCharsets.UTF_8);
+        if (id.length > MAX_ID_BYTES) {
+            return overflow.get(customerId);
+        }
+        ByteBuffer slot = ByteBuffer.allocate(SLOT_BYTES);
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            readSlot(middle, slot);
+            int length = slot.get(0) & 0xFF;
+            int compare = Arrays.compareUnsigned(slot.array(), 1, 1 + length, id, 0, id.length);
+            if (compare < 0) {
+                low = middle + 1;
+            } else if (compare > 0) {
+                high = middle - 1;
+            } else {
+                return new Location(slot.getLong(1 + MAX_ID_BYTES), slot.getInt(1 + MAX_ID_BYTES + 8));
+            }
+        }
+        return null;
+    }
+
+    // readSlot // 슬롯 하나를 slot 버퍼에 읽기 // 위치 지정 읽기라 여러 스레드가 동시에 찾아도 됨
+    private void readSlot(int index, ByteBuffer slot) throws IOException {
+        slot.clear();
+        long position = HEADER_BYTES + (long) index * SLOT_BYTES;
+        while (slot.hasRemaining()) {
+            if (channel.read(slot, position + slot.position()) < 0) {
+                throw new IOException("Customer index is truncated at slot " + index);
+            }
+        }
+    }
+
+    // forEach // 색인된 모든 위치를 고객번호 순서로 visitor에 전달 // 긴 고객번호는 마지막에 전달
+    // 슬롯을 FOREACH_SLOTS개씩 한 번에 읽음
+    public void forEach(EntryVisitor visitor) throws IOException {
+        ByteBuffer slots = ByteBuffer.allocate(FOREACH_SLOTS * SLOT_BYTES);
+        for (int first = 0; first < count; first += FOREACH_SLOTS) {
+            int batch = Math.min(FOREACH_SLOTS, count - first);
+            slots.clear().limit(batch * SLOT_BYTES);
+            long position = HEADER_BYTES + (long) first * SLOT_BYTES;
+            while (slots.hasRemaining()) {
+                if (channel.read(slots, position + slots.position()) < 0) {
+                    throw new IOException("Customer index is truncated at slot " + first);
+                }
+            }
+            for (int i = 0; i < batch; i++) {
+                int base = i * SLOT_BYTES;
+                int length = slots.get(base) & 0xFF;
+                visitor.visit(new String(slots.array(), base + 1, length, StandardCharsets.UTF_8),
+                        new Location(slots.getLong(base + 1 + MAX_ID_BYTES), slots.getInt(base + 1 + MAX_ID_BYTES + 8)));
+            }
+        }
+        for (Map.Entry<String, Location> entry : overflow.entrySet()) {
+            visitor.visit(entry.getKey(), entry.getValue());
+        }
+    }
+
+    // getSnapshotSize // 색인을 만들 때의 스냅숏 파일 크기 반환 // 이 위치까지의 블록이 색인에 들어 있음
+    public long getSnapshotSize() {
+        return snapshotSize;
+    }
+
+    // size // 색인된 고객 수 반환
+    public int size() {
+        return count + overflow.size();
+    }
+
+    // close // 색인 파일 닫기
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    // scan // 스냅숏을 처음부터 훑어 고객 블록마다 visitor 호출 // 역직렬화하지 않고 구분선과 고객번호 줄만 봄
+    // 블록은 여는 구분선부터 닫는 구분선 줄까지이며, keepBytes가 false면 내용을 모으지 않고 block은 null
+    public static void scan(Path snapshotPath, BlockVisitor visitor, boolean keepBytes) throws IOException {
+        try (InputStream in = Files.newInputStream(snapshotPath)) {
+            LineReader lines = new LineReader(in);
+            ByteArrayOutputStream block = new ByteArrayOutputStream(keepBytes ? 4096 : 0);
+            long position = 0;
+            long separatorStart = -1;
+            long blockStart = -1;
+            String customerId = null;
+            while (lines.next()) {
+                byte[] line = lines.buffer;
+                int offset = lines.offset;
+                int length = lines.length;
+                long lineStart = position;
+                position += length;
+                if (customerId != null) {
+                    if (keepBytes) block.write(line, offset, length);
+                    if (isSeparator(line, offset, length)) {
+                        visitor.visit(customerId, blockStart, (int) (position - blockStart),
+                                keepBytes ? block.toByteArray() : null);
+                        customerId = null;
+                    }
+                } else if (isSeparator(line, offset, length)) {
+                    separatorStart = lineStart;
+                    block.reset();
+                    if (keepBytes) block.write(line, offset, length);
+                } else if (separatorStart >= 0 && startsWith(line, offset, length, ID_PREFIX)) {
+                    customerId = parseId(line, offset, length);
+                    blockStart = separatorStart;
+                    if (keepBytes) block.write(line, offset, length);
+                    separatorStart = -1;
+                } else {
+                    separatorStart = -1;
+                }
+            }
+            if (customerId != null) {
+                // 닫는 구분선 없이 끝난 마지막 블록
+                visitor.visit(customerId, blockStart, (int) (position - blockStart),
+                        keepBytes ? block.toByteArray() : null);
+            }
+        }
+    }
+
+    // isSeparator // 줄바꿈(\n 또는 \r\n)을 뺀 내용이 구분선인지 확인
+    private static boolean isSeparator(byte[] line, int offset, int length) {
+        int end = offset + length;
+        if (end > offset && line[end - 1] == '\n') end--;
+        if (end > offset && line[end - 1] == '\r') end--;
+        return Arrays.equals(line, offset, end, SEPARATOR_BYTES, 0, SEPARATOR_BYTES.length);
+    }
+
+    private static boolean startsWith(byte[] line, int offset, int length, byte[] prefix) {
+        return length >= prefix.length && Arrays.equals(line, offset, offset + prefix.length, prefix, 0, prefix.length);
+    }
+
+    // parseId // "고객번호: <id> || ..." 줄에서 고객번호 추출
+    private static String parseId(byte[] line, int offset, int length) {
+        String text = new String(line, offset + ID_PREFIX.length, length - ID_PREFIX.length, StandardCharsets.UTF_8);
+        int end = text.indexOf(ID_SUFFIX);
+        return end >= 0 ? text.substring(0, end) : text.trim();
+    }
+
+    // LineReader // 버퍼 안에서 줄바꿈을 찾아 줄 단위로 돌려줌 // 줄은 buffer[offset, offset + length), 줄바꿈 포함
+    private static class LineReader {
+        private final InputStream in;
+        private byte[] buffer = new byte[1 << 16];
+        private int start;
+        private int limit;
+        private int offset;
+        private int length;
+
+        LineReader(InputStream in) {
+            this.in = in;
+        }
+
+        // next // 다음 줄로 이동 // 파일 끝이면 false
+        boolean next() throws IOException {
+            int scanned = start;
+            while (true) {
+                for (int i = scanned; i < limit; i++) {
+                    if (buffer[i] == '\n') {
+                        offset = start;
+                        length = i + 1 - start;
+                        start = i + 1;
+                        return true;
+                    }
+                }
+                scanned = limit - start;
+                if (start > 0) {
+                    System.arraycopy(buffer, start, buffer, 0, limit - start);
+                    limit -= start;
+                    start = 0;
+                }
+                if (limit == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                }
+                int read = in.read(buffer, limit, buffer.length - limit);
+                if (read < 0) {
+                    if (start == limit) return false;
+                    offset = start;
+                    length = limit - start;
+                    start = limit;
+                    return true;
+                }
+                limit += read;
+            }
+        }
+    }
+
+    // BlockVisitor // 스냅숏에서 찾은 고객 블록 처리
+    public interface BlockVisitor {
+        void visit(String customerId, long offset, int length, byte[] block) throws IOException;
+    }
+
+    // EntryVisitor // 색인에서 꺼낸 고객번호와 위치 처리
+    public interface EntryVisitor {
+        void visit(String customerId, Location location) throws IOException;
+    }
+
+    // Location // 스냅숏 안의 고객 블록 위치
+    public static class Location {
+        private final long offset;
+        private final int length;
+
+        Location(long offset, int length) {
+            this.offset = offset;
+            this.length = length;
+        }
+
+        public long getOffset() {
+            return offset;
+        }
+
+        public int getLength() {
+            return length;
+        }
+    }
+
+    // Entry // 색인에 넣을 고객번호와 위치
+    public static class Entry {
+        private final byte[] id;
+        private final Location location;
+
+        public Entry(String customerId, long offset, int length) {
+            this(customerId, new Location(offset, length));
+        }
+
+        public Entry(String customerId, Location location) {
+            this.id = customerId.getBytes(StandardCharsets.UTF_8);
+            this.location = location;
+        }
+    }
+}
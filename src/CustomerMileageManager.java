@@ -1,45 +1,131 @@
-import java.io.*;
-import java.util.HashMap;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 
 public class CustomerMileageManager {
     private static CustomerMileageManager instance;
-    private final Map<String, Customer> mileageMap;
-    private final String dataFilePath;
-    private final ReentrantLock lock = new ReentrantLock();
+    // Selects the account store at startup: "text" (default) or "embedded"
+    static final String STORE_PROPERTY = "minesweeper.customerStore";
+    // Group commit: one write and fsync per batch, collected for up to the interval after the first change
+    private static final int DEFAULT_MAX_BATCH_RECORDS = 64;
+    private static final long DEFAULT_COMMIT_INTERVAL_MILLIS = 5;
+    // Customers kept in memory after use; the rest are read back from the store on demand
+    private static final int DEFAULT_MAX_RESIDENT_CUSTOMERS = 1024;
+    // Balance changes lock one stripe chosen by the customer id, so different customers rarely share a lock
+    private static final int LOCK_STRIPES = 256;
+    private final CustomerStore store;
+    // Customers read from the store; lookups of resident customers take no lock
+    private final ConcurrentHashMap<String, Resident> resident = new ConcurrentHashMap<>();
+    private final ReentrantLock[] stripes = new ReentrantLock[LOCK_STRIPES];
+    // Only one thread trims the resident customers at a time; the others keep going
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final int maxResidentCustomers;
+    private final AtomicLong customersLoaded = new AtomicLong();
 
     // getInstance
     // Returns the singleton instance of CustomerMileageManager
     // Initializes the instance if it is null
     public static synchronized CustomerMileageManager getInstance() {
         if (instance == null) {
-            instance = new CustomerMileageManager(GameResources.USER_DATA_FILE);
+            instance = new CustomerMileageManager(openStore(System.getProperty(STORE_PROPERTY, "text")),
+                    DEFAULT_MAX_RESIDENT_CUSTOMERS);
         }
         return instance;
     }
 
+    // openStore
+    // Opens the configured store; the embedded store imports the text file the first time it is used
+    // Falls back to the text file if the embedded store cannot be opened
+    private static CustomerStore openStore(String type) {
+        if ("embedded".equals(type)) {
+            try {
+                return EmbeddedCustomerStore.open(Paths.get(GameResources.USER_DATABASE_FILE),
+                        GameResources.USER_DATA_FILE);
+            } catch (IOException e) {
+                System.out.println("Error opening customer database: " + e.getMessage());
+            }
+        }
+        return new TextCustomerStore(GameResources.USER_DATA_FILE, DEFAULT_MAX_BATCH_RECORDS,
+                DEFAULT_COMMIT_INTERVAL_MILLIS);
+    }
+
     // CustomerMileageManager
-    // Constructor to initialize dataFilePath and load mileage data
+    // Constructor on the text file store at dataFilePath
+    // Replays the write-ahead log (<data file>.wal) on top of the snapshot to rebuild the latest state
     protected CustomerMileageManager(String dataFilePath) {
-        this.dataFilePath = dataFilePath;
-        this.mileageMap = loadData();
+        this(dataFilePath, DEFAULT_MAX_BATCH_RECORDS, DEFAULT_COMMIT_INTERVAL_MILLIS);
+    }
+
+    // CustomerMileageManager
+    // Constructor with group commit settings: at most maxBatchRecords changes per fsync,
+    // waiting up to commitIntervalMillis after the first pending change
+    protected CustomerMileageManager(String dataFilePath, int maxBatchRecords, long commitIntervalMillis) {
+        this(dataFilePath, DEFAULT_MAX_RESIDENT_CUSTOMERS, maxBatchRecords, commitIntervalMillis);
+    }
+
+    // CustomerMileageManager
+    // Constructor that also bounds how many customers stay in memory
+    protected CustomerMileageManager(String dataFilePath, int maxResidentCustomers,
+                                     int maxBatchRecords, long commitIntervalMillis) {
+        this(new TextCustomerStore(dataFilePath, maxBatchRecords, commitIntervalMillis), maxResidentCustomers);
+    }
+
+    // CustomerMileageManager
+    // Constructor on any store; customers are read from it only when first used
+    protected CustomerMileageManager(CustomerStore store, int maxResidentCustomers) {
+        this.store = store;
+        this.maxResidentCustomers = maxResidentCustomers;
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    // lockFor
+    // Returns the lock guarding the customer's balance; every change to one customer holds it
+    private ReentrantLock lockFor(String customerId) {
+        int hash = customerId.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
     }
 
     // registerCustomer
     // Registers a new customer if the customerId is not already in use
-    // Saves the updated mileage data to the file
     public boolean registerCustomer(String name, String customerId, String password) {
+        ReentrantLock lock = lockFor(customerId);
         lock.lock();
         try {
-            if (mileageMap.containsKey(customerId)) {
+            if (find(customerId) != null) {
                 System.out.println(customerId + "은(는) 이미 등록된 고객입니다.");
                 return false;
             }
-            Customer newCustomer = new Customer(name, customerId, password);
-            mileageMap.put(customerId, newCustomer);
-            saveData();
+            return registerCustomer(new Customer(name, customerId, password));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // registerCustomer
+    // Registers an already constructed customer (hashed password and salt set) if the id is free
+    // The check and the insert hold the id's lock, so two sessions registering the same id cannot both succeed
+    public boolean registerCustomer(Customer customer) {
+        ReentrantLock lock = lockFor(customer.getCustomerId());
+        lock.lock();
+        try {
+            if (find(customer.getCustomerId()) != null) {
+                return false;
+            }
+            store.register(customer);
+            cache(customer);
             return true;
+        } catch (IOException e) {
+            System.out.println("Error registering customer " + customer.getCustomerId() + ": " + e.getMessage());
+            return false;
         } finally {
             lock.unlock();
         }
@@ -49,7 +135,7 @@ public class CustomerMileageManager {
     // Authenticates a customer using customerId and password
     // Returns true if authentication is successful
     public boolean authenticateCustomer(String customerId, String password) {
-        Customer customer = mileageMap.get(customerId);
+        Customer customer = getCustomer(customerId);
         if (customer != null) {
             return customer.checkPassword(password);
         }
@@ -57,16 +143,17 @@ public class CustomerMileageManager {
     }
 
     // addMileage
-    // Adds mileage to a customer's account
-    // Saves the updated mileage data to the file
-    public void addMileage(String customerId, int mileage, String description) {
+    // Adds mileage to a customer's account and returns immediately
+    // The returned future completes once the change is on disk
+    public CompletableFuture<Void> addMileage(String customerId, int mileage, String description) {
+        ReentrantLock lock = lockFor(customerId);
         lock.lock();
         try {
-            Customer customer = mileageMap.get(customerId);
-            if (customer != null) {
-                customer.addMileage(mileage, description);
-                saveData();
+            Customer customer = find(customerId);
+            if (customer == null) {
+                return CompletableFuture.completedFuture(null);
             }
+            return apply(customer, new MileageRecord(mileage, description, true), null);
         } finally {
             lock.unlock();
         }
@@ -74,104 +161,194 @@ public class CustomerMileageManager {
 
     // useMileage
     // Deducts mileage from a customer's account if sufficient mileage is available
-    // Saves the updated mileage data to the file
+    // Queues the deduction for the store; use sync() to wait until it is on disk
     public boolean useMileage(String customerId, int mileage, String description) {
+        ReentrantLock lock = lockFor(customerId);
         lock.lock();
         try {
-            Customer customer = mileageMap.get(customerId);
-            if (customer != null && customer.deductMileage(mileage, description)) {
-                saveData();
-                return true;
+            Customer customer = find(customerId);
+            if (customer == null || customer.getMileage() < mileage) {
+                return false;
             }
-            return false;
+            return !apply(customer, new MileageRecord(mileage, description, false), null).isCompletedExceptionally();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // purchaseColor
+    // Deducts the price and adds the color to the customer's purchased colors
+    // The store saves both as one change so a crash cannot keep one without the other
+    public boolean purchaseColor(String customerId, String colorName, int price) {
+        ReentrantLock lock = lockFor(customerId);
+        lock.lock();
+        try {
+            Customer customer = find(customerId);
+            if (customer == null || customer.hasColorPurchased(colorName) || customer.getMileage() < price) {
+                return false;
+            }
+            MileageRecord record = new MileageRecord(price, "색상 구매: " + colorName, false);
+            return !apply(customer, record, colorName).isCompletedExceptionally();
         } finally {
             lock.unlock();
         }
     }
 
+    // apply
+    // Hands one change to the store; if the store fails, drops the customer from memory
+    // so the next lookup reads the last saved state again; must be called while holding the customer's lock
+    private CompletableFuture<Void> apply(Customer customer, MileageRecord record, String colorName) {
+        try {
+            return store.apply(customer, record, colorName);
+        } catch (IOException e) {
+            System.out.println("Error saving customer " + customer.getCustomerId() + ": " + e.getMessage());
+            resident.remove(customer.getCustomerId());
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    // sync
+    // Returns a future that completes once every change made so far is on disk
+    public CompletableFuture<Void> sync() {
+        return store.sync();
+    }
+
+    // getStore
+    // Returns the account store, e.g. for its metrics
+    public CustomerStore getStore() {
+        return store;
+    }
+
+    // close
+    // Waits for pending changes to reach the disk and closes the store
+    public void close() {
+        try {
+            store.close();
+        } catch (IOException e) {
+            System.out.println("Error closing customer store: " + e.getMessage());
+        }
+    }
+
     // getCustomer
-    // Retrieves a customer object by customerId
+    // Retrieves a customer object by customerId, reading it from the store if it is not in memory
+    // The object may be evicted later; look it up again rather than holding on to it
     public Customer getCustomer(String customerId) {
-        return mileageMap.get(customerId);
+        return find(customerId);
     }
 
-    // getAllCustomers
-    // Returns a map of all customers
-    public Map<String, Customer> getAllCustomers() {
-        return mileageMap;
+    // containsCustomer
+    // Returns true if the customerId is registered
+    public boolean containsCustomer(String customerId) {
+        return getCustomer(customerId) != null;
     }
 
-    // saveData
-    // Saves the mileage data of all customers to the file
-    public void saveData() {
+    // find
+    // Looks the customer up in memory without locking, then in the store under the customer's lock
+    // Loading under the lock means a change in progress finishes first, so a stale copy is never cached
+    // and concurrent lookups of the same customer end up with one object
+    private Customer find(String customerId) {
+        Resident entry = resident.get(customerId);
+        if (entry != null) {
+            return entry.touch();
+        }
+        ReentrantLock lock = lockFor(customerId);
         lock.lock();
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(dataFilePath))) {
-            for (Customer customer : mileageMap.values()) {
-                writer.write(customer.serialize());
-                writer.newLine();
+        try {
+            entry = resident.get(customerId);
+            if (entry != null) {
+                return entry.touch();
             }
-        } catch (IOException e) {
-            System.out.println("Error saving file: " + e.getMessage());
+            Customer customer = null;
+            try {
+                customer = store.load(customerId);
+            } catch (IOException e) {
+                System.out.println("Error reading customer " + customerId + ": " + e.getMessage());
+            }
+            if (customer != null) {
+                customersLoaded.incrementAndGet();
+                cache(customer);
+            }
+            return customer;
         } finally {
             lock.unlock();
         }
     }
 
-    // loadData
-    // Loads mileage data from the file and returns a map of customers
-    // Creates a new file if it does not exist
-    private Map<String, Customer> loadData() {
-        Map<String, Customer> map = new HashMap<>();
-        File file = new File(dataFilePath);
-        
-        if (!file.exists()) {
-            try {
-                file.getParentFile().mkdirs(); 
-                file.createNewFile();
-                return map;
-            } catch (IOException e) {
-                System.out.println("Error creating file: " + e.getMessage());
-                return map;
-            }
+    // cache
+    // Keeps the customer in memory and trims the least recently used ones once there are too many
+    private void cache(Customer customer) {
+        resident.put(customer.getCustomerId(), new Resident(customer));
+        if (resident.size() > maxResidentCustomers + evictionSlack()) {
+            evict();
         }
+    }
 
-        lock.lock();
-        try (BufferedReader reader = new BufferedReader(new FileReader(dataFilePath))) {
-            StringBuilder data = new StringBuilder();
-            String line;
-            boolean isReadingCustomer = false;
-
-            while ((line = reader.readLine()) != null) {
-                if (line.equals("======================================")) {
-                    if (isReadingCustomer && data.length() > 0) {
-                        try {
-                            Customer customer = Customer.deserialize(data.toString());
-                            map.put(customer.getCustomerId(), customer);
-                        } catch (IllegalArgumentException e) {
-                            System.out.println("Skipping invalid customer data: " + e.getMessage());
-                        }
-                        data.setLength(0);
-                    }
-                    isReadingCustomer = true;
-                    data.append(line).append("\n");
-                } else if (isReadingCustomer) {
-                    data.append(line).append("\n");
-                }
-            }
+    // evictionSlack
+    // How far past the limit the resident customers may grow before they are trimmed in one pass
+    private int evictionSlack() {
+        return Math.max(1, maxResidentCustomers / 8);
+    }
 
-            if (isReadingCustomer && data.length() > 0) {
-                try {
-                    Customer customer = Customer.deserialize(data.toString());
-                    map.put(customer.getCustomerId(), customer);
-                } catch (IllegalArgumentException e) {
-                    System.out.println("Skipping invalid customer data: " + e.getMessage());
-                }
+    // evict
+    // Drops the least recently used customers down to the limit; skipped if another thread is already at it
+    // Dropping a customer that is being changed is safe: the store still receives the change,
+    // and the next load waits for that customer's lock
+    private void evict() {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            int excess = resident.size() - maxResidentCustomers;
+            if (excess <= 0) {
+                return;
+            }
+            List<Map.Entry<String, Resident>> entries = new ArrayList<>(resident.entrySet());
+            entries.sort(Comparator.comparingLong(entry -> entry.getValue().lastUsed));
+            for (int i = 0; i < excess && i < entries.size(); i++) {
+                resident.remove(entries.get(i).getKey(), entries.get(i).getValue());
             }
-        } catch (IOException e) {
-            System.out.println("Error reading file: " + e.getMessage());
         } finally {
-            lock.unlock();
+            evictionLock.unlock();
+        }
+    }
+
+    // getResidentCustomers
+    // Returns the number of customers currently held in memory
+    public int getResidentCustomers() {
+        return resident.size();
+    }
+
+    // getCustomersLoaded
+    // Returns how many times a customer was read from the store
+    public long getCustomersLoaded() {
+        return customersLoaded.get();
+    }
+
+    // saveData
+    // Checkpoints the store: compacts the text file's log, or rewrites the embedded store's index
+    public void saveData() {
+        try {
+            store.checkpoint();
+        } catch (IOException e) {
+            System.out.println("Error saving file: " + e.getMessage());
+        }
+    }
+
+    // Resident
+    // A customer held in memory and when it was last used, for evicting the least recently used
+    private static final class Resident {
+        private final Customer customer;
+        private volatile long lastUsed = System.nanoTime();
+
+        private Resident(Customer customer) {
+            this.customer = customer;
+        }
+
+        // touch
+        // Marks the customer as used now and returns it
+        private Customer touch() {
+            lastUsed = System.nanoTime();
+            return customer;
         }
-        return map;
     }
 }
@@ -0,0 +1,35 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+// CustomerStore // 고객 계정을 저장하는 곳 // CustomerMileageManager는 이 인터페이스로만 읽고 씀
+// 구현: TextCustomerStore (스냅숏 텍스트 파일 + 색인 + 마일리지 로그), EmbeddedCustomerStore (내장 키-값 파일)
+// 같은 고객에 대한 register/apply는 호출하는 쪽이 한 번에 하나씩만 부름 // 다른 고객끼리는 동시에 불러도 됨
+public interface CustomerStore extends Closeable {
+    // load // 고객번호로 최신 상태의 고객 읽기, 없으면 null // 아직 디스크에 반영 중인 변경도 포함
+    Customer load(String customerId) throws IOException;
+
+    // register // 새 고객 추가 // 디스크에 반영되면 완료되는 future 반환
+    CompletableFuture<Void> register(Customer customer) throws IOException;
+
+    // apply // 고객에 마일리지 기록(과 구매한 색상)을 적용하고 한 변경으로 저장 // colorName은 색상 구매가 아니면 null
+    // 저장소가 자기 잠금 안에서 고객 객체를 바꾸므로 압축이나 체크포인트가 반쯤 바뀐 고객을 쓰지 않음
+    CompletableFuture<Void> apply(Customer customer, MileageRecord record, String colorName) throws IOException;
+
+    // sync // 지금까지의 변경이 모두 디스크에 반영되면 완료되는 future 반환
+    CompletableFuture<Void> sync();
+
+    // checkpoint // 쌓인 변경을 정리해 다음 시작을 빠르게 함 // 텍스트 파일은 로그 압축, 내장 저장소는 색인 갱신
+    void checkpoint() throws IOException;
+
+    // forEach // 모든 고객을 차례로 전달 // 저장소 사이 옮기기용, 고객 수에 비례
+    void forEach(CustomerVisitor visitor) throws IOException;
+
+    // size // 등록된 고객 수 반환
+    int size();
+
+    // CustomerVisitor // forEach로 받은 고객 처리
+    interface CustomerVisitor {
+        void visit(Customer customer) throws IOException;
+    }
+}
@@ -0,0 +1,317 @@
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Logger;
+
+public class EmbeddedCustomerStore implements CustomerStore {
+    private static final Logger LOGGER = Logger.getLogger(EmbeddedCustomerStore.class.getName());
+    // 옮겨 올 때 한 트랜잭션에 넣는 고객 수
+    private static final int IMPORT_BATCH = 1000;
+    // 마일리지 기록 한 페이지에 넣는 기록 수 // 변경마다 마지막 페이지만 다시 씀
+    static final int RECORDS_PER_PAGE = 64;
+    private static final int FORMAT = 2;
+    private static final String FORMAT_KEY = "m:format";
+    private static final String CUSTOMERS_KEY = "m:customers";
+    private static final String HEAD_PREFIX = "c:";
+    private static final String PAGE_PREFIX = "r:";
+    private final KeyValueFile file;
+    // 등록된 고객 수 // 등록은 registerLock 안에서 세고 CUSTOMERS_KEY에 함께 씀
+    private final AtomicInteger customers = new AtomicInteger();
+    private final ReentrantLock registerLock = new ReentrantLock();
+
+    // 키 구성 (값은 DataOutputStream 형식)
+    //   m:format        int 형식 번호
+    //   m:customers     int 고객 수
+    //   c:<고객번호>     UTF 이름, 비밀번호 해시, 솔트, int 잔액, int 연승, int 기록 수, short 색상 수, UTF 색상...
+    //   r:<고객번호>#<n> n번째 기록 페이지: short 기록 수, 기록마다 boolean 적립 여부, int 금액, long 시각(UTC 초), UTF 설명
+    // 변경 하나는 고객 머리(c:)와 마지막 기록 페이지(r:) 두 값을 한 트랜잭션으로 씀 // 크기는 기록 이력과 무관
+    // 조회는 머리 하나와 기록 페이지들을 읽음
+
+    // EmbeddedCustomerStore 생성자 // 열린 키-값 파일로 초기화
+    private EmbeddedCustomerStore(KeyValueFile file) {
+        this.file = file;
+    }
+
+    // open // 키-값 파일 열기 // 새 파일이면 형식 번호를 씀, 다른 형식의 파일이면 IOException
+    public static EmbeddedCustomerStore open(Path path) throws IOException {
+        KeyValueFile file = KeyValueFile.open(path);
+        try {
+            EmbeddedCustomerStore store = new EmbeddedCustomerStore(file);
+            byte[] format = file.get(FORMAT_KEY);
+            if (format == null && file.size() == 0) {
+                file.begin().put(FORMAT_KEY, encodeInt(FORMAT)).put(CUSTOMERS_KEY, encodeInt(0)).commit();
+            } else if (format == null || decodeInt(format) != FORMAT) {
+                throw new IOException("Unsupported customer store layout in " + path);
+            } else {
+                byte[] count = file.get(CUSTOMERS_KEY);
+                store.customers.set(count != null ? decodeInt(count) : 0);
+            }
+            return store;
+        } catch (IOException e) {
+            file.close();
+            throw e;
+        }
+    }
+
+    // open // 키-값 파일 열기 // 비어 있고 텍스트 파일이 있으면 그 고객을 모두 옮겨 옴 // 옮기다 멈췄으면 다음에 다시 옮김
+    public static EmbeddedCustomerStore open(Path path, String legacyTextFile) throws IOException {
+        EmbeddedCustomerStore store = open(path);
+        if (store.size() == 0 && legacyTextFile != null && Files.exists(Path.of(legacyTextFile))) {
+            TextCustomerStore legacy = new TextCustomerStore(legacyTextFile, 1, 0);
+            try {
+                store.importFrom(legacy);
+            } finally {
+                legacy.close();
+            }
+        }
+        return store;
+    }
+
+    // importFrom // 다른 저장소의 고객을 IMPORT_BATCH명씩 트랜잭션으로 묶어 옮겨 옴 // 이미 있는 고객은 덮어씀
+    // 고객 수는 각 트랜잭션에 함께 쓰므로 중간에 멈춰도 옮긴 고객 수와 맞음
+    public void importFrom(CustomerStore source) throws IOException {
+        registerLock.lock();
+        try {
+            KeyValueFile.Transaction[] transaction = {file.begin()};
+            int[] pending = {0};
+            int[] imported = {0};
+            source.forEach(customer -> {
+                if (file.get(headKey(customer.getCustomerId())) == null) {
+                    customers.incrementAndGet();
+                }
+                putAll(transaction[0], customer);
+                if (++pending[0] == IMPORT_BATCH) {
+                    transaction[0].put(CUSTOMERS_KEY, encodeInt(customers.get())).commit();
+                    pending[0] = 0;
+                }
+                imported[0]++;
+            });
+            transaction[0].put(CUSTOMERS_KEY, encodeInt(customers.get())).commit();
+            file.checkpoint();
+            LOGGER.info("Imported " + imported[0] + " customers into the embedded store");
+        } finally {
+            registerLock.unlock();
+        }
+    }
+
+    // load // 고객 머리와 기록 페이지를 읽어 고객 생성, 없으면 null // 부를 때마다 새 객체
+    @Override
+    public Customer load(String customerId) throws IOException {
+        byte[] head = file.get(headKey(customerId));
+        if (head == null) {
+            return null;
+        }
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(head));
+        Customer customer = new Customer(in.readUTF(), customerId, in.readUTF(), in.readUTF());
+        int mileage = in.readInt();
+        customer.setWinStreak(in.readInt());
+        int recordCount = in.readInt();
+        int colorCount = in.readShort() & 0xFFFF;
+        for (int i = 0; i < colorCount; i++) {
+            customer.addPurchasedColor(in.readUTF());
+        }
+        List<MileageRecord> records = new ArrayList<>(recordCount);
+        for (int page = 0; page * RECORDS_PER_PAGE < recordCount; page++) {
+            byte[] value = file.get(pageKey(customerId, page));
+            if (value == null) {
+                throw new IOException("Missing mileage record page " + page + " of customer " + customerId);
+            }
+            readPage(value, records);
+        }
+        if (records.size() != recordCount) {
+            throw new IOException("Customer " + customerId + " has " + records.size()
+                    + " mileage records, expected " + recordCount);
+        }
+        customer.restore(mileage, records);
+        return customer;
+    }
+
+    // register // 새 고객의 머리, 기록 페이지, 고객 수를 한 트랜잭션으로 씀 // 돌아올 때 이미 디스크에 있음
+    // 고객 수를 읽고 쓰는 사이에 다른 등록이 끼지 않도록 등록끼리는 차례로 진행
+    @Override
+    public CompletableFuture<Void> register(Customer customer) throws IOException {
+        registerLock.lock();
+        try {
+            KeyValueFile.Transaction transaction = file.begin();
+            putAll(transaction, customer);
+            transaction.put(CUSTOMERS_KEY, encodeInt(customers.get() + 1)).commit();
+            customers.incrementAndGet();
+        } finally {
+            registerLock.unlock();
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    // apply // 고객을 바꾼 뒤 머리와 새 기록이 들어간 마지막 페이지만 한 트랜잭션으로 씀
+    // 차감과 색상이 같은 머리에 들어가므로 함께 반영됨 // 쓰는 양은 기록 이력 길이와 무관
+    @Override
+    public CompletableFuture<Void> apply(Customer customer, MileageRecord record, String colorName) throws IOException {
+        customer.applyRecord(record);
+        if (colorName != null) {
+            customer.addPurchasedColor(colorName);
+        }
+        List<MileageRecord> records = customer.getMileageRecords();
+        int lastPage = (records.size() - 1) / RECORDS_PER_PAGE;
+        file.begin()
+                .put(headKey(customer.getCustomerId()), encodeHead(customer))
+                .put(pageKey(customer.getCustomerId(), lastPage), encodePage(records, lastPage))
+                .commit();
+        return CompletableFuture.completedFuture(null);
+    }
+
+    // putAll // 고객 머리와 모든 기록 페이지를 트랜잭션에 넣음
+    private static void putAll(KeyValueFile.Transaction transaction, Customer customer) {
+        List<MileageRecord> records = customer.getMileageRecords();
+        transaction.put(headKey(customer.getCustomerId()), encodeHead(customer));
+        for (int page = 0; page * RECORDS_PER_PAGE < records.size(); page++) {
+            transaction.put(pageKey(customer.getCustomerId(), page), encodePage(records, page));
+        }
+    }
+
+    private static String headKey(String customerId) {
+        return HEAD_PREFIX + customerId;
+    }
+
+    // pageKey // 기록 페이지 키 // 고객번호에 '#'이 있어도 마지막 '#' 뒤는 숫자뿐이라 다른 고객과 겹치지 않음
+    private static String pageKey(String customerId, int page) {
+        return PAGE_PREFIX + customerId + "#" + page;
+    }
+
+    // encodeHead // 기록을 뺀 고객 상태 직렬화
+    private static byte[] encodeHead(Customer customer) {
+        return encode(out -> {
+            Set<String> colors = customer.getPurchasedColors();
+            out.writeUTF(customer.getName());
+            out.writeUTF(customer.getPasswordHash());
+            out.writeUTF(customer.getSalt());
+            out.writeInt(customer.getMileage());
+            out.writeInt(customer.getWinStreak());
+            out.writeInt(customer.getMileageRecords().size());
+            out.writeShort(colors.size());
+            for (String color : colors) {
+                out.writeUTF(color);
+            }
+        });
+    }
+
+    // encodePage // page번째 기록 페이지 직렬화 // 마지막 페이지는 RECORDS_PER_PAGE개보다 적을 수 있음
+    private static byte[] encodePage(List<MileageRecord> records, int page) {
+        int from = page * RECORDS_PER_PAGE;
+        int to = Math.min(records.size(), from + RECORDS_PER_PAGE);
+        return encode(out -> {
+            out.writeShort(to - from);
+            for (int i = from; i < to; i++) {
+                MileageRecord record = records.get(i);
+                out.writeBoolean(record.isCredit());
+                out.writeInt(record.getAmount());
+                out.writeLong(record.getDateTime().toEpochSecond(ZoneOffset.UTC));
+                out.writeUTF(record.getDescription());
+            }
+        });
+    }
+
+    // readPage // 기록 페이지를 읽어 records 뒤에 붙임
+    private static void readPage(byte[] value, List<MileageRecord> records) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(value));
+        int count = in.readShort() & 0xFFFF;
+        for (int i = 0; i < count; i++) {
+            boolean credit = in.readBoolean();
+            int amount = in.readInt();
+            LocalDateTime date = LocalDateTime.ofEpochSecond(in.readLong(), 0, ZoneOffset.UTC);
+            records.add(new MileageRecord(amount, in.readUTF(), credit, date));
+        }
+    }
+
+    private static byte[] encodeInt(int value) {
+        return ByteBuffer.allocate(Integer.BYTES).putInt(value).array();
+    }
+
+    private static int decodeInt(byte[] value) throws IOException {
+        if (value.length != Integer.BYTES) {
+            throw new IOException("Invalid integer value of " + value.length + " bytes");
+        }
+        return ByteBuffer.wrap(value).getInt();
+    }
+
+    // encode // DataOutputStream으로 쓴 값 바이트 생성
+    private static byte[] encode(Fields fields) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(128);
+        try {
+            fields.write(new DataOutputStream(buffer));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    // Fields // 값 필드 쓰기
+    private interface Fields {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    // sync // 커밋마다 fsync하므로 바로 완료
+    @Override
+    public CompletableFuture<Void> sync() {
+        return CompletableFuture.completedFuture(null);
+    }
+
+    // checkpoint // 색인을 지금까지로 다시 쓰고 필요하면 파일 압축
+    @Override
+    public void checkpoint() throws IOException {
+        file.checkpoint();
+    }
+
+    // forEach // 모든 고객을 읽어 전달 // 키를 모두 훑어 고객번호를 모은 뒤 하나씩 읽음
+    @Override
+    public void forEach(CustomerVisitor visitor) throws IOException {
+        List<String> customerIds = new ArrayList<>(customers.get());
+        file.forEachKey(key -> {
+            if (key.startsWith(HEAD_PREFIX)) {
+                customerIds.add(key.substring(HEAD_PREFIX.length()));
+            }
+        });
+        for (String customerId : customerIds) {
+            Customer customer;
+            try {
+                customer = load(customerId);
+            } catch (IOException e) {
+                LOGGER.warning("Skipping invalid customer " + customerId + ": " + e.getMessage());
+                continue;
+            }
+            if (customer != null) {
+                visitor.visit(customer);
+            }
+        }
+    }
+
+    // size // 등록된 고객 수 반환
+    @Override
+    public int size() {
+        return customers.get();
+    }
+
+    // getFile // 지표 확인용 키-값 파일 반환
+    public KeyValueFile getFile() {
+        return file;
+    }
+
+    @Override
+    // close // 파일 닫기
+    public void close() throws IOException {
+        file.close();
+    }
+}
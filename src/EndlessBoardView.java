@@ -0,0 +1,256 @@
+import javax.swing.JComponent;
+import javax.swing.SwingUtilities;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.event.KeyAdapter;
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
+import java.util.Map;
+
+public class EndlessBoardView extends JComponent {
+    private static final long serialVersionUID = 1L;
+    private static final Color REVEALED_COLOR = new Color(211, 211, 211);
+    private static final Color HOVER_COLOR = new Color(230, 230, 230);
+    private static final Color GRID_COLOR = Color.GRAY;
+    private static final Color MINE_COLOR = Color.RED;
+    private static final Color CELL_COLOR = Color.LIGHT_GRAY;
+    private static final Map<Integer, Color> NUMBER_COLORS = GameResources.NUMBER_COLORS;
+    private static final Font EMOJI_FONT = new Font("Noto Color Emoji", Font.PLAIN, 16);
+    private static final Font NUMBER_FONT = new Font("맑은 고딕", Font.BOLD, 14);
+    private static final int CELL_SIZE = 24;
+    // 마우스를 이만큼 움직이기 전에는 끌기가 아닌 클릭으로 처리
+    private static final int DRAG_THRESHOLD = 4;
+    private final ChunkedBoard board;
+    private final Runnable changeHandler;
+    // 화면 왼쪽 위에 보이는 월드 픽셀 좌표 // 오래 탐색해도 넘치지 않도록 long 사용
+    private long originX;
+    private long originY;
+    private int pressX;
+    private int pressY;
+    private long pressOriginX;
+    private long pressOriginY;
+    private boolean dragging;
+    private long hoverX = Long.MIN_VALUE;
+    private long hoverY = Long.MIN_VALUE;
+    private boolean showMines;
+
+    // EndlessBoardView 생성자 // 끝없는 보드에서 화면에 보이는 부분만 그림
+    // 끌기/방향키/휠로 화면 이동, 왼쪽 클릭은 공개, 오른쪽 클릭은 깃발 // 셀이 바뀌면 changeHandler 호출
+    public EndlessBoardView(ChunkedBoard board, Runnable changeHandler) {
+        this.board = board;
+        this.changeHandler = changeHandler;
+        setOpaque(true);
+        setFocusable(true);
+        setPreferredSize(new Dimension(CELL_SIZE * 30, CELL_SIZE * 20));
+
+        MouseAdapter mouseHandler = new MouseAdapter() {
+            @Override
+            public void mousePressed(MouseEvent e) {
+                requestFocusInWindow();
+                pressX = e.getX();
+                pressY = e.getY();
+                pressOriginX = originX;
+                pressOriginY = originY;
+                dragging = false;
+            }
+
+            @Override
+            public void mouseDragged(MouseEvent e) {
+                int dx = e.getX() - pressX;
+                int dy = e.getY() - pressY;
+                if (!dragging && Math.abs(dx) + Math.abs(dy) < DRAG_THRESHOLD) return;
+                dragging = true;
+                originX = pressOriginX - dx;
+                originY = pressOriginY - dy;
+                repaint();
+            }
+
+            @Override
+            public void mouseReleased(MouseEvent e) {
+                if (dragging || !isEnabled()) return;
+                int x = cellX(e.getX());
+                int y = cellY(e.getY());
+                if (SwingUtilities.isRightMouseButton(e)) {
+                    if (board.toggleFlag(x, y)) {
+                        repaintCell(x, y);
+                        changeHandler.run();
+                    }
+                } else if (SwingUtilities.isLeftMouseButton(e)) {
+                    if (board.reveal(x, y) != 0) {
+                        repaint();
+                        changeHandler.run();
+                    }
+                }
+            }
+
+            @Override
+            public void mouseMoved(MouseEvent e) {
+                setHover(cellX(e.getX()), cellY(e.getY()));
+            }
+
+            @Override
+            public void mouseExited(MouseEvent e) {
+                setHover(Long.MIN_VALUE, Long.MIN_VALUE);
+            }
+
+            @Override
+            public void mouseWheelMoved(MouseWheelEvent e) {
+                int amount = e.getWheelRotation() * CELL_SIZE * 3;
+                if (e.isShiftDown()) {
+                    pan(amount, 0);
+                } else {
+                    pan(0, amount);
+                }
+            }
+        };
+        addMouseListener(mouseHandler);
+        addMouseMotionListener(mouseHandler);
+        addMouseWheelListener(mouseHandler);
+
+        addKeyListener(new KeyAdapter() {
+            @Override
+            public void keyPressed(KeyEvent e) {
+                switch (e.getKeyCode()) {
+                    case KeyEvent.VK_LEFT -> pan(-CELL_SIZE, 0);
+                    case KeyEvent.VK_RIGHT -> pan(CELL_SIZE, 0);
+                    case KeyEvent.VK_UP -> pan(0, -CELL_SIZE);
+                    case KeyEvent.VK_DOWN -> pan(0, CELL_SIZE);
+                    default -> { }
+                }
+            }
+        });
+    }
+
+    // centerOn // 월드 셀 좌표가 화면 가운데 오도록 이동
+    public void centerOn(int x, int y) {
+        int width = getWidth() > 0 ? getWidth() : getPreferredSize().width;
+        int height = getHeight() > 0 ? getHeight() : getPreferredSize().height;
+        originX = (long) x * CELL_SIZE + CELL_SIZE / 2 - width / 2;
+        originY = (long) y * CELL_SIZE + CELL_SIZE / 2 - height / 2;
+        repaint();
+    }
+
+    // pan // 화면을 픽셀 단위로 이동
+    public void pan(int dx, int dy) {
+        originX += dx;
+        originY += dy;
+        hoverX = Long.MIN_VALUE;
+        repaint();
+    }
+
+    // setShowMines // 게임 오버 표시 설정 // 보이는 영역의 모든 지뢰와 잘못된 깃발 표시
+    public void setShowMines(boolean showMines) {
+        this.showMines = showMines;
+        repaint();
+    }
+
+    // cellX // 화면 x 좌표를 월드 셀 x 좌표로 변환 // 음수 좌표도 내림으로 계산
+    private int cellX(int x) {
+        return (int) Math.floorDiv(originX + x, CELL_SIZE);
+    }
+
+    // cellY // 화면 y 좌표를 월드 셀 y 좌표로 변환
+    private int cellY(int y) {
+        return (int) Math.floorDiv(originY + y, CELL_SIZE);
+    }
+
+    // repaintCell // 셀 하나의 화면 영역만 다시 그리기
+    private void repaintCell(long x, long y) {
+        repaint((int) (x * CELL_SIZE - originX), (int) (y * CELL_SIZE - originY), CELL_SIZE, CELL_SIZE);
+    }
+
+    // setHover // 마우스가 올라간 셀 변경 // 이전 셀과 새 셀만 다시 그리기
+    private void setHover(long x, long y) {
+        if (x == hoverX && y == hoverY) return;
+        if (hoverX != Long.MIN_VALUE) repaintCell(hoverX, hoverY);
+        hoverX = x;
+        hoverY = y;
+        if (hoverX != Long.MIN_VALUE) repaintCell(hoverX, hoverY);
+    }
+
+    @Override
+    // paintComponent // 클립 영역에 걸친 월드 셀만 그림 // 필요한 청크는 ChunkedBoard가 불러오거나 생성
+    protected void paintComponent(Graphics g) {
+        Graphics2D g2 = (Graphics2D) g;
+        g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) {
+            clip = new Rectangle(0, 0, getWidth(), getHeight());
+        }
+        g.setColor(GRID_COLOR);
+        g.fillRect(clip.x, clip.y, clip.width, clip.height);
+
+        int colStart = cellX(clip.x);
+        int colEnd = cellX(clip.x + clip.width - 1);
+        int rowStart = cellY(clip.y);
+        int rowEnd = cellY(clip.y + clip.height - 1);
+        for (int y = rowStart; y <= rowEnd; y++) {
+            for (int x = colStart; x <= colEnd; x++) {
+                paintCell(g2, x, y, (int) ((long) x * CELL_SIZE - originX), (int) ((long) y * CELL_SIZE - originY));
+            }
+        }
+    }
+
+    // paintCell // 셀 하나 그리기 // BoardCanvas와 같은 모양
+    private void paintCell(Graphics2D g, int cellX, int cellY, int x, int y) {
+        int inner = CELL_SIZE - 1;
+        boolean revealed = board.isRevealed(cellX, cellY);
+        boolean flagged = board.isFlagged(cellX, cellY);
+        boolean mine = board.isMine(cellX, cellY);
+
+        if (revealed) {
+            g.setColor(mine ? MINE_COLOR : REVEALED_COLOR);
+            g.fillRect(x, y, inner, inner);
+            if (mine) {
+                drawCentered(g, "💣", EMOJI_FONT, Color.BLACK, x, y);
+                return;
+            }
+            int count = board.getAdjacentMines(cellX, cellY);
+            if (count > 0) {
+                drawCentered(g, String.valueOf(count), NUMBER_FONT, NUMBER_COLORS.getOrDefault(count, Color.BLACK), x, y);
+            }
+            return;
+        }
+
+        if (showMines && mine && !flagged) {
+            g.setColor(MINE_COLOR);
+            g.fillRect(x, y, inner, inner);
+            drawCentered(g, "💣", EMOJI_FONT, Color.BLACK, x, y);
+            return;
+        }
+
+        g.setColor(cellX == hoverX && cellY == hoverY && !flagged && isEnabled() ? HOVER_COLOR : CELL_COLOR);
+        g.fillRect(x, y, inner, inner);
+        g.setColor(Color.WHITE);
+        g.drawLine(x, y, x + inner - 1, y);
+        g.drawLine(x, y, x, y + inner - 1);
+        g.setColor(Color.DARK_GRAY);
+        g.drawLine(x, y + inner - 1, x + inner - 1, y + inner - 1);
+        g.drawLine(x + inner - 1, y, x + inner - 1, y + inner - 1);
+        if (flagged) {
+            if (showMines && !mine) {
+                drawCentered(g, "❌", EMOJI_FONT, Color.RED, x, y);
+            } else {
+                drawCentered(g, "🚩", EMOJI_FONT, Color.RED, x, y);
+            }
+        }
+    }
+
+    // drawCentered // 셀 가운데에 문자열 그리기
+    private void drawCentered(Graphics2D g, String text, Font font, Color color, int x, int y) {
+        g.setFont(font);
+        g.setColor(color);
+        FontMetrics metrics = g.getFontMetrics();
+        int textX = x + (CELL_SIZE - 1 - metrics.stringWidth(text)) / 2;
+        int textY = y + (CELL_SIZE - 1 - metrics.getHeight()) / 2 + metrics.getAscent();
+        g.drawString(text, textX, textY);
+    }
+}
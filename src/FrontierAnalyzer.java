@@ -0,0 +1,564 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+public class FrontierAnalyzer {
+    private static final int DIRTY_RADIUS = 2;
+    private final int rows;
+    private final int cols;
+    private final int size;
+    private final int totalMines;
+    private final int[] visible;
+    private final int[] regionOf;
+    private final int[] mark;
+    private final int[] localIndex;
+    private final int[] state;
+    private final double[] probabilities;
+    private final Map<Integer, Region> regions = new HashMap<>();
+    private Map<PartKey, MinesweeperSolver.Component> partCache = new HashMap<>();
+    private int markGeneration;
+    private int nextRegionId;
+    private int[] changed = new int[64];
+    private int changedCount;
+    private int[] pending = new int[64];
+    private int pendingCount;
+    private int unknownCells;
+    private int flaggedCells;
+    private int frontierCells;
+    private boolean stale = true;
+    private Snapshot snapshot;
+    private long regionsSolved;
+    private long partsReused;
+    private long analysisNanos;
+    private long analyses;
+
+    // FrontierAnalyzer 생성자 // 모든 셀이 미확인인 상태로 시작
+    // 경계(공개된 숫자와 맞닿은 미확인 셀)를 서로 독립인 영역으로 나눠 보관하고
+    // 셀이 바뀌면 그 주변 영역만 다시 나누고 다시 열거함. 나머지 영역의 열거 결과는 재사용
+    public FrontierAnalyzer(int rows, int cols, int totalMines) {
+        if (rows <= 0 || cols <= 0) {
+            throw new IllegalArgumentException("Invalid board size: " + rows + "x" + cols);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.size = rows * cols;
+        this.totalMines = totalMines;
+        this.visible = new int[size];
+        this.regionOf = new int[size];
+        this.mark = new int[size];
+        this.localIndex = new int[size];
+        this.state = new int[size];
+        this.probabilities = new double[size];
+        Arrays.fill(visible, MinesweeperSolver.UNKNOWN);
+        Arrays.fill(regionOf, -1);
+        this.unknownCells = size;
+    }
+
+    // update // 셀 하나의 보이는 상태 변경 // 공개된 셀은 인접 지뢰 수, 깃발은 FLAGGED, 되돌린 셀은 UNKNOWN
+    // 다음 analyze에서 이 셀 주변 영역만 다시 계산
+    public void update(int index, int value) {
+        int old = visible[index];
+        if (old == value) return;
+        if (old == MinesweeperSolver.UNKNOWN) unknownCells--;
+        else if (old == MinesweeperSolver.FLAGGED) flaggedCells--;
+        if (value == MinesweeperSolver.UNKNOWN) unknownCells++;
+        else if (value == MinesweeperSolver.FLAGGED) flaggedCells++;
+        visible[index] = value;
+        if (changedCount == changed.length) {
+            changed = Arrays.copyOf(changed, changedCount * 2);
+        }
+        changed[changedCount++] = index;
+    }
+
+    // analyze // 바뀐 영역을 다시 나누고 열거한 뒤 전체 지뢰 수로 결합해 새 스냅샷 생성
+    // cancelled가 true를 반환하면 중단하고 false 반환 // 열거하지 못한 영역은 다음 호출에서 이어서 계산
+    public boolean analyze(BooleanSupplier cancelled) {
+        long start = System.nanoTime();
+        if (changedCount > 0) {
+            rebuild();
+            changedCount = 0;
+            stale = true;
+        }
+        if (!stale) {
+            return true;
+        }
+        for (Region region : regions.values()) {
+            if (!region.solved) {
+                if (!region.solve(cancelled)) {
+                    analysisNanos += System.nanoTime() - start;
+                    return false;
+                }
+                regionsSolved++;
+            }
+        }
+        snapshot = combine();
+        stale = false;
+        // 지금 영역들의 구성요소만 다음 분석에서 재사용할 수 있게 남김
+        Map<PartKey, MinesweeperSolver.Component> cache = new HashMap<>();
+        for (Region region : regions.values()) {
+            for (int i = 0; i < region.parts.size(); i++) {
+                cache.put(region.partKeys.get(i), region.parts.get(i));
+            }
+        }
+        partCache = cache;
+        analysisNanos += System.nanoTime() - start;
+        analyses++;
+        return true;
+    }
+
+    // getSnapshot // 마지막으로 완료한 분석 결과 반환 // 한 번도 분석하지 않았으면 null
+    public Snapshot getSnapshot() {
+        return snapshot;
+    }
+
+    // getRegionCount // 현재 경계 영역 수 반환
+    public int getRegionCount() {
+        return regions.size();
+    }
+
+    // getRegionsSolved // 누적 다시 열거한 영역 수 반환
+    public long getRegionsSolved() {
+        return regionsSolved;
+    }
+
+    // getPartsReused // 영역이 다시 나뉘었지만 구성요소가 그대로여서 열거를 생략한 횟수 반환
+    public long getPartsReused() {
+        return partsReused;
+    }
+
+    // getAnalysesPerSecond // 누적 초당 분석 완료 수 반환
+    public double getAnalysesPerSecond() {
+        return analysisNanos == 0 ? 0 : analyses * 1e9 / analysisNanos;
+    }
+
+    // rebuild // 바뀐 셀에서 DIRTY_RADIUS 안에 변수가 있는 영역을 풀고 그 제약과 새 제약으로 영역을 다시 구성
+    // 바뀐 셀에 닿는 제약의 변수는 모두 바뀐 셀에서 2칸 안에 있으므로 그 밖의 영역은 영향을 받지 않음
+    private void rebuild() {
+        int generation = nextMark();
+        pendingCount = 0;
+        for (int i = 0; i < changedCount; i++) {
+            int cell = changed[i];
+            int row = cell / cols;
+            int col = cell - row * cols;
+            for (int nRow = Math.max(0, row - DIRTY_RADIUS); nRow <= Math.min(rows - 1, row + DIRTY_RADIUS); nRow++) {
+                for (int nCol = Math.max(0, col - DIRTY_RADIUS); nCol <= Math.min(cols - 1, col + DIRTY_RADIUS); nCol++) {
+                    int neighbor = nRow * cols + nCol;
+                    if (regionOf[neighbor] >= 0) {
+                        dissolve(regions.remove(regionOf[neighbor]), generation);
+                    }
+                    if (Math.abs(nRow - row) <= 1 && Math.abs(nCol - col) <= 1) {
+                        addConstraint(neighbor, generation);
+                    }
+                }
+            }
+        }
+        buildRegions(pending, pendingCount);
+    }
+
+    // dissolve // 영역을 풀어 변수 표시를 지우고 제약 셀을 다시 계산할 후보에 추가
+    private void dissolve(Region region, int generation) {
+        for (int variable : region.cells) {
+            regionOf[variable] = -1;
+        }
+        frontierCells -= region.cells.length;
+        for (int constraint : region.constraintCells) {
+            addConstraint(constraint, generation);
+        }
+    }
+
+    // addConstraint // 공개된 숫자 셀을 한 번만 후보에 추가
+    private void addConstraint(int cell, int generation) {
+        if (visible[cell] <= 0 || mark[cell] == generation) return;
+        mark[cell] = generation;
+        if (pendingCount == pending.length) {
+            pending = Arrays.copyOf(pending, pendingCount * 2);
+        }
+        pending[pendingCount++] = cell;
+    }
+
+    // buildRegions // 후보 제약의 미확인 이웃을 변수로 모으고 변수를 공유하는 제약끼리 영역으로 묶음
+    private void buildRegions(int[] constraintCells, int count) {
+        int variableGeneration = nextMark();
+        List<int[]> constraints = new ArrayList<>();
+        List<Integer> targets = new ArrayList<>();
+        List<Integer> origins = new ArrayList<>();
+        int variableCount = 0;
+        int[] buffer = new int[8];
+        for (int c = 0; c < count; c++) {
+            int cell = constraintCells[c];
+            int row = cell / cols;
+            int col = cell - row * cols;
+            int unknown = 0;
+            int flagged = 0;
+            for (int nRow = Math.max(0, row - 1); nRow <= Math.min(rows - 1, row + 1); nRow++) {
+                for (int nCol = Math.max(0, col - 1); nCol <= Math.min(cols - 1, col + 1); nCol++) {
+                    int neighbor = nRow * cols + nCol;
+                    if (visible[neighbor] == MinesweeperSolver.UNKNOWN) {
+                        buffer[unknown++] = neighbor;
+                        if (mark[neighbor] != variableGeneration) {
+                            mark[neighbor] = variableGeneration;
+                            localIndex[neighbor] = variableCount++;
+                        }
+                    } else if (visible[neighbor] == MinesweeperSolver.FLAGGED) {
+                        flagged++;
+                    }
+                }
+            }
+            if (unknown > 0) {
+                constraints.add(Arrays.copyOf(buffer, unknown));
+                targets.add(visible[cell] - flagged);
+                origins.add(cell);
+            }
+        }
+
+        int[] parent = new int[variableCount];
+        for (int i = 0; i < variableCount; i++) parent[i] = i;
+        for (int[] cells : constraints) {
+            for (int cell : cells) {
+                MinesweeperSolver.union(parent, localIndex[cells[0]], localIndex[cell]);
+            }
+        }
+        Map<Integer, List<Integer>> groups = new HashMap<>();
+        for (int c = 0; c < constraints.size(); c++) {
+            int root = MinesweeperSolver.find(parent, localIndex[constraints.get(c)[0]]);
+            groups.computeIfAbsent(root, key -> new ArrayList<>()).add(c);
+        }
+        for (List<Integer> group : groups.values()) {
+            Region region = new Region(nextRegionId++, group, constraints, targets, origins);
+            regions.put(region.id, region);
+            for (int variable : region.cells) {
+                regionOf[variable] = region.id;
+            }
+            frontierCells += region.cells.length;
+        }
+    }
+
+    // nextMark // 중복 확인용 세대 번호 증가 // 셀별 배열을 지우지 않고 재사용
+    private int nextMark() {
+        if (++markGeneration == Integer.MAX_VALUE) {
+            Arrays.fill(mark, 0);
+            markGeneration = 1;
+        }
+        return markGeneration;
+    }
+
+    // combine // 모든 영역의 지뢰 수 분포를 전체 지뢰 수로 결합해 셀별 확률 계산
+    // 앞쪽 합성곱과 뒤쪽 내부 가중치 상관을 누적해 각 구성요소의 나머지 분포를 O(경계 크기^2)에 구함
+    private Snapshot combine() {
+        List<Region> regionList = new ArrayList<>(regions.values());
+        List<MinesweeperSolver.Component> parts = new ArrayList<>();
+        int knownMines = flaggedCells;
+        int maxMines = 0;
+        for (Region region : regionList) {
+            knownMines += region.fixedMines;
+            for (MinesweeperSolver.Component part : region.parts) {
+                parts.add(part);
+                maxMines += part.maxMines();
+            }
+        }
+        int interior = unknownCells - frontierCells;
+        int remainingMines = totalMines > 0 ? totalMines - knownMines : -1;
+        double[] interiorWeight = MinesweeperSolver.interiorWeights(interior, remainingMines, maxMines);
+
+        int partCount = parts.size();
+        double[][] prefix = new double[partCount + 1][];
+        prefix[0] = new double[] {1};
+        for (int i = 0; i < partCount; i++) {
+            prefix[i + 1] = MinesweeperSolver.convolve(prefix[i], parts.get(i).weights());
+        }
+        // tail[j] = sum_b (뒤쪽 구성요소 분포)[b] * interiorWeight[j + b]
+        double[] tail = interiorWeight;
+        for (int i = partCount - 1; i >= 0; i--) {
+            MinesweeperSolver.Component part = parts.get(i);
+            double[] weights = part.weights();
+            double[] rest = new double[weights.length];
+            double[] before = prefix[i];
+            for (int k = 0; k < rest.length; k++) {
+                for (int a = 0; a < before.length; a++) {
+                    rest[k] += before[a] * MinesweeperSolver.weightAt(tail, k + a);
+                }
+            }
+            part.assignProbabilities(rest, state, probabilities);
+            tail = correlate(tail, weights);
+        }
+
+        double interiorProbability = Double.NaN;
+        if (interior > 0 && remainingMines >= 0) {
+            double[] total = prefix[partCount];
+            double weightSum = 0;
+            double expectedMines = 0;
+            for (int m = 0; m < total.length; m++) {
+                double weight = total[m] * MinesweeperSolver.weightAt(interiorWeight, m);
+                weightSum += weight;
+                expectedMines += weight * (remainingMines - m);
+            }
+            interiorProbability = weightSum == 0 ? 0 : expectedMines / weightSum / interior;
+        }
+        return new Snapshot(regionList, state, probabilities, frontierCells, interior, interiorProbability);
+    }
+
+    // correlate // tail과 구성요소 분포의 상관 // result[j] = sum_c weights[c] * tail[j + c], 최대값으로 정규화
+    private static double[] correlate(double[] tail, double[] weights) {
+        int length = Math.max(1, tail.length - weights.length + 1);
+        double[] result = new double[length];
+        double max = 0;
+        for (int j = 0; j < length; j++) {
+            double sum = 0;
+            for (int c = 0; c < weights.length; c++) {
+                sum += weights[c] * MinesweeperSolver.weightAt(tail, j + c);
+            }
+            result[j] = sum;
+            max = Math.max(max, sum);
+        }
+        if (max > 0) {
+            for (int j = 0; j < length; j++) result[j] /= max;
+        }
+        return result;
+    }
+
+    // Region // 변수를 공유하는 제약들의 묶음 // 바뀌지 않으면 열거 결과를 다음 분석에서 재사용
+    // 다시 나뉜 영역도 전파 후 남은 구성요소가 이전과 같으면 partCache의 열거 결과를 재사용
+    private final class Region {
+        private final int id;
+        private final int[] cells;
+        private final int[] constraintCells;
+        private final int[][] constraints;
+        private final int[] targets;
+        private final int[] fixed;
+        private final List<MinesweeperSolver.Component> parts = new ArrayList<>();
+        private final List<PartKey> partKeys = new ArrayList<>();
+        private int fixedMines;
+        private boolean solved;
+
+        // Region 생성자 // 제약의 셀 인덱스를 영역 안 번호로 바꿔 보관
+        Region(int id, List<Integer> group, List<int[]> allConstraints, List<Integer> allTargets, List<Integer> origins) {
+            this.id = id;
+            int total = 0;
+            for (int c : group) total += allConstraints.get(c).length;
+            int[] all = new int[total];
+            int next = 0;
+            for (int c : group) {
+                for (int cell : allConstraints.get(c)) all[next++] = cell;
+            }
+            Arrays.sort(all);
+            int unique = 0;
+            for (int i = 0; i < all.length; i++) {
+                if (i == 0 || all[i] != all[i - 1]) all[unique++] = all[i];
+            }
+            this.cells = Arrays.copyOf(all, unique);
+            this.constraintCells = new int[group.size()];
+            this.constraints = new int[group.size()][];
+            this.targets = new int[group.size()];
+            for (int i = 0; i < group.size(); i++) {
+                int c = group.get(i);
+                int[] global = allConstraints.get(c);
+                constraintCells[i] = origins.get(c);
+                targets[i] = allTargets.get(c);
+                constraints[i] = new int[global.length];
+                for (int j = 0; j < global.length; j++) {
+                    constraints[i][j] = Arrays.binarySearch(cells, global[j]);
+                }
+            }
+            this.fixed = new int[cells.length];
+        }
+
+        // solve // 제약 전파로 확정 셀을 찾고 남은 변수를 구성요소로 나눠 열거 // 취소되면 false
+        // 구성요소는 보드 전체 셀 인덱스로 만들어 결합 단계에서 state/probabilities에 바로 기록
+        boolean solve(BooleanSupplier cancelled) {
+            Arrays.fill(fixed, MinesweeperSolver.STATE_UNKNOWN);
+            parts.clear();
+            partKeys.clear();
+            MinesweeperSolver.propagate(constraints, targets, fixed);
+            fixedMines = 0;
+            for (int i = 0; i < cells.length; i++) {
+                state[cells[i]] = fixed[i];
+                if (fixed[i] == MinesweeperSolver.STATE_MINE) {
+                    fixedMines++;
+                    probabilities[cells[i]] = 1;
+                } else if (fixed[i] == MinesweeperSolver.STATE_SAFE) {
+                    probabilities[cells[i]] = 0;
+                }
+            }
+
+            List<int[]> live = new ArrayList<>();
+            List<Integer> liveTargets = new ArrayList<>();
+            int[] parent = new int[cells.length];
+            for (int i = 0; i < parent.length; i++) parent[i] = i;
+            for (int c = 0; c < constraints.length; c++) {
+                int[] reduced = MinesweeperSolver.reduce(constraints[c], fixed);
+                if (reduced.length == 0) continue;
+                int[] global = new int[reduced.length];
+                for (int j = 0; j < reduced.length; j++) {
+                    global[j] = cells[reduced[j]];
+                    MinesweeperSolver.union(parent, reduced[0], reduced[j]);
+                }
+                live.add(global);
+                liveTargets.add(MinesweeperSolver.reducedTarget(constraints[c], targets[c], fixed));
+            }
+            Map<Integer, List<Integer>> groupCells = new HashMap<>();
+            Map<Integer, List<Integer>> groupConstraints = new HashMap<>();
+            for (int i = 0; i < cells.length; i++) {
+                if (fixed[i] == MinesweeperSolver.STATE_UNKNOWN) {
+                    groupCells.computeIfAbsent(MinesweeperSolver.find(parent, i), key -> new ArrayList<>()).add(cells[i]);
+                }
+            }
+            for (int c = 0; c < live.size(); c++) {
+                int local = Arrays.binarySearch(cells, live.get(c)[0]);
+                groupConstraints.computeIfAbsent(MinesweeperSolver.find(parent, local), key -> new ArrayList<>()).add(c);
+            }
+            for (Map.Entry<Integer, List<Integer>> entry : groupCells.entrySet()) {
+                List<Integer> constraintIds = groupConstraints.get(entry.getKey());
+                PartKey key = new PartKey(entry.getValue(), constraintIds, live, liveTargets);
+                MinesweeperSolver.Component part = partCache.get(key);
+                if (part != null) {
+                    partsReused++;
+                } else {
+                    part = new MinesweeperSolver.Component(entry.getValue(), constraintIds, live, liveTargets);
+                    if (!part.enumerate(cancelled)) {
+                        return false;
+                    }
+                }
+                parts.add(part);
+                partKeys.add(key);
+            }
+            solved = true;
+            return true;
+        }
+    }
+
+    // PartKey // 구성요소의 변수와 제약을 그대로 담은 키 // 같으면 열거 결과도 같음
+    private static final class PartKey {
+        private final int[] data;
+        private final int hash;
+
+        PartKey(List<Integer> cells, List<Integer> constraintIds, List<int[]> live, List<Integer> liveTargets) {
+            int length = 1 + cells.size();
+            for (int c : constraintIds) length += 2 + live.get(c).length;
+            data = new int[length];
+            int next = 0;
+            data[next++] = cells.size();
+            for (int cell : cells) data[next++] = cell;
+            for (int c : constraintIds) {
+                data[next++] = liveTargets.get(c);
+                data[next++] = live.get(c).length;
+                for (int cell : live.get(c)) data[next++] = cell;
+            }
+            hash = Arrays.hashCode(data);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof PartKey && Arrays.equals(data, ((PartKey) other).data);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    public static class Snapshot {
+        private final int[] cells;
+        private final double[] probabilities;
+        private final int[] safeCells;
+        private final int[] mines;
+        private final int interiorCells;
+        private final double interiorProbability;
+        private final int regionCount;
+
+        // Snapshot 생성자 // 경계 셀과 확률을 셀 인덱스 순으로 정렬해 보관 // 보드 크기가 아닌 경계 크기만큼만 복사
+        Snapshot(List<Region> regions, int[] state, double[] probabilities, int frontierCells, int interiorCells,
+                 double interiorProbability) {
+            long[] keys = new long[frontierCells];
+            double[] values = new double[frontierCells];
+            int count = 0;
+            int safeCount = 0;
+            int mineCount = 0;
+            for (Region region : regions) {
+                for (int i = 0; i < region.cells.length; i++) {
+                    int cell = region.cells[i];
+                    keys[count] = ((long) cell << 32) | count;
+                    values[count++] = probabilities[cell];
+                    if (state[cell] == MinesweeperSolver.STATE_SAFE) safeCount++;
+                    else if (state[cell] == MinesweeperSolver.STATE_MINE) mineCount++;
+                }
+            }
+            Arrays.sort(keys);
+            this.cells = new int[count];
+            this.probabilities = new double[count];
+            for (int i = 0; i < count; i++) {
+                this.cells[i] = (int) (keys[i] >>> 32);
+                this.probabilities[i] = values[(int) keys[i]];
+            }
+            this.safeCells = new int[safeCount];
+            this.mines = new int[mineCount];
+            safeCount = 0;
+            mineCount = 0;
+            for (Region region : regions) {
+                for (int cell : region.cells) {
+                    if (state[cell] == MinesweeperSolver.STATE_SAFE) safeCells[safeCount++] = cell;
+                    else if (state[cell] == MinesweeperSolver.STATE_MINE) mines[mineCount++] = cell;
+                }
+            }
+            this.interiorCells = interiorCells;
+            this.interiorProbability = interiorProbability;
+            this.regionCount = regions.size();
+        }
+
+        // getProbability // 미공개 셀의 지뢰 확률 반환 // 경계가 아니면 내부 확률, 공개/깃발 여부는 호출하는 쪽에서 확인
+        public double getProbability(int index) {
+            int position = Arrays.binarySearch(cells, index);
+            return position >= 0 ? probabilities[position] : interiorProbability;
+        }
+
+        // getSafeCells // 확실히 안전한 경계 셀 반환
+        public int[] getSafeCells() {
+            return safeCells;
+        }
+
+        // getMines // 확실한 지뢰 경계 셀 반환
+        public int[] getMines() {
+            return mines;
+        }
+
+        // getFrontierCells // 경계 셀 수 반환
+        public int getFrontierCells() {
+            return cells.length;
+        }
+
+        // getInteriorProbability // 경계에 닿지 않은 미확인 셀의 지뢰 확률 반환 // 그런 셀이 없으면 NaN
+        public double getInteriorProbability() {
+            return interiorProbability;
+        }
+
+        // getRegionCount // 경계 영역 수 반환
+        public int getRegionCount() {
+            return regionCount;
+        }
+
+        // bestGuess // 확률이 가장 낮은 미공개 셀 반환 // 스냅샷 이후 공개되거나 깃발을 꽂은 셀은 model로 걸러냄
+        // 내부 셀이 더 안전하면 경계가 아닌 첫 미확인 셀을 찾음, 후보가 없으면 -1
+        public int bestGuess(BoardModel model) {
+            int best = -1;
+            for (int i = 0; i < cells.length; i++) {
+                int index = cells[i];
+                if (model.isRevealed(index) || model.isFlagged(index)) continue;
+                if (best < 0 || probabilities[i] < getProbability(best)) {
+                    best = index;
+                }
+            }
+            if (interiorCells > 0 && (best < 0 || interiorProbability < getProbability(best))) {
+                for (int index = 0; index < model.size(); index++) {
+                    if (!model.isRevealed(index) && !model.isFlagged(index)
+                            && Arrays.binarySearch(cells, index) < 0) {
+                        return index;
+                    }
+                }
+            }
+            return best;
+        }
+    }
+}
@@ -2,78 +2,128 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
-import java.io.BufferedReader;
-import java.io.BufferedWriter;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 public class GameBoard extends JPanel {
     private static final long serialVersionUID = 1L;
+    private static final Logger LOGGER = Logger.getLogger(GameBoard.class.getName());
+    private static final int CELL_SIZE = 30;
+    private static final int BUTTON_MODE_MAX_CELLS = 256;
     private static final Font EMOJI_FONT = new Font("Noto Color Emoji", Font.PLAIN, 16);
     private static final Font NUMBER_FONT = new Font("맑은 고딕", Font.BOLD, 14);
     private final int rows;
     private final int cols;
+    private final int mines;
+    private final BoardModel model;
     private final Cell[][] cells;
+    private final BoardCanvas canvas;
+    private final RevealEngine revealEngine;
+    private MinePlacer minePlacer;
+    private NoGuessGenerator noGuessGenerator;
+    private MoveJournal journal;
+    private BoardHistory history;
+    private ProbabilityService probabilityService;
+    private boolean noGuess;
+    private boolean generating;
+    private int[] safeZone = new int[0];
     private final Runnable winCallback;
     private final Runnable gameOverCallback;
     private boolean gameOver;
     private boolean firstClick = true;
-    private Color cellColor = Color.LIGHT_GRAY; 
 
-    // GameBoard 생성자 // 게임 보드 초기화 // 지뢰 배치 및 인접 지뢰 계산
+    // RenderMode // 보드 렌더링 방식 // 셀마다 버튼을 두는 방식과 하나의 컴포넌트가 그리는 방식
+    public enum RenderMode {
+        BUTTONS,
+        CANVAS
+    }
+
+    // GameBoard 생성자 // 무작위 시드로 게임 보드 초기화
     public GameBoard(int rows, int cols, int mines, Runnable winCallback, Runnable gameOverCallback) {
-        this.rows = rows;
-        this.cols = cols;
-        this.cells = new Cell[rows][cols];
+        this(rows, cols, mines, MinePlacer.newSeed(), winCallback, gameOverCallback);
+    }
+
+    // GameBoard 생성자 // 보드 크기에 맞는 렌더링 방식으로 초기화
+    public GameBoard(int rows, int cols, int mines, long seed, Runnable winCallback, Runnable gameOverCallback) {
+        this(rows, cols, mines, seed, defaultRenderMode(rows, cols), winCallback, gameOverCallback);
+    }
+
+    // GameBoard 생성자 // 게임 보드 초기화 // 시드로 지뢰 배치 및 인접 지뢰 계산
+    // 같은 시드와 같은 첫 클릭은 항상 같은 보드를 만듦
+    public GameBoard(int rows, int cols, int mines, long seed, RenderMode renderMode,
+                     Runnable winCallback, Runnable gameOverCallback) {
+        this(BoardPool.generate(rows, cols, mines, seed), renderMode, winCallback, gameOverCallback);
+    }
+
+    // GameBoard 생성자 // 미리 생성한 보드로 초기화 // 보드 풀에서 꺼낸 보드를 즉시 화면에 붙임
+    public GameBoard(BoardPool.Entry entry, Runnable winCallback, Runnable gameOverCallback) {
+        this(entry, defaultRenderMode(entry.getModel().getRows(), entry.getModel().getCols()),
+                winCallback, gameOverCallback);
+    }
+
+    // GameBoard 생성자 // 지뢰가 배치된 모델과 그 배치기로 화면 구성
+    private GameBoard(BoardPool.Entry entry, RenderMode renderMode,
+                      Runnable winCallback, Runnable gameOverCallback) {
+        this.model = entry.getModel();
+        this.rows = model.getRows();
+        this.cols = model.getCols();
+        this.mines = model.getMineCount();
+        this.revealEngine = new RevealEngine(model);
+        this.minePlacer = entry.getPlacer();
         this.winCallback = winCallback;
         this.gameOverCallback = gameOverCallback;
         this.gameOver = false;
 
-        int maxDim = Math.max(rows, cols);
-        setLayout(new GridLayout(maxDim, maxDim, 1, 1));
         setBorder(BorderFactory.createLineBorder(Color.BLACK, 2));
         setBackground(Color.GRAY); // Change background color to gray
 
-        int cellSize = 30;
+        if (renderMode == RenderMode.CANVAS) {
+            this.cells = null;
+            this.canvas = new BoardCanvas(model, CELL_SIZE, this::handleCellClick, this::handleRightClick);
+            // 큰 보드는 스크롤 패널 안에서 보이는 영역만 그림
+            JScrollPane scrollPane = new JScrollPane(canvas);
+            scrollPane.setBorder(BorderFactory.createEmptyBorder());
+            setLayout(new BorderLayout());
+            add(scrollPane, BorderLayout.CENTER);
+        } else {
+            this.cells = new Cell[rows][cols];
+            this.canvas = null;
+            setLayout(new GridLayout(rows, cols, 1, 1));
+            setPreferredSize(new Dimension(CELL_SIZE * cols, CELL_SIZE * rows));
+            initializeCells(CELL_SIZE);
+        }
+    }
 
-        int boardSize = cellSize * maxDim;
-        setPreferredSize(new Dimension(boardSize, boardSize));
 
-        initializeCells(maxDim, cellSize);
-        placeMines(mines);
-        calculateAdjacentMines();
+    // defaultRenderMode // 기본 렌더링 방식 // 셀이 많은 보드는 하나의 컴포넌트로 그림
+    public static RenderMode defaultRenderMode(int rows, int cols) {
+        return (long) rows * cols > BUTTON_MODE_MAX_CELLS ? RenderMode.CANVAS : RenderMode.BUTTONS;
     }
 
     // initializeCells // 셀 초기화 // 셀 클릭 이벤트 리스너 추가
-    private void initializeCells(int maxDim, int cellSize) {
-        for (int row = 0; row < maxDim; row++) {
-            for (int col = 0; col < maxDim; col++) {
-                Cell cell;
-                if (row < rows && col < cols) {
-                    cell = new Cell(row, col);
-                    cells[row][col] = cell;
-                } else {
-                    // Create dummy cells for padding
-                    cell = new Cell(row, col);
-                    cell.setEnabled(false);
-                    cell.setBackground(Color.DARK_GRAY);
-                }
+    private void initializeCells(int cellSize) {
+        Dimension size = new Dimension(cellSize, cellSize);
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                Cell cell = new Cell(model, row, col);
+                cells[row][col] = cell;
                 
-                cell.setPreferredSize(new Dimension(cellSize, cellSize));
-                cell.setMinimumSize(new Dimension(cellSize, cellSize));
-                cell.setMaximumSize(new Dimension(cellSize, cellSize));
+                cell.setPreferredSize(size);
+                cell.setMinimumSize(size);
+                cell.setMaximumSize(size);
                 cell.setFont(NUMBER_FONT); // Ensure font supports text
                 
-                if (row < rows && col < cols) {
-                    cell.addActionListener(e -> handleCellClick((Cell)e.getSource()));
-                    cell.addMouseListener(new MouseAdapter() {
-                        @Override
-                        public void mouseClicked(MouseEvent e) {
-                            if (SwingUtilities.isRightMouseButton(e)) {
-                                handleRightClick((Cell)e.getSource());
-                            }
+                cell.addActionListener(e -> handleCellClick(((Cell) e.getSource()).getIndex()));
+                cell.addMouseListener(new MouseAdapter() {
+                    @Override
+                    public void mouseClicked(MouseEvent e) {
+                        if (SwingUtilities.isRightMouseButton(e)) {
+                            handleRightClick(((Cell) e.getSource()).getIndex());
                         }
-                    });
-                }
+                    }
+                });
                 
                 add(cell);
             }
@@ -81,145 +131,151 @@ public class GameBoard extends JPanel {
     }
 
     // handleRightClick // 우클릭 처리 // 깃발 토글
-    private void handleRightClick(Cell cell) {
-        if (gameOver) return; 
-        cell.toggleFlag();
+    private void handleRightClick(int index) {
+        if (gameOver || generating) return; 
+        if (model.toggleFlag(index)) {
+            recordMove(MoveJournal.FLAG, index);
+            if (history != null) {
+                history.recordFlag(index);
+            }
+            if (probabilityService != null) {
+                probabilityService.cellChanged(model, index);
+            }
+            refreshCell(index);
+        }
     }
 
     // handleCellClick // 셀 클릭 처리 // 첫 클릭 시 지뢰 재배치 및 최적화
-    private void handleCellClick(Cell cell) {
-        if (gameOver || cell.isFlagged()) return; 
+    private void handleCellClick(int index) {
+        if (gameOver || generating || model.isFlagged(index)) return; 
+
+        if (firstClick && noGuessGenerator != null) {
+            generateNoGuessBoard(index);
+            return;
+        }
 
         if (firstClick) {
             firstClick = false;
-            if (cell.isMine()) {
-                relocateMine(cell);
-            }
-            optimizeMineLayout(cell);
+            optimizeMineLayout(index);
+            recordMove(MoveJournal.FIRST_CLICK, index);
         }
 
-        if (cell.isMine()) {
-            cell.reveal(cellColor); 
+        if (model.isMine(index)) {
+            model.setRevealed(index, true);
+            recordMove(MoveJournal.REVEAL, index);
+            if (history != null) {
+                history.recordMineHit(index);
+            }
+            if (probabilityService != null) {
+                probabilityService.cellChanged(model, index);
+            }
+            refreshCell(index);
             revealAllMines();
             gameOver = true;
             gameOverCallback.run();
         } else {
-            cell.reveal(cellColor);
-            if (cell.getAdjacentMines() == 0) {
-                revealAdjacentCells(cell);
+            revealAdjacentCells(index);
+            recordMove(MoveJournal.REVEAL, index);
+            if (history != null) {
+                history.recordReveal(revealEngine.getRevealed(), revealEngine.getRevealedCount());
+            }
+            if (probabilityService != null) {
+                probabilityService.cellsChanged(model, revealEngine.getRevealed(), revealEngine.getRevealedCount());
             }
             checkWinCondition();
         }
     }
 
-    // relocateMine // 지뢰 재배치 // 인접 지뢰 수 재계산
-    private void relocateMine(Cell cell) {
-        cell.setMine(false);
-        placeMines(1);
-        calculateAdjacentMines(); 
-    }
-
-    // optimizeMineLayout // 지뢰 배치 최적화 // 50-50 상황 해결
-    private void optimizeMineLayout(Cell cell) {
-        int row = cell.getRow();
-        int col = cell.getCol();
-        
-        for (int dRow = -1; dRow <= 1; dRow++) {
-            for (int dCol = -1; dCol <= 1; dCol++) {
-                int nRow = row + dRow;
-                int nCol = col + dCol;
-                if (isValidCell(nRow, nCol) && cells[nRow][nCol].isMine()) {
-                    relocateMine(cells[nRow][nCol]);
+    // generateNoGuessBoard // 추측 없는 보드 생성 // 첫 클릭 위치 기준으로 작업자 풀에서 생성 후 EDT에서 적용
+    private void generateNoGuessBoard(int index) {
+        generating = true;
+        setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+        noGuessGenerator.generate(rows, cols, mines, index).whenComplete((result, error) ->
+            SwingUtilities.invokeLater(() -> {
+                generating = false;
+                setCursor(Cursor.getDefaultCursor());
+                if (gameOver) return;
+                firstClick = false;
+                if (result != null) {
+                    applySeed(result.getSeed(), index);
+                    noGuess = result.isNoGuess();
+                    if (journal != null) {
+                        journal.recordBoardSeed(index, result.getSeed(), noGuess);
+                    }
+                    LOGGER.info(String.format("No-guess board: found=%b, attempts=%d, %.0f attempts/s, %d ms",
+                            result.isNoGuess(), result.getAttempts(), result.getAttemptsPerSecond(),
+                            result.getElapsedNanos() / 1_000_000));
+                } else {
+                    LOGGER.log(Level.WARNING, "No-guess generation failed", error);
+                    optimizeMineLayout(index);
+                    recordMove(MoveJournal.FIRST_CLICK, index);
                 }
-            }
-        }
-        
-        checkAndFixFiftyFiftySituations();
+                handleCellClick(index);
+            }));
     }
 
-    // checkAndFixFiftyFiftySituations // 50-50 상황 확인 및 해결 // 지뢰 재배치
-    private void checkAndFixFiftyFiftySituations() {
-        for (int row = 0; row < rows; row++) {
-            for (int col = 0; col < cols; col++) {
-                if (isFiftyFiftySituation(row, col)) {
-                    fixFiftyFiftySituation(row, col);
-                }
-            }
-        }
+    // applySeed // 시드로 지뢰 다시 배치 // 첫 클릭 주변 3x3을 제외하고 배치
+    private void applySeed(long seed, int firstIndex) {
+        model.clearMines();
+        minePlacer = new MinePlacer(seed);
+        safeZone = MinePlacer.neighborhood(model, firstIndex);
+        minePlacer.placeMines(model, mines, safeZone);
+    }
+
+    // optimizeMineLayout // 지뢰 배치 최적화 // 첫 클릭 주변 3x3을 비우고 50-50 상황 해결
+    private void optimizeMineLayout(int firstIndex) {
+        safeZone = minePlacer.prepareFirstClick(model, firstIndex);
     }
 
-    // isFiftyFiftySituation // 50-50 상황인지 확인 // 인접 셀의 지뢰 및 미확인 셀 수 계산
-    private boolean isFiftyFiftySituation(int row, int col) {
-        if (!isValidCell(row, col) || cells[row][col].isMine()) {
-            return false;
+    // revealAdjacentCells // 인접 셀 공개 // 인접 지뢰가 없는 경우 RevealEngine으로 반복 공개 후 화면 갱신
+    private void revealAdjacentCells(int start) {
+        int count = revealEngine.reveal(start);
+        int[] revealed = revealEngine.getRevealed();
+        if (canvas != null) {
+            canvas.repaintCells(revealed, count);
+            return;
         }
-        
-        int unknownCells = 0;
-        int mineCount = 0;
-        
-        for (int dRow = -1; dRow <= 1; dRow++) {
-            for (int dCol = -1; dCol <= 1; dCol++) {
-                if (dRow == 0 && dCol == 0) continue;
-                int nRow = row + dRow;
-                int nCol = col + dCol;
-                if (isValidCell(nRow, nCol)) {
-                    if (!cells[nRow][nCol].isRevealed()) {
-                        unknownCells++;
-                    }
-                    if (cells[nRow][nCol].isMine()) {
-                        mineCount++;
-                    }
-                }
-            }
+        for (int i = 0; i < count; i++) {
+            int index = revealed[i];
+            cells[model.rowOf(index)][model.colOf(index)].showRevealed();
         }
-        
-        return unknownCells == 2 && mineCount == 1;
-    }
-
-    // fixFiftyFiftySituation // 50-50 상황 해결 // 인접 지뢰 재배치
-    private void fixFiftyFiftySituation(int row, int col) {
-        // 50-50 상황을 해결하기 위해 지뢰 재배치
-        for (int dRow = -1; dRow <= 1; dRow++) {
-            for (int dCol = -1; dCol <= 1; dCol++) {
-                int nRow = row + dRow;
-                int nCol = col + dCol;
-                if (isValidCell(nRow, nCol) && cells[nRow][nCol].isMine()) {
-                    relocateMine(cells[nRow][nCol]);
-                    return;
-                }
-            }
+    }
+
+    // recordMove // 이동 기록 // 모델에 반영한 뒤 호출해야 체크포인트가 기록 위치와 일치함
+    private void recordMove(byte type, int index) {
+        if (journal != null) {
+            journal.record(type, index);
         }
     }
 
-    // isValidCell // 유효한 셀인지 확인 // 행과 열 범위 내인지 확인
-    private boolean isValidCell(int row, int col) {
-        return row >= 0 && row < rows && col >= 0 && col < cols;
-    }
-
-    // revealAdjacentCells // 인접 셀 공개 // 인접 지뢰가 없는 경우 재귀적으로 공개
-    private void revealAdjacentCells(Cell cell) {
-        int row = cell.getRow();
-        int col = cell.getCol();
-        for (int dRow = -1; dRow <= 1; dRow++) {
-            for (int dCol = -1; dCol <= 1; dCol++) {
-                int nRow = row + dRow;
-                int nCol = col + dCol;
-                if (nRow >= 0 && nRow < cells.length &&
-                    nCol >= 0 && nCol < cells[0].length) {
-                    Cell adjacentCell = cells[nRow][nCol];
-                    if (!adjacentCell.isRevealed() && !adjacentCell.isFlagged()) {
-                        adjacentCell.reveal(GameResources.EMPTY_SPACE_COLOR);
-                        if (adjacentCell.getAdjacentMines() == 0) {
-                            revealAdjacentCells(adjacentCell);
-                        }
-                    }
-                }
+    // refreshCell // 셀 화면 갱신 // 모델 상태를 버튼 또는 캔버스에 반영
+    private void refreshCell(int index) {
+        if (canvas != null) {
+            canvas.repaintCell(index);
+        } else {
+            cells[model.rowOf(index)][model.colOf(index)].refresh();
+        }
+    }
+
+    // refreshAll // 전체 화면 갱신 // 저장된 상태를 불러온 뒤 호출
+    private void refreshAll() {
+        if (canvas != null) {
+            canvas.repaint();
+            return;
+        }
+        for (Cell[] row : cells) {
+            for (Cell cell : row) {
+                cell.refresh();
             }
         }
     }
 
     // revealAllMines // 모든 지뢰 공개 // 게임 오버 시 호출
     private void revealAllMines() {
+        if (canvas != null) {
+            canvas.setShowMines(true);
+            return;
+        }
         for (Cell[] row : cells) {
             for (Cell cell : row) {
                 if (cell.isMine()) {
@@ -239,69 +295,59 @@ public class GameBoard extends JPanel {
         }
     }
 
-    // checkWinCondition // 승리 조건 확인 // 모든 지뢰 외 셀이 공개되었는지 확인
-    private void checkWinCondition() {
+    // hideMines // 게임 오버 표시 해제 // 지뢰를 밟은 이동을 되돌린 뒤 호출
+    private void hideMines() {
+        if (canvas != null) {
+            canvas.setShowMines(false);
+            return;
+        }
         for (Cell[] row : cells) {
             for (Cell cell : row) {
-                if (!cell.isMine() && !cell.isRevealed()) return;
+                if (cell.isMine() || cell.isFlagged()) {
+                    cell.refresh();
+                }
             }
         }
+    }
+
+    // checkWinCondition // 승리 조건 확인 // 남은 안전 셀 카운터로 모든 지뢰 외 셀이 공개되었는지 확인
+    private void checkWinCondition() {
+        if (!model.isCleared()) return;
         gameOver = true;
         winCallback.run();
     }
 
-    // placeMines // 지뢰 배치 // 무작위 위치에 지뢰 배치
-    private void placeMines(int mines) {
-        int placed = 0;
-        while (placed < mines) {
-            int row = (int) (Math.random() * cells.length);
-            int col = (int) (Math.random() * cells[0].length);
-
-            if (!cells[row][col].isMine()) {
-                cells[row][col].setMine(true);
-                placed++;
-            }
+    // setCellColor // 셀 색상 설정 // 공개되지 않은 셀의 색상 변경
+    public void setCellColor(Color color) {
+        if (canvas != null) {
+            canvas.setCellColor(color);
+            return;
         }
-    }
-
-    // calculateAdjacentMines // 인접 지뢰 수 계산 // 각 셀의 인접 지뢰 수 설정
-    private void calculateAdjacentMines() {
-        for (int row = 0; row < cells.length; row++) {
-            for (int col = 0; col < cells[0].length; col++) {
-                if (!cells[row][col].isMine()) {
-                    int count = countAdjacentMines(row, col);
-                    cells[row][col].setAdjacentMines(count);
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                if (!model.isRevealed(model.index(row, col))) {
+                    cells[row][col].setCellColor(color);
                 }
             }
         }
     }
 
-    // countAdjacentMines // 인접 지뢰 수 세기 // 인접 셀의 지뢰 수 계산
-    private int countAdjacentMines(int row, int col) {
-        int count = 0;
-        for (int dRow = -1; dRow <= 1; dRow++) {
-            for (int dCol = -1; dCol <= 1; dCol++) {
-                int nRow = row + dRow;
-                int nCol = col + dCol;
-                if (nRow >= 0 && nRow < cells.length && 
-                    nCol >= 0 && nCol < cells[0].length &&
-                    cells[nRow][nCol].isMine()) {
-                    count++;
-                }
-            }
+    // isZoomable // 확대/축소 지원 여부 // 캔버스 렌더링 방식에서만 지원
+    public boolean isZoomable() {
+        return canvas != null;
+    }
+
+    // zoomIn // 보드 확대 // 보이는 영역 중앙 기준
+    public void zoomIn() {
+        if (canvas != null) {
+            canvas.zoom(1, null);
         }
-        return count;
     }
 
-    // setCellColor // 셀 색상 설정 // 공개되지 않은 셀의 색상 변경
-    public void setCellColor(Color color) {
-        this.cellColor = color;
-        for (int row = 0; row < rows; row++) {
-            for (int col = 0; col < cols; col++) {
-                if (!cells[row][col].isRevealed()) {
-                    cells[row][col].setCellColor(color);
-                }
-            }
+    // zoomOut // 보드 축소 // 충분히 작아지면 글자 없이 색상만 그림
+    public void zoomOut() {
+        if (canvas != null) {
+            canvas.zoom(-1, null);
         }
     }
 
@@ -315,53 +361,117 @@ public class GameBoard extends JPanel {
         return firstClick;
     }
 
+    // setNoGuessGenerator // 추측 없는 보드 모드 설정 // null이면 일반 모드
+    public void setNoGuessGenerator(NoGuessGenerator generator) {
+        this.noGuessGenerator = generator;
+    }
+
+    // setMoveJournal // 이동 저널 연결 // 클릭, 깃발, 첫 클릭 재배치를 기록
+    public void setMoveJournal(MoveJournal journal) {
+        this.journal = journal;
+    }
+
+    // setHistory // 되돌리기 기록 연결 // 연습 모드에서만 사용, null이면 되돌리기 불가
+    public void setHistory(BoardHistory history) {
+        this.history = history;
+    }
+
+    // setProbabilityService // 지뢰 확률 분석 연결 // 공개, 깃발, 되돌리기로 바뀐 셀만 전달
+    public void setProbabilityService(ProbabilityService probabilityService) {
+        this.probabilityService = probabilityService;
+    }
+
+    // undo // 마지막 이동 되돌리기 // 바뀐 셀만 갱신, 끝난 게임을 되돌리면 다시 플레이 가능
+    public boolean undo() {
+        if (history == null || generating || !history.canUndo()) return false;
+        applyHistory(history.undo());
+        return true;
+    }
+
+    // redo // 되돌린 이동 다시 실행 // 다시 지뢰를 밟거나 승리하면 콜백 호출
+    public boolean redo() {
+        if (history == null || generating || !history.canRedo()) return false;
+        applyHistory(history.redo());
+        return true;
+    }
+
+    // applyHistory // 되돌리기/다시 실행 결과를 화면과 게임 상태에 반영
+    private void applyHistory(int[] changed) {
+        boolean wasOver = gameOver;
+        boolean lost = history.isMineRevealed();
+        for (int index : changed) {
+            refreshCell(index);
+        }
+        if (probabilityService != null) {
+            probabilityService.cellsChanged(model, changed, changed.length);
+        }
+        if (wasOver && !lost) {
+            hideMines();
+        }
+        gameOver = lost || model.isCleared();
+        if (!wasOver && lost) {
+            revealAllMines();
+            gameOverCallback.run();
+        } else if (!wasOver && gameOver) {
+            winCallback.run();
+        }
+    }
+
+    // restore // 저널에서 복원한 진행 상태 반영 // 첫 클릭 여부와 보드 생성 방식을 맞추고 화면 갱신
+    public void restore(MoveJournal.Replay replay) {
+        firstClick = !replay.isFirstClickDone();
+        noGuess = replay.isNoGuess();
+        refreshAll();
+    }
+
+    // isNoGuess // 추측 없이 풀 수 있는 보드로 생성되었는지 여부
+    public boolean isNoGuess() {
+        return noGuess;
+    }
+
+    // getSeed // 지뢰 배치 시드 반환 // 리플레이 및 검증용으로 기록
+    public long getSeed() {
+        return minePlacer.getSeed();
+    }
+
+    // getModel // 보드 모델 반환 // Swing 없이 보드 상태에 접근
+    public BoardModel getModel() {
+        return model;
+    }
+
+    // isGameOver // 게임 종료 여부 반환
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
     // setGameOver // 게임 오버 여부 설정 // 게임 오버 여부 변경
     public void setGameOver(boolean value) {
         this.gameOver = value;
     }
 
-    // saveBoardState // 보드 상태 저장 // 셀 상태를 파일에 저장
-    public void saveBoardState(BufferedWriter writer) throws IOException {
-        for (int row = 0; row < rows; row++) {
-            for (int col = 0; col < cols; col++) {
-                Cell cell = cells[row][col];
-                writer.write(cell.isMine() + " ");
-                writer.write(cell.isFlagged() + " ");
-                writer.write(cell.isRevealed() + " ");
-                writer.write(cell.getAdjacentMines() + "\n");
-            }
-        }
+    // saveBoardState // 보드 상태 저장 // 지뢰/깃발/공개 비트 평면을 이진 형식으로 저장 (런 길이 압축)
+    public void saveBoardState(Path path) throws IOException {
+        BoardFile.save(model, path, true);
     }
 
-    // loadBoardState // 보드 상태 로드 // 파일에서 셀 상태를 불러옴
-    public void loadBoardState(BufferedReader reader) throws IOException {
-        for (int row = 0; row < rows; row++) {
-            for (int col = 0; col < cols; col++) {
-                Cell cell = cells[row][col];
-                String[] cellInfo = reader.readLine().split(" ");
-                boolean isMine = Boolean.parseBoolean(cellInfo[0]);
-                boolean isFlagged = Boolean.parseBoolean(cellInfo[1]);
-                boolean isRevealed = Boolean.parseBoolean(cellInfo[2]);
-                int adjacentMines = Integer.parseInt(cellInfo[3]);
-                
-                cell.setMine(isMine);
-                cell.setAdjacentMines(adjacentMines);
-                if (isFlagged) {
-                    cell.setFlagged(true);
-                }
-                if (isRevealed) {
-                    cell.reveal(cellColor);
-                } else {
-                    cell.setCellColor(cellColor);
-                }
-            }
+    // loadBoardState // 보드 상태 로드 // 파일의 비트 평면으로 모델을 교체하고 인접 지뢰 수는 다시 계산
+    public void loadBoardState(Path path) throws IOException {
+        BoardModel loaded = BoardFile.load(path);
+        if (loaded.getRows() != rows || loaded.getCols() != cols) {
+            throw new IOException("Board size mismatch: " + loaded.getRows() + "x" + loaded.getCols());
         }
+        model.setBits(loaded.mineBits(), loaded.flagBits(), loaded.revealedBits());
+        refreshAll();
     }
 
     @Override
     // setEnabled // 보드 활성화/비활성화 // 모든 셀의 활성화/비활성화 설정
     public void setEnabled(boolean enabled) {
         super.setEnabled(enabled);
+        if (canvas != null) {
+            canvas.setEnabled(enabled);
+            return;
+        }
         for (Cell[] row : cells) {
             for (Cell cell : row) {
                 cell.setEnabled(enabled);
@@ -9,7 +9,12 @@ public final class GameResources {
 
     public static final String RESOURCES_PATH = "./resources/";
     public static final String USER_DATA_FILE = RESOURCES_PATH + "user_mileage_data.txt";
+    public static final String USER_DATABASE_FILE = RESOURCES_PATH + "user_mileage.db";
     public static final String GAME_RESULTS_FILE = RESOURCES_PATH + "game_results.txt";
+    public static final String GAME_JOURNAL_FILE = RESOURCES_PATH + "game_journal.bin";
+    public static final String GAME_CHECKPOINT_FILE = RESOURCES_PATH + "game_checkpoint.bin";
+    public static final String REPLAYS_PATH = RESOURCES_PATH + "replays/";
+    public static final String ENDLESS_PATH = RESOURCES_PATH + "endless/";
     public static final String BACKGROUND_MUSIC_FILE = RESOURCES_PATH + "background_music.wav";
     public static final String LOGO_FILE = RESOURCES_PATH + "mine.jpg";
 
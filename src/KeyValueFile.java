@@ -0,0 +1,491 @@
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+public class KeyValueFile implements Closeable {
+    private static final Logger LOGGER = Logger.getLogger(KeyValueFile.class.getName());
+    private static final int MAGIC = 0x4D534B56; // "MSKV"
+    private static final byte VERSION = 1;
+    private static final int HEADER_BYTES = 4 + 1 + 8;
+    private static final int RECORD_HEADER_BYTES = 4 + 4;
+    private static final byte PUT = 1;
+    private static final byte COMMIT = 2;
+    // 체크포인트 뒤에 바뀐 키가 이만큼 쌓이면 색인을 다시 써서 다음 시작 때 훑을 꼬리를 짧게 유지
+    private static final int CHECKPOINT_KEYS = 4096;
+    // 덮어써서 쓸모없어진 바이트가 살아 있는 바이트보다 많고 이 크기를 넘으면 파일을 새로 씀
+    private static final long COMPACT_MIN_GARBAGE_BYTES = 1L << 20;
+
+    // 파일 형식 (빅 엔디언)
+    //   헤더: int magic "MSKV", byte version, long 세대 (압축할 때마다 1씩 증가)
+    //   기록: int 내용 길이, int 내용 CRC32, 내용
+    //     PUT: byte 1, long 트랜잭션 번호, UTF 키, 값 바이트(내용 끝까지)
+    //     COMMIT: byte 2, long 트랜잭션 번호 // 이 기록까지 써져야 그 트랜잭션의 PUT이 유효
+    // 색인(<파일>.idx)은 CustomerIndex 형식으로, 체크포인트 시점의 파일 크기까지 각 키의 최신 값 위치를 담음
+    // 시작할 때는 색인을 열고 그 뒤의 꼬리만 훑어 메모리의 변경분(delta)을 만듦
+    // 커밋되지 않았거나 잘린 꼬리는 마지막 COMMIT 뒤에서 잘라냄
+    // 잠금: 읽기와 커밋은 읽기 잠금을 함께 잡음 // 커밋은 파일 끝에 붙이는 동안만 appendLock을 잡고 fsync는 그 밖에서 함
+    // 체크포인트, 압축, 닫기는 쓰기 잠금으로 진행 중인 커밋이 모두 끝난 뒤에 함
+
+    private final Path path;
+    private final Path indexPath;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // 파일 끝 위치를 정하고 기록을 쓰는 동안만 잡음 // 커밋끼리는 이 구간만 차례로 지나감
+    private final ReentrantLock appendLock = new ReentrantLock();
+    // 체크포인트 뒤에 쓴 키의 최신 값 위치
+    private final Map<String, CustomerIndex.Location> delta = new ConcurrentHashMap<>();
+    private final AtomicLong garbage = new AtomicLong();
+    private final AtomicInteger count = new AtomicInteger();
+    private FileChannel channel;
+    private CustomerIndex index;
+    private long generation;
+    private volatile long size;
+    private long nextTransaction = 1;
+
+    // KeyValueFile 생성자 // open으로만 생성
+    private KeyValueFile(Path path) {
+        this.path = path;
+        this.indexPath = path.resolveSibling(path.getFileName() + ".idx");
+    }
+
+    // open // 파일과 색인을 열고 색인 뒤의 꼬리를 다시 읽음 // 파일이 없으면 새로 만듦
+    // 색인이 없거나 세대가 다르면 파일 전체를 훑음
+    public static KeyValueFile open(Path path) throws IOException {
+        KeyValueFile file = new KeyValueFile(path);
+        if (!Files.exists(path) || Files.size(path) < HEADER_BYTES) {
+            if (path.toAbsolutePath().getParent() != null) {
+                Files.createDirectories(path.toAbsolutePath().getParent());
+            }
+            writeHeader(path, 1);
+        }
+        file.channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            file.recover();
+        } catch (IOException e) {
+            file.close();
+            throw e;
+        }
+        return file;
+    }
+
+    // writeHeader // 헤더만 있는 새 파일 생성 // 임시 파일에 쓰고 원자적으로 교체
+    private static void writeHeader(Path path, long generation) throws IOException {
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        header.putInt(MAGIC).put(VERSION).putLong(generation).flip();
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (header.hasRemaining()) {
+                out.write(header);
+            }
+            out.force(true);
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // recover // 헤더 확인, 색인 열기, 꼬리 다시 읽기, 커밋되지 않은 꼬리 잘라내기
+    private void recover() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        while (header.hasRemaining() && channel.read(header, header.position()) >= 0) {
+            // 헤더 끝까지 읽기
+        }
+        header.flip();
+        if (header.remaining() < HEADER_BYTES || header.getInt() != MAGIC || header.get() != VERSION) {
+            throw new IOException("Not a key-value file: " + path);
+        }
+        generation = header.getLong();
+        long fileSize = channel.size();
+        index = CustomerIndex.read(indexPath, generation);
+        if (index != null && (index.getSnapshotSize() < HEADER_BYTES || index.getSnapshotSize() > fileSize)) {
+            index.close();
+            index = null;
+        }
+        if (index == null && Files.exists(indexPath)) {
+            LOGGER.info("Key-value index " + indexPath + " is stale, scanning " + path);
+        }
+        count.set(index != null ? index.size() : 0);
+        long start = index != null ? index.getSnapshotSize() : HEADER_BYTES;
+        long valid = replay(start, fileSize);
+        if (valid < fileSize) {
+            LOGGER.warning("Truncating uncommitted tail of " + path + " at " + valid + " of " + fileSize + " bytes");
+            channel.truncate(valid);
+        }
+        size = valid;
+    }
+
+    // replay // start부터 기록을 읽어 커밋된 PUT을 delta에 반영 // 마지막 COMMIT이 끝나는 위치 반환
+    private long replay(long start, long end) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(
+                Channels.newInputStream(channel.position(start)), 1 << 16));
+        Map<String, CustomerIndex.Location> pending = new LinkedHashMap<>();
+        long pendingTransaction = -1;
+        long position = start;
+        long committed = start;
+        CRC32 crc = new CRC32();
+        while (end - position >= RECORD_HEADER_BYTES) {
+            int length = in.readInt();
+            int checksum = in.readInt();
+            if (length <= 0 || length > end - position - RECORD_HEADER_BYTES) break;
+            byte[] payload = new byte[length];
+            in.readFully(payload);
+            crc.reset();
+            crc.update(payload);
+            if ((int) crc.getValue() != checksum) break;
+            ByteBuffer record = ByteBuffer.wrap(payload);
+            byte type = record.get();
+            long transaction = record.getLong();
+            if (transaction != pendingTransaction) {
+                pending.clear();
+                pendingTransaction = transaction;
+            }
+            if (type == PUT) {
+                int keyLength = record.getShort() & 0xFFFF;
+                String key = new String(payload, record.position(), keyLength, StandardCharsets.UTF_8);
+                int valueStart = record.position() + keyLength;
+                pending.put(key, new CustomerIndex.Location(position + RECORD_HEADER_BYTES + valueStart,
+                        length - valueStart));
+            } else if (type == COMMIT) {
+                for (Map.Entry<String, CustomerIndex.Location> entry : pending.entrySet()) {
+                    publish(entry.getKey(), entry.getValue());
+                }
+                pending.clear();
+                committed = position + RECORD_HEADER_BYTES + length;
+            } else {
+                break;
+            }
+            nextTransaction = Math.max(nextTransaction, transaction + 1);
+            position += RECORD_HEADER_BYTES + length;
+        }
+        return committed;
+    }
+
+    // publish // 키의 최신 값 위치를 delta에 기록하고 개수와 쓸모없어진 바이트 갱신
+    // 같은 키의 커밋은 호출하는 쪽이 한 번에 하나씩만 하므로 이전 위치를 찾고 바꾸는 사이에 끼어들지 않음
+    private void publish(String key, CustomerIndex.Location location) throws IOException {
+        CustomerIndex.Location previous = locate(key);
+        if (previous == null) {
+            count.incrementAndGet();
+        } else {
+            garbage.addAndGet(recordBytes(key, previous.getLength()));
+        }
+        delta.put(key, location);
+    }
+
+    // locate // 키의 최신 값 위치 찾기 // delta에 없으면 색인에서 찾음
+    private CustomerIndex.Location locate(String key) throws IOException {
+        CustomerIndex.Location location = delta.get(key);
+        if (location == null && index != null) {
+            location = index.find(key);
+        }
+        return location;
+    }
+
+    // get // 키의 값 읽기, 없으면 null
+    public byte[] get(String key) throws IOException {
+        lock.readLock().lock();
+        try {
+            CustomerIndex.Location location = locate(key);
+            return location != null ? read(location) : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // read // 위치에서 값 바이트 읽기
+    private byte[] read(CustomerIndex.Location location) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(location.getLength());
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, location.getOffset() + buffer.position()) < 0) {
+                throw new EOFException("Value past the end of " + path);
+            }
+        }
+        return buffer.array();
+    }
+
+    // begin // 새 트랜잭션 시작 // commit 전에는 아무것도 쓰지 않음
+    public Transaction begin() {
+        return new Transaction();
+    }
+
+    // commit // 트랜잭션의 PUT과 COMMIT을 한 번에 쓰고 fsync // 그 뒤에야 읽기에 보임
+    // 기록은 트랜잭션 번호 순서대로 파일 끝에 붙고, 나중 커밋의 fsync는 앞선 커밋의 바이트도 함께 디스크에 내림
+    // 다른 키의 커밋은 fsync를 동시에 기다릴 수 있음
+    private void commit(Map<String, byte[]> puts) throws IOException {
+        if (puts.isEmpty()) return;
+        lock.readLock().lock();
+        try {
+            Map<String, CustomerIndex.Location> locations = new LinkedHashMap<>();
+            appendLock.lock();
+            try {
+                long transaction = nextTransaction++;
+                ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+                for (Map.Entry<String, byte[]> put : puts.entrySet()) {
+                    byte[] key = put.getKey().getBytes(StandardCharsets.UTF_8);
+                    byte[] value = put.getValue();
+                    long valueOffset = size + buffer.size() + RECORD_HEADER_BYTES + 1 + 8 + 2 + key.length;
+                    buffer.write(encode(PUT, transaction, key, value));
+                    locations.put(put.getKey(), new CustomerIndex.Location(valueOffset, value.length));
+                }
+                buffer.write(encode(COMMIT, transaction, null, null));
+                ByteBuffer bytes = ByteBuffer.wrap(buffer.toByteArray());
+                long position = size;
+                while (bytes.hasRemaining()) {
+                    position += channel.write(bytes, position);
+                }
+                size = position;
+            } finally {
+                appendLock.unlock();
+            }
+            channel.force(false);
+            for (Map.Entry<String, CustomerIndex.Location> entry : locations.entrySet()) {
+                publish(entry.getKey(), entry.getValue());
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (delta.size() >= CHECKPOINT_KEYS) {
+            checkpoint(true);
+        }
+    }
+
+    // encode // 길이와 CRC를 앞에 붙인 기록 한 건 생성 // COMMIT이면 key와 value는 null
+    private static byte[] encode(byte type, long transaction, byte[] key, byte[] value) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(RECORD_HEADER_BYTES + 16
+                + (key != null ? key.length + value.length : 0));
+        DataOutputStream out = new DataOutputStream(buffer);
+        try {
+            out.writeInt(0);
+            out.writeInt(0);
+            out.writeByte(type);
+            out.writeLong(transaction);
+            if (key != null) {
+                if (key.length > 0xFFFF) {
+                    throw new IllegalArgumentException("Key is too long: " + key.length + " bytes");
+                }
+                out.writeShort(key.length);
+                out.write(key);
+                out.write(value);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        byte[] record = buffer.toByteArray();
+        int length = record.length - RECORD_HEADER_BYTES;
+        CRC32 crc = new CRC32();
+        crc.update(record, RECORD_HEADER_BYTES, length);
+        ByteBuffer.wrap(record).putInt(length).putInt((int) crc.getValue());
+        return record;
+    }
+
+    // recordBytes // 값 하나를 담은 PUT 기록 전체 크기
+    private static long recordBytes(String key, int valueLength) {
+        return RECORD_HEADER_BYTES + 1 + 8 + 2 + key.getBytes(StandardCharsets.UTF_8).length + valueLength;
+    }
+
+    // checkpoint // 색인을 지금 파일 크기까지로 다시 씀 // 쓸모없는 바이트가 많으면 파일도 새로 씀
+    public void checkpoint() throws IOException {
+        checkpoint(false);
+    }
+
+    // checkpoint // onlyIfDue면 쓰기 잠금을 잡은 뒤에도 delta가 충분히 쌓였을 때만 체크포인트
+    // 여러 커밋이 동시에 한도를 넘겨도 한 번만 다시 씀
+    private void checkpoint(boolean onlyIfDue) throws IOException {
+        lock.writeLock().lock();
+        try {
+            if (!onlyIfDue || delta.size() >= CHECKPOINT_KEYS) {
+                checkpointLocked();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void checkpointLocked() throws IOException {
+        List<CustomerIndex.Entry> entries = new ArrayList<>(count.get());
+        long[] live = {0};
+        forEachLocation((key, location) -> {
+            entries.add(new CustomerIndex.Entry(key, location));
+            live[0] += recordBytes(key, location.getLength());
+        });
+        replaceIndex(CustomerIndex.write(indexPath, generation, size, entries));
+        garbage.set(size - HEADER_BYTES - live[0]);
+        if (garbage.get() > live[0] && garbage.get() > COMPACT_MIN_GARBAGE_BYTES) {
+            compact();
+        }
+    }
+
+    // compact // 각 키의 최신 값만 새 세대의 파일에 한 트랜잭션으로 옮겨 씀
+    // 새 파일과 색인을 모두 쓴 뒤 파일을 원자적으로 교체 // 그 사이에 멈추면 세대가 맞지 않는 색인은 버려지고 전체를 훑음
+    private void compact() throws IOException {
+        long next = generation + 1;
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        writeHeader(temp, next);
+        List<CustomerIndex.Entry> entries = new ArrayList<>(count.get());
+        long transaction = nextTransaction++;
+        long newSize;
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            long[] position = {HEADER_BYTES};
+            forEachLocation((key, location) -> {
+                byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+                byte[] value = read(location);
+                long valueOffset = position[0] + RECORD_HEADER_BYTES + 1 + 8 + 2 + keyBytes.length;
+                position[0] += writeFully(out, encode(PUT, transaction, keyBytes, value), position[0]);
+                entries.add(new CustomerIndex.Entry(key, valueOffset, value.length));
+            });
+            position[0] += writeFully(out, encode(COMMIT, transaction, null, null), position[0]);
+            out.force(true);
+            newSize = position[0];
+        }
+        CustomerIndex nextIndex = CustomerIndex.write(indexPath, next, newSize, entries);
+        try {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            nextIndex.close();
+            throw e;
+        }
+        channel.close();
+        channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        replaceIndex(nextIndex);
+        LOGGER.info("Compacted " + path + " from " + size + " to " + newSize + " bytes");
+        generation = next;
+        size = newSize;
+        garbage.set(0);
+    }
+
+    private static int writeFully(FileChannel out, byte[] bytes, long position) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            out.write(buffer, position + buffer.position());
+        }
+        return bytes.length;
+    }
+
+    // replaceIndex // 새 색인으로 바꾸고 delta 비우기
+    private void replaceIndex(CustomerIndex nextIndex) throws IOException {
+        if (index != null) {
+            index.close();
+        }
+        index = nextIndex;
+        delta.clear();
+    }
+
+    // forEachLocation // 모든 키의 최신 값 위치를 전달 // 색인 순서 뒤에 체크포인트 이후 새로 생긴 키
+    private void forEachLocation(CustomerIndex.EntryVisitor visitor) throws IOException {
+        if (index != null) {
+            index.forEach((key, location) -> {
+                CustomerIndex.Location latest = delta.get(key);
+                visitor.visit(key, latest != null ? latest : location);
+            });
+        }
+        for (Map.Entry<String, CustomerIndex.Location> entry : delta.entrySet()) {
+            if (index == null || index.find(entry.getKey()) == null) {
+                visitor.visit(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    // forEach // 모든 키와 값을 전달 // 키 수에 비례
+    public void forEach(EntryVisitor visitor) throws IOException {
+        lock.readLock().lock();
+        try {
+            forEachLocation((key, location) -> visitor.visit(key, read(location)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // forEachKey // 모든 키를 전달 // 값은 읽지 않음
+    public void forEachKey(KeyVisitor visitor) throws IOException {
+        lock.readLock().lock();
+        try {
+            forEachLocation((key, location) -> visitor.visit(key));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // size // 키 수 반환
+    public int size() {
+        return count.get();
+    }
+
+    // getFileSize // 파일 크기 반환
+    public long getFileSize() {
+        return size;
+    }
+
+    // getGeneration // 파일 세대 반환 // 압축할 때마다 증가
+    public long getGeneration() {
+        lock.readLock().lock();
+        try {
+            return generation;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    // close // 파일과 색인 닫기
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            if (index != null) {
+                index.close();
+                index = null;
+            }
+            channel.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // EntryVisitor // forEach로 받은 키와 값 처리
+    public interface EntryVisitor {
+        void visit(String key, byte[] value) throws IOException;
+    }
+
+    // KeyVisitor // forEachKey로 받은 키 처리
+    public interface KeyVisitor {
+        void visit(String key) throws IOException;
+    }
+
+    // Transaction // 여러 키의 변경을 모아 한 번에 커밋 // 같은 키를 다시 넣으면 마지막 값만 씀
+    public class Transaction {
+        private final Map<String, byte[]> puts = new LinkedHashMap<>();
+
+        // put // 키의 새 값 넣기
+        public Transaction put(String key, byte[] value) {
+            puts.put(key, value);
+            return this;
+        }
+
+        // commit // 모은 변경을 모두 쓰고 fsync // 실패하면 아무 변경도 보이지 않음
+        public void commit() throws IOException {
+            KeyValueFile.this.commit(puts);
+            puts.clear();
+        }
+    }
+}
@@ -2,7 +2,6 @@ import java.security.MessageDigest;
 import java.security.SecureRandom;
 import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
-import java.util.Map;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 
@@ -10,11 +9,9 @@ public class LoginManager {
     private static final Logger LOGGER = Logger.getLogger(LoginManager.class.getName());
     private static final int SALT_LENGTH = 16;
     private final CustomerMileageManager mileageManager;
-    private Map<String, Customer> users;
 
     public LoginManager() {
         this.mileageManager = CustomerMileageManager.getInstance();
-        this.users = mileageManager.getAllCustomers();
     }
 
     // getMileageManager 메소드
@@ -23,13 +20,6 @@ public class LoginManager {
         return mileageManager;
     }
 
-    // saveUsers 메소드
-    // 메소드 기능1: 사용자 데이터 저장
-    private synchronized void saveUsers() {
-        // Save users via CustomerMileageManager
-        mileageManager.saveData();
-    }
-
     // validateInput 메소드
     // 메소드 기능1: 입력값 검증
     // 메소드 기능2: 유효한 사용자명 및 비밀번호 형식 확인
@@ -82,7 +72,7 @@ public class LoginManager {
         }
         
         // 중복 사용자 확인
-        if (users.containsKey(username)) {
+        if (mileageManager.containsCustomer(username)) {
             LOGGER.log(Level.INFO, "Username already exists: " + username);
             return false;
         }
@@ -94,10 +84,12 @@ public class LoginManager {
 
             // Create new customer with hashed password and salt
             Customer newCustomer = new Customer(username, username, passwordHash, salt);
-            users.put(username, newCustomer);
 
-            // Save data
-            saveUsers();
+            // Register and append to the mileage log
+            if (!mileageManager.registerCustomer(newCustomer)) {
+                LOGGER.log(Level.INFO, "Username already exists: " + username);
+                return false;
+            }
             LOGGER.log(Level.INFO, "Successfully registered user: " + username);
             return true;
         } catch (Exception e) {
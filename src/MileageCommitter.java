@@ -0,0 +1,226 @@
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public class MileageCommitter {
+    private static final Logger LOGGER = Logger.getLogger(MileageCommitter.class.getName());
+    private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+    private final int maxBatchRecords;
+    private final long commitIntervalNanos;
+    private final long compactThresholdBytes;
+    private final Runnable compactor;
+    private final Thread thread;
+    private final AtomicLong commits = new AtomicLong();
+    private final AtomicLong recordsCommitted = new AtomicLong();
+    private final AtomicLong totalLatencyNanos = new AtomicLong();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private volatile MileageLog log;
+    private volatile boolean closed;
+
+    // MileageCommitter 생성자 // 마일리지 로그에 모아 쓰는 작업 스레드 시작
+    // 첫 기록이 들어온 뒤 commitIntervalMillis 동안 또는 maxBatchRecords개가 찰 때까지 모아 한 번 쓰고 한 번 fsync
+    // 로그가 compactThresholdBytes를 넘거나 쓰기에 실패하면 작업 스레드에서 compactor(전체 저장)를 호출
+    public MileageCommitter(MileageLog log, int maxBatchRecords, long commitIntervalMillis,
+                            long compactThresholdBytes, Runnable compactor) {
+        if (maxBatchRecords <= 0 || commitIntervalMillis < 0) {
+            throw new IllegalArgumentException("Invalid batch settings: " + maxBatchRecords + ", " + commitIntervalMillis);
+        }
+        this.log = log;
+        this.maxBatchRecords = maxBatchRecords;
+        this.commitIntervalNanos = TimeUnit.MILLISECONDS.toNanos(commitIntervalMillis);
+        this.compactThresholdBytes = compactThresholdBytes;
+        this.compactor = compactor;
+        this.thread = new Thread(this::run, "mileage-committer");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    // submit // 기록 한 건을 큐에 넣고 바로 반환 // 디스크에 반영되면 완료되는 future 반환
+    // generation은 기록을 만들 때의 로그 세대로, 그 뒤 압축된 세대의 기록은 스냅숏에 이미 들어 있으므로 쓰지 않음
+    public CompletableFuture<Void> submit(long generation, byte[] record) {
+        Pending pending = new Pending(generation, record);
+        if (closed) {
+            pending.future.completeExceptionally(new IOException("Mileage committer is closed"));
+            return pending.future;
+        }
+        queue.add(pending);
+        return pending.future;
+    }
+
+    // sync // 지금까지 넣은 기록이 모두 디스크에 반영되면 완료되는 future 반환
+    public CompletableFuture<Void> sync() {
+        return submit(Long.MAX_VALUE, null);
+    }
+
+    // switchLog // 압축 후 새 세대의 로그로 교체 // 이전 로그는 작업 스레드가 다음 커밋에서 닫음
+    // 호출하는 쪽이 새 세대의 기록을 넣기 전에 호출해야 함
+    public void switchLog(MileageLog newLog) {
+        log = newLog;
+    }
+
+    // run // 작업 스레드 // 큐에서 한 묶음을 꺼내 커밋하는 일을 반복
+    // 인터럽트 플래그가 켜진 채 쓰면 FileChannel이 닫히므로 플래그는 다시 세우지 않고 마지막 묶음을 커밋한 뒤 끝냄
+    private void run() {
+        List<Pending> batch = new ArrayList<>();
+        MileageLog current = log;
+        boolean stopping = false;
+        while (!stopping) {
+            try {
+                batch.add(queue.take());
+                long deadline = batch.get(0).enqueuedNanos + commitIntervalNanos;
+                while (batch.size() < maxBatchRecords) {
+                    long wait = deadline - System.nanoTime();
+                    Pending next = wait > 0 ? queue.poll(wait, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) break;
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                stopping = true;
+            }
+            MileageLog latest = log;
+            if (latest != current) {
+                closeQuietly(current);
+                current = latest;
+            }
+            if (!batch.isEmpty()) {
+                commit(current, batch);
+                batch.clear();
+            }
+            stopping |= closed && queue.isEmpty();
+        }
+        closeQuietly(current);
+        if (log != current) {
+            closeQuietly(log);
+        }
+    }
+
+    // commit // 현재 세대의 기록만 모아 한 번에 쓰고 fsync // 완료 후 future와 지표 갱신
+    private void commit(MileageLog current, List<Pending> batch) {
+        List<byte[]> records = new ArrayList<>(batch.size());
+        for (Pending pending : batch) {
+            if (pending.record != null && pending.generation == current.getGeneration()) {
+                records.add(pending.record);
+            }
+        }
+        IOException failure = null;
+        if (!records.isEmpty()) {
+            try {
+                current.write(records);
+                current.force();
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+        if (failure != null || current.size() >= compactThresholdBytes) {
+            if (failure != null) {
+                failures.incrementAndGet();
+                LOGGER.log(Level.SEVERE, "Failed to commit mileage log, rewriting the data file", failure);
+            }
+            // 압축은 메모리의 전체 상태를 저장하므로 실패한 기록도 포함됨
+            compactor.run();
+            if (log.getGeneration() > current.getGeneration()) {
+                failure = null;
+            }
+        }
+        long now = System.nanoTime();
+        for (Pending pending : batch) {
+            if (failure != null && pending.record != null) {
+                pending.future.completeExceptionally(failure);
+                continue;
+            }
+            pending.future.complete(null);
+            if (pending.record != null) {
+                long latency = now - pending.enqueuedNanos;
+                totalLatencyNanos.addAndGet(latency);
+                maxLatencyNanos.accumulateAndGet(latency, Math::max);
+                recordsCommitted.incrementAndGet();
+            }
+        }
+        if (!records.isEmpty()) {
+            commits.incrementAndGet();
+        }
+    }
+
+    // close // 남은 기록을 모두 반영하고 작업 스레드 종료 // 최대 timeoutMillis까지 기다림
+    public void close(long timeoutMillis) {
+        if (closed) return;
+        CompletableFuture<Void> drained = sync();
+        closed = true;
+        try {
+            drained.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            LOGGER.log(Level.WARNING, "Mileage log was not fully committed before close", e);
+        }
+        thread.interrupt();
+    }
+
+    private static void closeQuietly(MileageLog log) {
+        try {
+            log.close();
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to close mileage log " + log.getPath(), e);
+        }
+    }
+
+    // getQueueDepth // 아직 커밋되지 않은 기록 수 반환
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    // getCommits // 쓰기와 fsync를 한 횟수 반환
+    public long getCommits() {
+        return commits.get();
+    }
+
+    // getRecordsCommitted // 디스크에 반영된 기록 수 반환
+    public long getRecordsCommitted() {
+        return recordsCommitted.get();
+    }
+
+    // getAverageBatchSize // 커밋 한 번에 반영한 평균 기록 수 반환
+    public double getAverageBatchSize() {
+        long count = commits.get();
+        return count == 0 ? 0 : (double) recordsCommitted.get() / count;
+    }
+
+    // getAverageCommitLatencyMillis // 기록을 넣은 뒤 디스크에 반영되기까지의 평균 시간 반환
+    public double getAverageCommitLatencyMillis() {
+        long count = recordsCommitted.get();
+        return count == 0 ? 0 : totalLatencyNanos.get() / 1e6 / count;
+    }
+
+    // getMaxCommitLatencyMillis // 기록을 넣은 뒤 디스크에 반영되기까지의 최대 시간 반환
+    public double getMaxCommitLatencyMillis() {
+        return maxLatencyNanos.get() / 1e6;
+    }
+
+    // getFailures // 실패한 커밋 수 반환
+    public long getFailures() {
+        return failures.get();
+    }
+
+    // Pending // 커밋을 기다리는 기록 // record가 null이면 sync 표시
+    private static class Pending {
+        private final long generation;
+        private final byte[] record;
+        private final long enqueuedNanos = System.nanoTime();
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        Pending(long generation, byte[] record) {
+            this.generation = generation;
+            this.record = record;
+        }
+    }
+}
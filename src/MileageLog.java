@@ -0,0 +1,278 @@
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+public class MileageLog implements Closeable {
+    private static final Logger LOGGER = Logger.getLogger(MileageLog.class.getName());
+    static final byte REGISTER = 1;
+    static final byte CREDIT = 2;
+    static final byte DEBIT = 3;
+    static final byte PURCHASE = 4;
+    private static final int MAGIC = 0x4D534D4C; // "MSML"
+    private static final byte VERSION = 1;
+    private static final int HEADER_BYTES = 4 + 1 + 8;
+    private static final int RECORD_HEADER_BYTES = 4 + 4;
+    private static final int MAX_RECORD_BYTES = 1 << 16;
+
+    // 로그 형식 (빅 엔디언)
+    //   헤더: int magic "MSML", byte version, long 세대 (이 로그가 이어지는 스냅숏 파일의 세대)
+    //   기록: int 내용 길이, int 내용 CRC32, 내용 (byte 종류 + DataOutput 필드)
+    //     REGISTER: UTF 이름, UTF 고객번호, UTF 비밀번호 해시, UTF 솔트
+    //     CREDIT/DEBIT: UTF 고객번호, int 금액, long 시각(UTC 초), UTF 설명
+    //     PURCHASE: UTF 고객번호, int 금액, long 시각(UTC 초), UTF 설명, UTF 색상 이름 // 차감과 색상을 한 기록으로 남김
+    // 마지막 기록이 잘렸거나 CRC가 맞지 않으면 그 앞까지만 유효한 것으로 보고 잘라냄
+
+    private final Path path;
+    private final FileChannel channel;
+    private final long generation;
+    private long size;
+    private int records;
+
+    // MileageLog 생성자 // 열린 로그 파일 끝에 이어서 기록
+    private MileageLog(Path path, FileChannel channel, long generation, long size, int records) {
+        this.path = path;
+        this.channel = channel;
+        this.generation = generation;
+        this.size = size;
+        this.records = records;
+    }
+
+    // open // 로그를 열어 target의 고객에 다시 적용하고 이어서 기록할 수 있게 반환
+    // 로그가 없거나 스냅숏보다 이전 세대(압축 후 남은 로그)면 새 로그를 만듦
+    public static MileageLog open(Path path, long generation, Target target) throws IOException {
+        if (!Files.exists(path)) {
+            return create(path, generation);
+        }
+        byte[] data = Files.readAllBytes(path);
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        if (data.length < HEADER_BYTES || buffer.getInt() != MAGIC || buffer.get() != VERSION) {
+            LOGGER.warning("Ignoring unreadable mileage log " + path);
+            return create(path, generation);
+        }
+        long logGeneration = buffer.getLong();
+        if (logGeneration != generation) {
+            LOGGER.info("Discarding mileage log generation " + logGeneration + ", snapshot is " + generation);
+            return create(path, generation);
+        }
+        CRC32 crc = new CRC32();
+        int records = 0;
+        while (buffer.remaining() >= RECORD_HEADER_BYTES) {
+            int start = buffer.position();
+            int length = buffer.getInt();
+            int checksum = buffer.getInt();
+            if (length <= 0 || length > MAX_RECORD_BYTES || length > buffer.remaining()) {
+                buffer.position(start);
+                break;
+            }
+            crc.reset();
+            crc.update(data, buffer.position(), length);
+            if ((int) crc.getValue() != checksum) {
+                buffer.position(start);
+                break;
+            }
+            apply(new DataInputStream(new ByteArrayInputStream(data, buffer.position(), length)), target);
+            buffer.position(buffer.position() + length);
+            records++;
+        }
+        long valid = buffer.position();
+        if (valid < data.length) {
+            LOGGER.warning("Truncating torn mileage log " + path + " at " + valid + " of " + data.length + " bytes");
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE);
+        try {
+            channel.truncate(valid);
+            channel.position(valid);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        return new MileageLog(path, channel, generation, valid, records);
+    }
+
+    // create // 헤더만 있는 새 로그 생성 // 임시 파일에 쓰고 원자적으로 교체해 반쯤 쓴 헤더가 남지 않게 함
+    public static MileageLog create(Path path, long generation) throws IOException {
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        header.putInt(MAGIC).put(VERSION).putLong(generation).flip();
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+            channel.force(true);
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE);
+        channel.position(HEADER_BYTES);
+        return new MileageLog(path, channel, generation, HEADER_BYTES, 0);
+    }
+
+    // apply // 기록 하나를 target의 고객에 적용 // 모르는 고객의 기록은 건너뜀
+    private static void apply(DataInputStream in, Target target) throws IOException {
+        byte type = in.readByte();
+        if (type == REGISTER) {
+            String name = in.readUTF();
+            String customerId = in.readUTF();
+            String passwordHash = in.readUTF();
+            String salt = in.readUTF();
+            if (target.find(customerId) == null) {
+                target.register(new Customer(name, customerId, passwordHash, salt));
+            }
+            return;
+        }
+        Customer customer = target.find(in.readUTF());
+        if (customer == null) {
+            LOGGER.warning("Skipping mileage log record for unknown customer");
+            return;
+        }
+        if (type != CREDIT && type != DEBIT && type != PURCHASE) {
+            throw new IOException("Unknown mileage log record type: " + type);
+        }
+        int amount = in.readInt();
+        LocalDateTime date = LocalDateTime.ofEpochSecond(in.readLong(), 0, ZoneOffset.UTC);
+        customer.applyRecord(new MileageRecord(amount, in.readUTF(), type == CREDIT, date));
+        if (type == PURCHASE) {
+            customer.addPurchasedColor(in.readUTF());
+        }
+    }
+
+    // Target // 다시 적용할 고객을 찾고 등록하는 쪽 // 로그에 나온 고객만 찾으므로 전체 고객을 메모리에 둘 필요 없음
+    public interface Target {
+        // find // 고객번호로 고객 찾기, 없으면 null // 찾은 고객은 이어서 변경됨
+        Customer find(String customerId) throws IOException;
+
+        // register // 로그에서 등록된 새 고객 추가
+        void register(Customer customer);
+    }
+
+    // encodeRegister // 고객 등록 기록 생성
+    public static byte[] encodeRegister(Customer customer) {
+        return encode(REGISTER, out -> {
+            out.writeUTF(customer.getName());
+            out.writeUTF(customer.getCustomerId());
+            out.writeUTF(customer.getPasswordHash());
+            out.writeUTF(customer.getSalt());
+        });
+    }
+
+    // encodeRecord // 마일리지 적립/사용 기록 생성 // 다시 적용할 때 같은 시각이 되도록 기록의 시각을 그대로 씀
+    public static byte[] encodeRecord(String customerId, MileageRecord record) {
+        return encode(record.isCredit() ? CREDIT : DEBIT, out -> writeRecord(out, customerId, record));
+    }
+
+    // encodePurchase // 색상 구매 기록 생성 // 마일리지 차감과 구매한 색상을 한 기록으로 씀
+    public static byte[] encodePurchase(String customerId, MileageRecord record, String colorName) {
+        return encode(PURCHASE, out -> {
+            writeRecord(out, customerId, record);
+            out.writeUTF(colorName);
+        });
+    }
+
+    // writeRecord // 고객번호와 마일리지 기록 필드 쓰기
+    private static void writeRecord(DataOutputStream out, String customerId, MileageRecord record) throws IOException {
+        out.writeUTF(customerId);
+        out.writeInt(record.getAmount());
+        out.writeLong(record.getDateTime().toEpochSecond(ZoneOffset.UTC));
+        out.writeUTF(record.getDescription());
+    }
+
+    // encode // 길이와 CRC를 앞에 붙인 기록 한 건 생성
+    private static byte[] encode(byte type, Fields fields) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(128);
+        DataOutputStream out = new DataOutputStream(buffer);
+        try {
+            out.writeInt(0);
+            out.writeInt(0);
+            out.writeByte(type);
+            fields.write(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        byte[] record = buffer.toByteArray();
+        int length = record.length - RECORD_HEADER_BYTES;
+        CRC32 crc = new CRC32();
+        crc.update(record, RECORD_HEADER_BYTES, length);
+        ByteBuffer.wrap(record).putInt(length).putInt((int) crc.getValue());
+        return record;
+    }
+
+    // Fields // 기록 내용 필드 쓰기
+    private interface Fields {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    // write // 여러 기록을 모아 로그 끝에 한 번에 씀 // fsync는 force로 따로 요청
+    // 쓰기가 실패하면 일부만 쓰인 바이트를 잘라내 다음 쓰기가 찢어진 기록 뒤에 붙지 않게 함
+    public void write(List<byte[]> batch) throws IOException {
+        int bytes = 0;
+        for (byte[] record : batch) {
+            bytes += record.length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(bytes);
+        for (byte[] record : batch) {
+            buffer.put(record);
+        }
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException | RuntimeException e) {
+            try {
+                channel.truncate(size);
+                channel.position(size);
+            } catch (IOException truncateError) {
+                e.addSuppressed(truncateError);
+            }
+            throw e;
+        }
+        size += bytes;
+        records += batch.size();
+    }
+
+    // force // 지금까지 쓴 기록을 디스크에 반영
+    public void force() throws IOException {
+        channel.force(false);
+    }
+
+    // getGeneration // 로그 세대 반환
+    public long getGeneration() {
+        return generation;
+    }
+
+    // size // 헤더를 포함한 로그 크기 반환 // 압축 시점 판단용
+    public long size() {
+        return size;
+    }
+
+    // getRecordCount // 로그에 있는 기록 수 반환
+    public int getRecordCount() {
+        return records;
+    }
+
+    // getPath // 로그 파일 경로 반환
+    public Path getPath() {
+        return path;
+    }
+
+    @Override
+    // close // 로그 파일 닫기
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -14,6 +14,14 @@ public class MileageRecord {
         this.isCredit = isCredit;
     }
 
+    // 메소드 이름: MileageRecord
+    // 메소드 기능1: 기록 시각을 지정해 객체 생성
+    // 메소드 기능2: 마일리지 로그를 다시 적용할 때 원래 시각을 유지
+    MileageRecord(int amount, String description, boolean isCredit, LocalDateTime date) {
+        this(amount, description, isCredit);
+        this.date = date;
+    }
+
     // 메소드 이름: getDate
     // 메소드 기능1: 날짜를 문자열로 반환
     // 메소드 기능2: "yyyy-MM-dd HH:mm:ss" 형식으로 포맷
@@ -21,6 +29,13 @@ public class MileageRecord {
         return date.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
     }
 
+    // 메소드 이름: getDateTime
+    // 메소드 기능1: 기록 시각을 반환
+    // 메소드 기능2: 마일리지 로그에 시각을 기록할 때 사용
+    LocalDateTime getDateTime() {
+        return date;
+    }
+
     // 메소드 이름: getAmount
     // 메소드 기능1: 금액을 반환
     // 메소드 기능2: 없음
@@ -0,0 +1,208 @@
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+public class MinePlacer {
+    // 지뢰가 전체 셀의 1/32 이상이면 지뢰마다 이웃을 갱신하기보다 마지막에 한 번에 세는 편이 빠름
+    private static final int BULK_DENSITY_DIVISOR = 32;
+    // 무작위로 뽑은 셀이 이 횟수 안에 비어 있지 않으면 비트셋을 훑어 고름 // 지뢰 밀도 90%에서도 실패 확률 약 0.1%
+    private static final int MAX_RANDOM_PROBES = 64;
+    private final long seed;
+    private final SplittableRandom random;
+
+    // MinePlacer 생성자 // 시드로 난수 생성기 초기화 // 같은 시드는 같은 배치를 만듦
+    public MinePlacer(long seed) {
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+    }
+
+    // newSeed // 새 게임용 무작위 시드 생성
+    public static long newSeed() {
+        return new SplittableRandom().nextLong();
+    }
+
+    // getSeed // 배치에 사용한 시드 반환
+    public long getSeed() {
+        return seed;
+    }
+
+    // placeMines // 지뢰 배치 // Floyd 표본 추출로 O(지뢰 수)에 배치, 밀도와 무관
+    // excluded는 정렬된 제외 인덱스 목록(첫 클릭 주변 등)이며 빈 보드에만 사용
+    // 지뢰가 많으면 비트만 설정하고 인접 지뢰 수는 마지막에 워드 단위로 한 번에 계산
+    public void placeMines(BoardModel model, int mines, int[] excluded) {
+        if (model.getMineCount() != 0) {
+            throw new IllegalStateException("Mines already placed: " + model.getMineCount());
+        }
+        int available = model.size() - excluded.length;
+        if (mines < 0 || mines > available) {
+            throw new IllegalArgumentException("Invalid mine count: " + mines + " (available: " + available + ")");
+        }
+        boolean bulk = mines >= model.size() / BULK_DENSITY_DIVISOR;
+        for (int j = available - mines; j < available; j++) {
+            int index = skipExcluded(random.nextInt(j + 1), excluded);
+            if (model.isMine(index)) {
+                index = skipExcluded(j, excluded);
+            }
+            if (bulk) {
+                model.setMineDeferred(index);
+            } else {
+                model.setMine(index, true);
+            }
+        }
+        if (bulk) {
+            model.calculateAdjacentMines();
+        }
+    }
+
+    // relocateMine // 지뢰 재배치 // 지뢰도 제외 대상도 아닌 셀 중 하나를 균등하게 골라 이동
+    // 무작위 셀을 뽑아 빈 셀이 나올 때까지 다시 뽑으므로 빽빽하지 않은 보드에서는 기대 O(1)
+    // 이동한 위치를 반환하며, 옮길 곳이 없으면 -1 반환
+    public int relocateMine(BoardModel model, int from, int[] excluded) {
+        int free = model.size() - model.getMineCount();
+        for (int index : excluded) {
+            if (!model.isMine(index)) free--;
+        }
+        if (free <= 0) return -1;
+        int to = randomFree(model, excluded);
+        if (to < 0) {
+            to = selectFree(model, random.nextInt(free), excluded);
+        }
+        model.moveMine(from, to);
+        return to;
+    }
+
+    // prepareFirstClick // 첫 클릭 지뢰 배치 최적화 // 첫 클릭 주변 3x3을 비우고 50-50 상황 해결
+    // 비운 영역을 반환하며, 이후 재배치도 이 영역을 제외해야 같은 시드에서 같은 보드가 재현됨
+    // 50-50 상황은 지뢰가 빠지거나 들어온 셀의 3x3 이웃만 확인
+    // 재배치는 기대 O(1)이라 비용은 재배치 수에 비례하고 보드 크기와 무관 (지뢰가 아주 빽빽하면 비트셋을 훑음)
+    public int[] prepareFirstClick(BoardModel model, int firstIndex) {
+        int[] safeZone = neighborhood(model, firstIndex);
+        int[] moved = new int[safeZone.length * 2];
+        int movedCount = 0;
+        for (int index : safeZone) {
+            if (model.isMine(index)) {
+                int to = relocateMine(model, index, safeZone);
+                moved[movedCount++] = index;
+                if (to >= 0) {
+                    moved[movedCount++] = to;
+                }
+            }
+        }
+        for (int i = 0; i < movedCount; i++) {
+            for (int cell : neighborhood(model, moved[i])) {
+                int row = model.rowOf(cell);
+                int col = model.colOf(cell);
+                if (isFiftyFiftySituation(model, row, col)) {
+                    fixFiftyFiftySituation(model, row, col, safeZone);
+                }
+            }
+        }
+        return safeZone;
+    }
+
+    // isFiftyFiftySituation // 50-50 상황인지 확인 // 인접 셀의 지뢰 및 미확인 셀 수 계산
+    private static boolean isFiftyFiftySituation(BoardModel model, int row, int col) {
+        if (!model.isValidCell(row, col) || model.isMine(model.index(row, col))) {
+            return false;
+        }
+        int unknownCells = 0;
+        int mineCount = 0;
+        for (int dRow = -1; dRow <= 1; dRow++) {
+            for (int dCol = -1; dCol <= 1; dCol++) {
+                if (dRow == 0 && dCol == 0) continue;
+                int nRow = row + dRow;
+                int nCol = col + dCol;
+                if (model.isValidCell(nRow, nCol)) {
+                    int index = model.index(nRow, nCol);
+                    if (!model.isRevealed(index)) {
+                        unknownCells++;
+                    }
+                    if (model.isMine(index)) {
+                        mineCount++;
+                    }
+                }
+            }
+        }
+        return unknownCells == 2 && mineCount == 1;
+    }
+
+    // fixFiftyFiftySituation // 50-50 상황 해결 // 인접 지뢰 하나를 제외 영역 밖으로 재배치
+    private void fixFiftyFiftySituation(BoardModel model, int row, int col, int[] excluded) {
+        for (int dRow = -1; dRow <= 1; dRow++) {
+            for (int dCol = -1; dCol <= 1; dCol++) {
+                int nRow = row + dRow;
+                int nCol = col + dCol;
+                if (model.isValidCell(nRow, nCol) && model.isMine(model.index(nRow, nCol))) {
+                    relocateMine(model, model.index(nRow, nCol), excluded);
+                    return;
+                }
+            }
+        }
+    }
+
+    // neighborhood // 셀과 주변 3x3 인덱스를 정렬된 배열로 반환 // 첫 클릭 제외 영역에 사용
+    public static int[] neighborhood(BoardModel model, int index) {
+        int row = model.rowOf(index);
+        int col = model.colOf(index);
+        int[] result = new int[9];
+        int count = 0;
+        for (int nRow = row - 1; nRow <= row + 1; nRow++) {
+            for (int nCol = col - 1; nCol <= col + 1; nCol++) {
+                if (model.isValidCell(nRow, nCol)) {
+                    result[count++] = model.index(nRow, nCol);
+                }
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    // skipExcluded // 제외 셀을 건너뛴 순위를 실제 인덱스로 변환
+    private static int skipExcluded(int rank, int[] excluded) {
+        int index = rank;
+        for (int e : excluded) {
+            if (e <= index) {
+                index++;
+            } else {
+                break;
+            }
+        }
+        return index;
+    }
+
+    // randomFree // 셀을 균등하게 뽑아 지뢰도 제외 대상도 아니면 반환 // MAX_RANDOM_PROBES번 안에 못 찾으면 -1
+    private int randomFree(BoardModel model, int[] excluded) {
+        for (int probe = 0; probe < MAX_RANDOM_PROBES; probe++) {
+            int index = random.nextInt(model.size());
+            if (!model.isMine(index) && Arrays.binarySearch(excluded, index) < 0) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    // selectFree // 지뢰 비트셋을 워드 단위로 훑어 rank번째 빈 셀 인덱스 반환 // 빽빽한 보드에서 randomFree 대신 사용
+    private static int selectFree(BoardModel model, int rank, int[] excluded) {
+        long[] mines = model.mineBits();
+        int size = model.size();
+        int next = 0;
+        for (int word = 0; word < mines.length; word++) {
+            long free = ~mines[word];
+            int base = word << 6;
+            if (size - base < 64) {
+                free &= (1L << (size - base)) - 1;
+            }
+            while (next < excluded.length && excluded[next] < base + 64) {
+                free &= ~(1L << excluded[next]);
+                next++;
+            }
+            int count = Long.bitCount(free);
+            if (rank < count) {
+                for (int i = 0; i < rank; i++) {
+                    free &= free - 1;
+                }
+                return base + Long.numberOfTrailingZeros(free);
+            }
+            rank -= count;
+        }
+        throw new IllegalStateException("No free cell for rank " + rank);
+    }
+}
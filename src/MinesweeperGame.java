@@ -2,6 +2,9 @@ import javax.swing.*;
 import java.awt.*;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Timer;
 import java.util.TimerTask;
 import java.util.concurrent.ExecutorService;
@@ -31,6 +34,21 @@ public class MinesweeperGame {
     private GameBoard gameBoard;
     private static final Map<String, Color> AVAILABLE_COLORS = GameResources.CELL_COLORS;
     private static final int COLOR_PRICE = 100;
+    private static final int MAX_CUSTOM_SIZE = 4096;
+    private static final long NO_GUESS_TIME_BUDGET_MILLIS = 3000;
+    private static final int BOARD_POOL_SIZE = 3;
+    private static final int JOURNAL_CHECKPOINT_INTERVAL = 50;
+    private static final Path JOURNAL_PATH = Paths.get(GameResources.GAME_JOURNAL_FILE);
+    private static final Path CHECKPOINT_PATH = Paths.get(GameResources.GAME_CHECKPOINT_FILE);
+    private static final Path REPLAYS_PATH = Paths.get(GameResources.REPLAYS_PATH);
+    private static final double ENDLESS_MINE_DENSITY = 0.16;
+    private static final long ENDLESS_MEMORY_BUDGET_BYTES = 4L * 1024 * 1024;
+    private final NoGuessGenerator noGuessGenerator;
+    private final BoardPool boardPool;
+    private boolean noGuessMode;
+    private boolean practiceMode;
+    private MoveJournal journal;
+    private ProbabilityService probabilityService;
     private boolean firstClick;
     private Color cellColor = Color.LIGHT_GRAY;
     private int winStreak = 0;
@@ -49,6 +67,8 @@ public class MinesweeperGame {
     // elapsedTime 초기화
     public MinesweeperGame() {
         executorService = Executors.newSingleThreadExecutor();
+        boardPool = new BoardPool(executorService, BOARD_POOL_SIZE);
+        noGuessGenerator = new NoGuessGenerator(Runtime.getRuntime().availableProcessors(), NO_GUESS_TIME_BUDGET_MILLIS);
         elapsedTime = new AtomicInteger(0);
         loginManager = new LoginManager();
         audioPlayer = new AudioPlayer();
@@ -86,38 +106,24 @@ public class MinesweeperGame {
                 playerName = "플레이어";
             }
 
-            String[] options = {"쉬움", "보통", "어려움"};
-            difficulty = (String) JOptionPane.showInputDialog(frame,
-                    "난이도 선택:",
-                    "난이도 선택",
-                    JOptionPane.QUESTION_MESSAGE,
-                    null,
-                    options,
-                    options[0]);
-            if (difficulty == null) difficulty = "쉬움";
-
-            switch (difficulty) {
-                case "쉬움":
-                    rows = 8; cols = 8; mines = 10;
-                    break;
-                case "보통":
-                    rows = 16; cols = 16; mines = 40;
-                    break;
-                case "어려움":
-                    rows = 16; cols = 30; mines = 99;
-                    break;
-            }
-
-            if (rows != cols) {
-                cols = rows;
+            MoveJournal.Replay savedGame = loadSavedGame();
+            if (savedGame != null) {
+                rows = savedGame.getModel().getRows();
+                cols = savedGame.getModel().getCols();
+                mines = savedGame.getModel().getMineCount();
+                difficulty = difficultyOf(rows, cols, mines);
+                noGuessMode = savedGame.isNoGuess();
+                elapsedTime.set(savedGame.getElapsedMillis() / 1000);
+            } else {
+                chooseDifficulty();
             }
 
             mainPanel = new JPanel(new BorderLayout());
             
             initializeInfoPanel();
+            updateTimerLabel(elapsedTime.get());
 
-            gameBoard = new GameBoard(rows, cols, mines, this::onWin, this::onGameOver);
-            gameBoard.setCellColor(cellColor);
+            gameBoard = savedGame != null ? resumeGameBoard(savedGame) : createGameBoard();
             
             gameBoardPanel = new JPanel(new BorderLayout());
             gameBoardPanel.setBorder(BorderFactory.createCompoundBorder(
@@ -142,6 +148,128 @@ public class MinesweeperGame {
         }
     }
 
+    // chooseDifficulty 메소드
+    // 난이도 선택 다이얼로그 표시
+    // 선택한 크기의 보드 풀 미리 채우기
+    // 보드 생성 방식 선택
+    // 연습 모드 선택
+    private void chooseDifficulty() {
+        String[] options = {"쉬움", "보통", "어려움", "사용자 지정"};
+        difficulty = (String) JOptionPane.showInputDialog(frame,
+                "난이도 선택:",
+                "난이도 선택",
+                JOptionPane.QUESTION_MESSAGE,
+                null,
+                options,
+                options[0]);
+        if (difficulty == null) difficulty = "쉬움";
+
+        switch (difficulty) {
+            case "쉬움":
+                rows = 8; cols = 8; mines = 10;
+                break;
+            case "보통":
+                rows = 16; cols = 16; mines = 40;
+                break;
+            case "어려움":
+                rows = 16; cols = 30; mines = 99;
+                break;
+            case "사용자 지정":
+                if (!showCustomSizeDialog()) {
+                    difficulty = "쉬움";
+                    rows = 8; cols = 8; mines = 10;
+                }
+                break;
+        }
+
+        boardPool.prefill(rows, cols, mines);
+        noGuessMode = JOptionPane.showConfirmDialog(frame,
+                "추측 없이 풀 수 있는 보드로 플레이하시겠습니까?",
+                "보드 생성 방식",
+                JOptionPane.YES_NO_OPTION) == JOptionPane.YES_OPTION;
+        practiceMode = JOptionPane.showConfirmDialog(frame,
+                "연습 모드로 플레이하시겠습니까?\n되돌리기/다시 실행을 쓸 수 있지만 마일리지와 기록은 남지 않습니다.",
+                "연습 모드",
+                JOptionPane.YES_NO_OPTION) == JOptionPane.YES_OPTION;
+    }
+
+    // loadSavedGame 메소드
+    // 저장된 진행 중 게임이 있으면 이어서 할지 확인
+    // 마지막 체크포인트와 그 뒤의 저널 기록으로 보드 상태 복원
+    // 이어서 하지 않거나 복원할 수 없으면 저장된 게임 삭제
+    private MoveJournal.Replay loadSavedGame() {
+        if (!Files.exists(JOURNAL_PATH)) {
+            return null;
+        }
+        try {
+            MoveJournal.Replay replay = MoveJournal.load(JOURNAL_PATH, CHECKPOINT_PATH);
+            if (replay.isFirstClickDone() && !replay.isFinished()
+                    && JOptionPane.showConfirmDialog(frame,
+                        "진행 중이던 게임이 있습니다. 이어서 하시겠습니까?",
+                        "게임 이어하기",
+                        JOptionPane.YES_NO_OPTION) == JOptionPane.YES_OPTION) {
+                return replay;
+            }
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Failed to restore saved game", e);
+        }
+        try {
+            Files.deleteIfExists(JOURNAL_PATH);
+            Files.deleteIfExists(CHECKPOINT_PATH);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to delete saved game", e);
+        }
+        return null;
+    }
+
+    // difficultyOf 메소드
+    // 보드 크기와 지뢰 수에 해당하는 난이도 이름 반환
+    private static String difficultyOf(int rows, int cols, int mines) {
+        if (rows == 8 && cols == 8 && mines == 10) return "쉬움";
+        if (rows == 16 && cols == 16 && mines == 40) return "보통";
+        if (rows == 16 && cols == 30 && mines == 99) return "어려움";
+        return "사용자 지정";
+    }
+
+    // showCustomSizeDialog 메소드
+    // 사용자 지정 보드 크기 입력
+    // 입력값 검증 후 rows, cols, mines 설정
+    private boolean showCustomSizeDialog() {
+        JPanel panel = new JPanel(new GridLayout(3, 2, 5, 5));
+        JTextField rowsField = new JTextField("100", 6);
+        JTextField colsField = new JTextField("100", 6);
+        JTextField minesField = new JTextField("1500", 6);
+        panel.add(new JLabel("행 수:"));
+        panel.add(rowsField);
+        panel.add(new JLabel("열 수:"));
+        panel.add(colsField);
+        panel.add(new JLabel("지뢰 수:"));
+        panel.add(minesField);
+
+        int result = JOptionPane.showConfirmDialog(frame, panel, "사용자 지정",
+                JOptionPane.OK_CANCEL_OPTION, JOptionPane.QUESTION_MESSAGE);
+        if (result != JOptionPane.OK_OPTION) {
+            return false;
+        }
+        try {
+            int customRows = Integer.parseInt(rowsField.getText().trim());
+            int customCols = Integer.parseInt(colsField.getText().trim());
+            int customMines = Integer.parseInt(minesField.getText().trim());
+            if (customRows < 2 || customCols < 2 || customRows > MAX_CUSTOM_SIZE || customCols > MAX_CUSTOM_SIZE
+                    || customMines < 1 || customMines > customRows * customCols - 9) {
+                showError("입력 오류", "행/열은 2~" + MAX_CUSTOM_SIZE + ", 지뢰는 1 이상 (셀 수 - 9) 이하여야 합니다.");
+                return false;
+            }
+            rows = customRows;
+            cols = customCols;
+            mines = customMines;
+            return true;
+        } catch (NumberFormatException e) {
+            showError("입력 오류", "숫자를 입력하세요.");
+            return false;
+        }
+    }
+
     // initializeInfoPanel 메소드
     // 정보 패널 초기화
     // 타이머 라벨 설정
@@ -202,8 +330,9 @@ public class MinesweeperGame {
     // 버튼 패널 초기화
     // 마일리지 조회 버튼 설정
     // 색상 커스터마이징 버튼 설정
+    // 큰 보드용 확대/축소 버튼 설정
     private void initializeButtonPanel() {
-        JPanel buttonPanel = new JPanel(new GridLayout(1, 2, 20, 0));
+        JPanel buttonPanel = new JPanel(new GridLayout(1, 0, 20, 0));
         buttonPanel.setBackground(new Color(250, 250, 250));
         buttonPanel.setBorder(BorderFactory.createEmptyBorder(10, 20, 10, 20));
         
@@ -213,8 +342,33 @@ public class MinesweeperGame {
         JButton customizeButton = createStyledButton("색상 커스터마이징", BUTTON_COLOR);
         customizeButton.addActionListener(e -> customizeCellColor());
         
+        JButton endlessButton = createStyledButton("끝없는 모드", BUTTON_COLOR);
+        endlessButton.addActionListener(e -> showEndlessMode());
+
         buttonPanel.add(mileageButton);
         buttonPanel.add(customizeButton);
+        buttonPanel.add(endlessButton);
+
+        if (practiceMode) {
+            JButton undoButton = createStyledButton("되돌리기", BUTTON_COLOR);
+            undoButton.addActionListener(e -> undoMove());
+            JButton redoButton = createStyledButton("다시 실행", BUTTON_COLOR);
+            redoButton.addActionListener(e -> redoMove());
+            JButton hintButton = createStyledButton("힌트", BUTTON_COLOR);
+            hintButton.addActionListener(e -> showHint());
+            buttonPanel.add(undoButton);
+            buttonPanel.add(redoButton);
+            buttonPanel.add(hintButton);
+        }
+
+        if (gameBoard.isZoomable()) {
+            JButton zoomInButton = createStyledButton("확대", BUTTON_COLOR);
+            zoomInButton.addActionListener(e -> gameBoard.zoomIn());
+            JButton zoomOutButton = createStyledButton("축소", BUTTON_COLOR);
+            zoomOutButton.addActionListener(e -> gameBoard.zoomOut());
+            buttonPanel.add(zoomInButton);
+            buttonPanel.add(zoomOutButton);
+        }
         
         mainPanel.add(buttonPanel, BorderLayout.SOUTH);
     }
@@ -445,14 +599,36 @@ public class MinesweeperGame {
     // 타이머 정지
     // 오디오 플레이어 종료
     // ExecutorService 종료
+    // 이동 저널 닫기 (파일은 남겨 다음 실행에서 이어서 함)
+    // 확률 분석 작업 스레드 종료
+    // 추측 없는 보드 생성 작업 스레드 종료
+    // 아직 디스크에 쓰지 않은 마일리지 변경 반영
     private void cleanup() {
+        stopTimerAndMusic();
+        if (mileageManager != null) {
+            mileageManager.close();
+        }
+        if (journal != null) {
+            journal.close();
+        }
+        if (probabilityService != null) {
+            probabilityService.shutdown();
+        }
+        noGuessGenerator.shutdown();
+        executorService.shutdown();
+    }
+
+    // stopTimerAndMusic 메소드
+    // 타이머 정지
+    // 오디오 플레이어 종료
+    // 재시작 시 보드 풀을 보충하는 ExecutorService는 유지
+    private void stopTimerAndMusic() {
         if (timer != null) {
             timer.cancel();
         }
         if (audioPlayer != null) {
             audioPlayer.close();
         }
-        executorService.shutdown();
     }
 
     // showError 메소드
@@ -496,16 +672,16 @@ public class MinesweeperGame {
                 "재시작 확인",
                 JOptionPane.YES_NO_OPTION) == JOptionPane.YES_OPTION) {
                 
-                cleanup();
+                stopTimerAndMusic();
+                discardJournal();
                 elapsedTime.set(0);
                 gameOver = false;
                 firstClick = true;
 
                 gameBoardPanel.removeAll();
                 
-                gameBoard = new GameBoard(rows, cols, mines, this::onWin, this::onGameOver);
+                gameBoard = createGameBoard();
                 gameBoard.setFirstClick(firstClick);  // firstClick 상태 전달
-                gameBoard.setCellColor(cellColor);
                 
                 gameBoardPanel.add(gameBoard, BorderLayout.CENTER);
                 updateTimerLabel(0);
@@ -523,6 +699,131 @@ public class MinesweeperGame {
         }
     }
 
+    // createGameBoard 메소드
+    // 현재 난이도와 보드 생성 방식으로 게임 보드 생성
+    // 연습 모드는 저널 대신 되돌리기 기록 연결 (이어하기와 검증 대상이 아님)
+    private GameBoard createGameBoard() {
+        GameBoard board = new GameBoard(boardPool.take(rows, cols, mines), this::onWin, this::onGameOver);
+        board.setCellColor(cellColor);
+        if (noGuessMode) {
+            board.setNoGuessGenerator(noGuessGenerator);
+        }
+        if (practiceMode) {
+            journal = null;
+            board.setHistory(new BoardHistory(board.getModel()));
+            if (probabilityService != null) {
+                probabilityService.shutdown();
+            }
+            probabilityService = new ProbabilityService(rows, cols, mines);
+            board.setProbabilityService(probabilityService);
+            return board;
+        }
+        try {
+            journal = MoveJournal.create(JOURNAL_PATH, CHECKPOINT_PATH, board.getModel(), board.getSeed(),
+                    executorService, JOURNAL_CHECKPOINT_INTERVAL);
+            board.setMoveJournal(journal);
+        } catch (IOException e) {
+            journal = null;
+            LOGGER.log(Level.WARNING, "Failed to create move journal", e);
+        }
+        return board;
+    }
+
+    // resumeGameBoard 메소드
+    // 복원한 보드로 게임 보드 생성
+    // 저널을 다시 열어 이어서 기록
+    private GameBoard resumeGameBoard(MoveJournal.Replay savedGame) {
+        GameBoard board = new GameBoard(savedGame.getEntry(), this::onWin, this::onGameOver);
+        board.setCellColor(cellColor);
+        board.restore(savedGame);
+        try {
+            journal = MoveJournal.resume(savedGame, JOURNAL_PATH, CHECKPOINT_PATH,
+                    executorService, JOURNAL_CHECKPOINT_INTERVAL);
+            board.setMoveJournal(journal);
+        } catch (IOException e) {
+            journal = null;
+            LOGGER.log(Level.WARNING, "Failed to reopen move journal", e);
+        }
+        return board;
+    }
+
+    // discardJournal 메소드
+    // 끝난 게임의 저널과 체크포인트 삭제
+    private void discardJournal() {
+        if (journal != null) {
+            journal.delete();
+            journal = null;
+        }
+    }
+
+    // undoMove 메소드
+    // 연습 모드에서 마지막 이동 되돌리기
+    private void undoMove() {
+        if (gameBoard.undo()) {
+            resumeIfUndone();
+        }
+    }
+
+    // redoMove 메소드
+    // 연습 모드에서 되돌린 이동 다시 실행
+    private void redoMove() {
+        if (gameBoard.redo()) {
+            resumeIfUndone();
+        }
+    }
+
+    // showHint 메소드
+    // 연습 모드에서 백그라운드 확률 분석 결과로 가장 안전한 칸 안내
+    private void showHint() {
+        FrontierAnalyzer.Snapshot snapshot = probabilityService != null ? probabilityService.getSnapshot() : null;
+        if (gameOver || snapshot == null) {
+            showAlert("힌트", "지금은 힌트를 볼 수 없습니다.");
+            return;
+        }
+        BoardModel model = gameBoard.getModel();
+        int index = snapshot.bestGuess(model);
+        if (index < 0) {
+            showAlert("힌트", "열 수 있는 칸이 없습니다.");
+            return;
+        }
+        LOGGER.info(String.format("Probability analysis: %d regions, %d frontier cells, %.2f ms latency",
+                snapshot.getRegionCount(), snapshot.getFrontierCells(), probabilityService.getAverageLatencyMillis()));
+        JOptionPane.showMessageDialog(frame,
+                String.format("%d행 %d열 칸의 지뢰 확률: %.1f%%%n확실히 안전한 칸: %d개",
+                        model.rowOf(index) + 1, model.colOf(index) + 1,
+                        snapshot.getProbability(index) * 100, snapshot.getSafeCells().length),
+                "힌트", JOptionPane.INFORMATION_MESSAGE);
+    }
+
+    // resumeIfUndone 메소드
+    // 끝난 게임을 되돌렸으면 보드를 다시 활성화하고 타이머를 이어서 시작
+    private void resumeIfUndone() {
+        if (gameOver && !gameBoard.isGameOver()) {
+            gameOver = false;
+            gameBoard.setEnabled(true);
+            smileButton.setText("🙂");
+            startTimer();
+        }
+    }
+
+    // archiveJournal 메소드
+    // 끝난 게임의 저널을 검증용 기록으로 보관
+    // 보관한 기록 경로 반환, 저널이 없거나 보관하지 못하면 null
+    private Path archiveJournal() {
+        if (journal == null) {
+            return null;
+        }
+        try {
+            return journal.archive(REPLAYS_PATH);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to archive move journal", e);
+            journal.delete();
+            return null;
+        } finally {
+            journal = null;
+        }
+    }
+
     // customizeCellColor 메소드
     // 셀 색상 커스터마이징
     private void customizeCellColor() {
@@ -668,11 +969,12 @@ public class MinesweeperGame {
                             String.format("%s 색상을 %d 마일리지로 구매하시겠습니까?", colorName, COLOR_PRICE),
                             "색상 구매", JOptionPane.YES_NO_OPTION);
                         if (choice == JOptionPane.YES_OPTION) {
-                            customer.deductMileage(COLOR_PRICE, "색상 구매: " + colorName);
-                            customer.addPurchasedColor(colorName);
+                            if (!mileageManager.purchaseColor(customer.getCustomerId(), colorName, COLOR_PRICE)) {
+                                showAlert("마일리지 부족", "마일리지가 부족합니다.");
+                                return;
+                            }
                             cellColor = color;
                             gameBoard.setCellColor(color);
-                            mileageManager.saveData();
                             ((Window) colorPreviewPanel.getTopLevelAncestor()).dispose();
                             showAlert("구매 완료", "색상 구매가 완료되었습니다.");
                         }
@@ -686,6 +988,52 @@ public class MinesweeperGame {
         colorPanel.add(colorPreviewPanel);
     }
 
+    // showEndlessMode 메소드
+    // 끝없는 모드 창 표시 (보드를 청크로 나눠 필요한 부분만 만들고 메모리 예산을 넘으면 파일로 내보냄)
+    // 지뢰를 밟으면 공개한 칸 수를 기록으로 남기고 마일리지는 바꾸지 않음
+    // 창을 닫으면 이 월드의 청크 파일 삭제
+    private void showEndlessMode() {
+        long seed = MinePlacer.newSeed();
+        ChunkedBoard world = new ChunkedBoard(seed, ENDLESS_MINE_DENSITY,
+                Paths.get(GameResources.ENDLESS_PATH, Long.toUnsignedString(seed, 16)), ENDLESS_MEMORY_BUDGET_BYTES);
+        JLabel statusLabel = new JLabel(" ", SwingConstants.CENTER);
+        statusLabel.setFont(DEFAULT_FONT);
+        JDialog dialog = new JDialog(frame, "끝없는 모드", false);
+        EndlessBoardView[] view = new EndlessBoardView[1];
+        view[0] = new EndlessBoardView(world, () -> {
+            statusLabel.setText(String.format("공개한 칸: %d  |  메모리 청크: %d/%d  |  디스크로 내보낸 청크: %d",
+                    world.getRevealedCells(), world.getCachedChunks(), world.getMaxChunks(), world.getChunksWritten()));
+            if (world.isMineRevealed() && view[0].isEnabled()) {
+                view[0].setEnabled(false);
+                view[0].setShowMines(true);
+                saveGameResult(String.format("플레이어: %s, 끝없는 모드, 결과: 게임 오버, 공개한 칸: %d",
+                        playerName, world.getRevealedCells()));
+                JOptionPane.showMessageDialog(dialog, "지뢰를 밟았습니다! 공개한 칸: " + world.getRevealedCells(),
+                        "게임 오버", JOptionPane.ERROR_MESSAGE);
+            }
+        });
+        world.reveal(0, 0);
+        statusLabel.setText("공개한 칸: " + world.getRevealedCells() + "  |  끌기, 방향키, 휠로 이동");
+
+        dialog.setLayout(new BorderLayout());
+        dialog.add(statusLabel, BorderLayout.NORTH);
+        dialog.add(view[0], BorderLayout.CENTER);
+        dialog.setDefaultCloseOperation(WindowConstants.DISPOSE_ON_CLOSE);
+        dialog.addWindowListener(new java.awt.event.WindowAdapter() {
+            @Override
+            public void windowClosed(java.awt.event.WindowEvent e) {
+                LOGGER.info(String.format("Endless world %d closed: %d generated, %d loaded, %d written chunks",
+                        seed, world.getChunksGenerated(), world.getChunksLoaded(), world.getChunksWritten()));
+                world.delete();
+            }
+        });
+        dialog.pack();
+        dialog.setLocationRelativeTo(frame);
+        view[0].centerOn(0, 0);
+        dialog.setVisible(true);
+        view[0].requestFocusInWindow();
+    }
+
     // showMileageDialog 메소드
     // 마일리지 다이얼로그 표시
     private void showMileageDialog() {
@@ -735,34 +1083,88 @@ public class MinesweeperGame {
 
     // onWin 메소드
     // 승리 처리
+    // 보관한 게임 기록을 작업 스레드에서 다시 재생해 승리와 플레이 시간이 맞는지 확인한 뒤에만 EDT에서 마일리지 지급
+    // 기록을 보관하지 못했으면 확인할 수 없으므로 마일리지를 지급하지 않음
+    // 연습 모드는 결과와 마일리지 없이 알림만 표시
     private void onWin() {
         audioPlayer.stop();
         if (timer != null) {
             timer.cancel();
         }
         gameOver = true;
-        String result = playerName + "님이 " + elapsedTime.get() + "초 만에 승리! 난이도: " + difficulty;
-        saveGameResult(result);
-        winStreak++;
-        int bonus = calculateWinBonus();
-        mileageManager.addMileage(playerName, bonus, 
-            String.format("게임 승리 (난이도: %s, %d연승)", difficulty, winStreak));
-        gameBoard.setEnabled(false); 
-        gameBoard.setGameOver(true); 
-        smileButton.setText("😎");
+        gameBoard.setEnabled(false);
+        if (practiceMode) {
+            smileButton.setText("😎");
+            showAlert("축하합니다!", "연습 모드 승리! 플레이 시간: " + elapsedTime.get() + "초");
+            return;
+        }
+        gameBoard.setGameOver(true);
+        Path recording = archiveJournal();
+        int seconds = elapsedTime.get();
+        String result = playerName + "님이 " + seconds + "초 만에 승리! 난이도: " + difficulty;
+        if (recording == null) {
+            LOGGER.warning("No recording for win, withholding mileage");
+            saveGameResult(result + " (검증 불가, 시드: " + gameBoard.getSeed() + ")");
+            showError("검증 불가", "게임 기록을 저장하지 못해 승리를 확인할 수 없으므로 마일리지를 지급하지 않습니다.");
+            return;
+        }
+        // 연승은 게임이 끝난 순서대로 세야 하므로 검증을 기다리지 않고 지금 올림 // 검증에 실패하면 되돌림
+        int streak = ++winStreak;
+        String player = playerName;
+        String gameDifficulty = difficulty;
+        long seed = gameBoard.getSeed();
+        GameBoard board = gameBoard;
+        executorService.execute(() -> {
+            ReplayVerifier.Verdict verdict = ReplayVerifier.verify(recording, seconds);
+            SwingUtilities.invokeLater(() -> awardWin(verdict, player, gameDifficulty, streak, seed, board, result));
+        });
+    }
+
+    // awardWin 메소드
+    // 기록 검증 결과에 따라 승리 마일리지 지급 또는 거절 (EDT에서 호출)
+    // 검증하는 동안 새 게임을 시작했으면 그 게임의 표정 버튼은 바꾸지 않음
+    // streak는 승리한 게임이 끝날 때의 연승 수 // 거절되면 그 뒤로 끝난 게임이 없을 때만 연승을 되돌림
+    private void awardWin(ReplayVerifier.Verdict verdict, String player, String gameDifficulty, int streak,
+                          long seed, GameBoard board, String result) {
+        Path recording = verdict.getPath();
+        if (!verdict.isValid()) {
+            LOGGER.warning("Rejected win " + recording + ": " + verdict.getReason());
+            if (winStreak == streak) {
+                winStreak = streak - 1;
+            }
+            saveGameResult(result + " (검증 실패, 기록: " + recording.getFileName() + ")");
+            showError("검증 실패", "게임 기록을 검증할 수 없어 마일리지를 지급하지 않습니다.");
+            return;
+        }
+        saveGameResult(result + " (시드: " + seed + ", 기록: " + recording.getFileName() + ")");
+        int bonus = calculateWinBonus(gameDifficulty, streak);
+        mileageManager.addMileage(player, bonus,
+            String.format("게임 승리 (난이도: %s, %d연승)", gameDifficulty, streak));
+        if (gameBoard == board) {
+            smileButton.setText("😎");
+        }
         showAlert("축하합니다!", result);
     }
 
     // onGameOver 메소드
     // 게임 오버 처리
+    // 연습 모드는 마일리지를 차감하지 않고 되돌리기로 이어서 할 수 있음
     private void onGameOver() {
         audioPlayer.stop();
         if (timer != null) {
             timer.cancel();
         }
         gameOver = true;
+        if (practiceMode) {
+            gameBoard.setEnabled(false);
+            smileButton.setText("😲");
+            showAlert("게임 오버", "연습 모드: 되돌리기로 이어서 할 수 있습니다.");
+            return;
+        }
+        Path recording = archiveJournal();
         String result = playerName + "님, 아쉽네요! 플레이 시간: " + elapsedTime.get() + "초";
-        saveGameResult(result);
+        saveGameResult(result + " (시드: " + gameBoard.getSeed()
+                + (recording != null ? ", 기록: " + recording.getFileName() : "") + ")");
         winStreak = 0;
         int penalty = calculateLossPenalty();
         mileageManager.useMileage(playerName, penalty, 
@@ -775,14 +1177,14 @@ public class MinesweeperGame {
 
     // calculateWinBonus 메소드
     // 승리 보너스 계산
-    private int calculateWinBonus() {
+    private int calculateWinBonus(String difficulty, int streak) {
         int baseBonus = switch(difficulty) {
             case "쉬움" -> 50;
             case "보통" -> 100;
             case "어려움" -> 200;
             default -> 50;
         };
-        return baseBonus + (winStreak * 10); 
+        return baseBonus + (streak * 10); 
     }
 
     // calculateLossPenalty 메소드
@@ -0,0 +1,657 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+public class MinesweeperSolver {
+    public static final int UNKNOWN = -1;
+    public static final int FLAGGED = -2;
+    static final int STATE_UNKNOWN = 0;
+    static final int STATE_SAFE = 1;
+    static final int STATE_MINE = 2;
+    private static final int MAX_ENUMERATION_VARIABLES = 48;
+    private static final int CANCEL_CHECK_INTERVAL = 1 << 12;
+    // 구성요소 하나를 정확히 열거할 때 방문할 최대 노드 수 // 넘으면 근사로 대신해 analyze가 오래 붙잡히지 않게 함
+    private static final long MAX_ENUMERATION_NODES = 1L << 21;
+    private final AtomicLong positionsAnalysed = new AtomicLong();
+    private final AtomicLong analysisNanos = new AtomicLong();
+
+    // visibleState // 보드 모델에서 플레이어가 볼 수 있는 상태만 추출
+    // 공개된 셀은 인접 지뢰 수, 깃발은 FLAGGED, 나머지는 UNKNOWN
+    public static int[] visibleState(BoardModel model) {
+        int[] visible = new int[model.size()];
+        for (int index = 0; index < visible.length; index++) {
+            if (model.isRevealed(index)) {
+                visible[index] = model.getAdjacentMines(index);
+            } else {
+                visible[index] = model.isFlagged(index) ? FLAGGED : UNKNOWN;
+            }
+        }
+        return visible;
+    }
+
+    // analyze // 보드 모델의 보이는 상태 분석
+    public Result analyze(BoardModel model) {
+        return analyze(model.getRows(), model.getCols(), visibleState(model), model.getMineCount());
+    }
+
+    // analyze // 보이는 상태 분석 // 안전 셀, 확정 지뢰, 셀별 지뢰 확률 계산
+    // 제약 전파로 확정 셀을 먼저 찾고, 남은 경계를 독립 구성요소로 나눠 정확히 열거한 뒤
+    // 전체 지뢰 수로 구성요소와 내부 셀의 가중치를 결합함. totalMines가 0 이하면 전체 지뢰 수를 쓰지 않음
+    public Result analyze(int rows, int cols, int[] visible, int totalMines) {
+        long start = System.nanoTime();
+        Analysis analysis = new Analysis(rows, cols, visible, totalMines);
+        Result result = analysis.run();
+        analysisNanos.addAndGet(System.nanoTime() - start);
+        positionsAnalysed.incrementAndGet();
+        return result;
+    }
+
+    // getPositionsAnalysed // 누적 분석 횟수 반환
+    public long getPositionsAnalysed() {
+        return positionsAnalysed.get();
+    }
+
+    // getPositionsPerSecond // 누적 초당 분석 횟수 반환
+    public double getPositionsPerSecond() {
+        long nanos = analysisNanos.get();
+        return nanos == 0 ? 0 : positionsAnalysed.get() * 1e9 / nanos;
+    }
+
+    // resetMetrics // 측정값 초기화
+    public void resetMetrics() {
+        positionsAnalysed.set(0);
+        analysisNanos.set(0);
+    }
+
+    public static class Result {
+        private final int[] safeCells;
+        private final int[] mines;
+        private final double[] probabilities;
+
+        // Result 생성자 // 분석 결과 보관
+        public Result(int[] safeCells, int[] mines, double[] probabilities) {
+            this.safeCells = safeCells;
+            this.mines = mines;
+            this.probabilities = probabilities;
+        }
+
+        // getSafeCells // 확실히 안전한 미공개 셀 인덱스 반환
+        public int[] getSafeCells() {
+            return safeCells;
+        }
+
+        // getMines // 확실한 지뢰 셀 인덱스 반환 (깃발 제외)
+        public int[] getMines() {
+            return mines;
+        }
+
+        // getProbability // 셀의 지뢰 확률 반환 // 공개된 셀은 0, 깃발은 1
+        public double getProbability(int index) {
+            return probabilities[index];
+        }
+
+        // getProbabilities // 전체 셀의 지뢰 확률 배열 반환
+        public double[] getProbabilities() {
+            return probabilities;
+        }
+
+        // bestGuess // 확률이 가장 낮은 미확정 셀 반환 // 후보가 없으면 -1
+        public int bestGuess(int[] visible) {
+            int best = -1;
+            for (int index = 0; index < probabilities.length; index++) {
+                if (visible[index] == UNKNOWN && (best < 0 || probabilities[index] < probabilities[best])) {
+                    best = index;
+                }
+            }
+            return best;
+        }
+    }
+
+    // Analysis // 한 번의 분석 상태 // 호출마다 새로 만들어 스레드 간 공유하지 않음
+    private static class Analysis {
+        private final int rows;
+        private final int cols;
+        private final int size;
+        private final int[] visible;
+        private final int totalMines;
+        private final int[] state;
+        private final double[] probabilities;
+        private final List<int[]> constraintCells = new ArrayList<>();
+        private final List<Integer> constraintTargets = new ArrayList<>();
+
+        Analysis(int rows, int cols, int[] visible, int totalMines) {
+            if (visible.length != rows * cols) {
+                throw new IllegalArgumentException("Visible state does not match board size: " + visible.length);
+            }
+            this.rows = rows;
+            this.cols = cols;
+            this.size = rows * cols;
+            this.visible = visible;
+            this.totalMines = totalMines;
+            this.state = new int[size];
+            this.probabilities = new double[size];
+        }
+
+        Result run() {
+            buildConstraints();
+            propagate();
+            solveComponents();
+
+            int safeCount = 0;
+            int mineCount = 0;
+            for (int index = 0; index < size; index++) {
+                if (visible[index] == UNKNOWN) {
+                    if (state[index] == STATE_SAFE) safeCount++;
+                    if (state[index] == STATE_MINE) mineCount++;
+                }
+            }
+            int[] safeCells = new int[safeCount];
+            int[] mines = new int[mineCount];
+            safeCount = 0;
+            mineCount = 0;
+            for (int index = 0; index < size; index++) {
+                if (visible[index] >= 0) {
+                    probabilities[index] = 0;
+                } else if (visible[index] == FLAGGED) {
+                    probabilities[index] = 1;
+                } else if (state[index] == STATE_SAFE) {
+                    probabilities[index] = 0;
+                    safeCells[safeCount++] = index;
+                } else if (state[index] == STATE_MINE) {
+                    probabilities[index] = 1;
+                    mines[mineCount++] = index;
+                }
+            }
+            return new Result(safeCells, mines, probabilities);
+        }
+
+        // buildConstraints // 공개된 숫자 셀마다 미확인 이웃과 남은 지뢰 수로 제약 생성
+        private void buildConstraints() {
+            int[] buffer = new int[8];
+            for (int index = 0; index < size; index++) {
+                if (visible[index] <= 0) continue;
+                int row = index / cols;
+                int col = index - row * cols;
+                int count = 0;
+                int flagged = 0;
+                for (int nRow = Math.max(0, row - 1); nRow <= Math.min(rows - 1, row + 1); nRow++) {
+                    for (int nCol = Math.max(0, col - 1); nCol <= Math.min(cols - 1, col + 1); nCol++) {
+                        int neighbor = nRow * cols + nCol;
+                        if (visible[neighbor] == UNKNOWN) {
+                            buffer[count++] = neighbor;
+                        } else if (visible[neighbor] == FLAGGED) {
+                            flagged++;
+                        }
+                    }
+                }
+                if (count > 0) {
+                    constraintCells.add(Arrays.copyOf(buffer, count));
+                    constraintTargets.add(visible[index] - flagged);
+                }
+            }
+        }
+
+        // propagate // 제약 전파 // 보드 인덱스를 변수 번호로 쓰는 공통 전파 실행
+        private void propagate() {
+            int[][] cells = constraintCells.toArray(new int[0][]);
+            int[] targets = new int[cells.length];
+            for (int c = 0; c < targets.length; c++) targets[c] = constraintTargets.get(c);
+            MinesweeperSolver.propagate(cells, targets, state);
+        }
+
+        // solveComponents // 남은 경계를 독립 구성요소로 나누고 전체 지뢰 수로 가중 결합
+        private void solveComponents() {
+            List<int[]> live = new ArrayList<>();
+            List<Integer> liveTargets = new ArrayList<>();
+            int[] parent = new int[size];
+            for (int i = 0; i < size; i++) parent[i] = i;
+            boolean[] frontier = new boolean[size];
+            for (int c = 0; c < constraintCells.size(); c++) {
+                int[] cells = constraintCells.get(c);
+                int[] reduced = reduce(cells, state);
+                if (reduced.length == 0) continue;
+                live.add(reduced);
+                liveTargets.add(reducedTarget(cells, constraintTargets.get(c), state));
+                for (int cell : reduced) {
+                    frontier[cell] = true;
+                    union(parent, reduced[0], cell);
+                }
+            }
+
+            // 구성요소별로 변수와 제약 모으기
+            int[] componentOf = new int[size];
+            Arrays.fill(componentOf, -1);
+            List<List<Integer>> componentCells = new ArrayList<>();
+            for (int index = 0; index < size; index++) {
+                if (!frontier[index]) continue;
+                int root = find(parent, index);
+                if (componentOf[root] < 0) {
+                    componentOf[root] = componentCells.size();
+                    componentCells.add(new ArrayList<>());
+                }
+                componentCells.get(componentOf[root]).add(index);
+            }
+            List<List<Integer>> componentConstraints = new ArrayList<>();
+            for (int i = 0; i < componentCells.size(); i++) componentConstraints.add(new ArrayList<>());
+            for (int c = 0; c < live.size(); c++) {
+                componentConstraints.get(componentOf[find(parent, live.get(c)[0])]).add(c);
+            }
+
+            Component[] components = new Component[componentCells.size()];
+            for (int i = 0; i < components.length; i++) {
+                components[i] = new Component(componentCells.get(i), componentConstraints.get(i), live, liveTargets);
+                if (!components[i].enumerate(nodeBudget(MAX_ENUMERATION_NODES))) {
+                    components[i].approximate();
+                }
+            }
+
+            int interior = 0;
+            int knownMines = 0;
+            for (int index = 0; index < size; index++) {
+                if (visible[index] == FLAGGED || state[index] == STATE_MINE) knownMines++;
+                if (visible[index] == UNKNOWN && state[index] == STATE_UNKNOWN && !frontier[index]) interior++;
+            }
+            combine(components, frontier, interior, totalMines > 0 ? totalMines - knownMines : -1);
+        }
+
+        // combine // 구성요소별 지뢰 수 분포와 내부 셀 조합 수를 곱해 셀별 확률 계산
+        private void combine(Component[] components, boolean[] frontier, int interior, int remainingMines) {
+            int maxMines = 0;
+            for (Component component : components) maxMines += component.maxMines();
+            // 전체 분포 (모든 구성요소의 합성곱)
+            double[] total = {1};
+            for (Component component : components) total = convolve(total, component.weights);
+            double[] interiorWeight = interiorWeights(interior, remainingMines, maxMines);
+
+            for (int i = 0; i < components.length; i++) {
+                Component component = components[i];
+                // 이 구성요소를 제외한 나머지의 분포
+                double[] others = {1};
+                for (int j = 0; j < components.length; j++) {
+                    if (j != i) others = convolve(others, components[j].weights);
+                }
+                double[] rest = new double[component.weights.length];
+                for (int k = 0; k < rest.length; k++) {
+                    for (int m = 0; m < others.length; m++) {
+                        rest[k] += others[m] * weightAt(interiorWeight, k + m);
+                    }
+                }
+                component.assignProbabilities(rest, state, probabilities);
+            }
+
+            if (interior > 0) {
+                double weightSum = 0;
+                double expectedMines = 0;
+                for (int m = 0; m < total.length; m++) {
+                    double weight = total[m] * weightAt(interiorWeight, m);
+                    weightSum += weight;
+                    if (remainingMines >= 0) expectedMines += weight * (remainingMines - m);
+                }
+                double probability;
+                if (remainingMines < 0) {
+                    probability = Double.NaN;
+                } else {
+                    probability = weightSum == 0 ? 0 : expectedMines / weightSum / interior;
+                }
+                for (int index = 0; index < size; index++) {
+                    if (visible[index] == UNKNOWN && state[index] == STATE_UNKNOWN && !frontier[index]) {
+                        probabilities[index] = probability;
+                        if (probability == 0) state[index] = STATE_SAFE;
+                        else if (probability == 1) state[index] = STATE_MINE;
+                    }
+                }
+            }
+        }
+    }
+
+    // nodeBudget // 열거 노드 수 예산 // Component.enumerate가 CANCEL_CHECK_INTERVAL 노드마다 묻는 중단 조건으로 사용
+    private static BooleanSupplier nodeBudget(long nodes) {
+        long[] checks = new long[1];
+        return () -> ++checks[0] * CANCEL_CHECK_INTERVAL >= nodes;
+    }
+
+    // propagate // 제약 전파 // 단일 제약 규칙과 부분집합 규칙으로 확정 변수를 반복해서 찾아 state에 기록
+    // constraints[c]는 제약 c의 변수 번호, targets[c]는 그 지뢰 수, state는 변수별 STATE_* 값
+    // 변수 번호는 state 안의 위치면 되므로 보드 전체 인덱스와 FrontierAnalyzer의 지역 번호 모두에 사용
+    static void propagate(int[][] constraints, int[] targets, int[] state) {
+        boolean progress = true;
+        while (progress) {
+            progress = false;
+            for (int c = 0; c < constraints.length; c++) {
+                int[] cells = constraints[c];
+                int unknown = 0;
+                int target = targets[c];
+                for (int cell : cells) {
+                    if (state[cell] == STATE_UNKNOWN) unknown++;
+                    else if (state[cell] == STATE_MINE) target--;
+                }
+                if (unknown == 0) continue;
+                if (target == 0 || target == unknown) {
+                    int value = target == 0 ? STATE_SAFE : STATE_MINE;
+                    for (int cell : cells) {
+                        if (state[cell] == STATE_UNKNOWN) state[cell] = value;
+                    }
+                    progress = true;
+                }
+            }
+            if (!progress) {
+                progress = propagateSubsets(constraints, targets, state);
+            }
+        }
+    }
+
+    // propagateSubsets // 한 제약의 미확인 변수가 다른 제약에 포함되면 차집합의 지뢰 수를 확정
+    private static boolean propagateSubsets(int[][] constraints, int[] targets, int[] state) {
+        int[][] reduced = new int[constraints.length][];
+        int[] reducedTargets = new int[constraints.length];
+        int[][] byCell = new int[state.length][];
+        int[] byCellCount = new int[state.length];
+        for (int c = 0; c < constraints.length; c++) {
+            reduced[c] = reduce(constraints[c], state);
+            reducedTargets[c] = reducedTarget(constraints[c], targets[c], state);
+            for (int cell : reduced[c]) {
+                if (byCell[cell] == null) byCell[cell] = new int[4];
+                if (byCellCount[cell] == byCell[cell].length) byCell[cell] = Arrays.copyOf(byCell[cell], byCellCount[cell] * 2);
+                byCell[cell][byCellCount[cell]++] = c;
+            }
+        }
+        for (int a = 0; a < constraints.length; a++) {
+            int[] cellsA = reduced[a];
+            if (cellsA.length == 0) continue;
+            int first = cellsA[0];
+            for (int k = 0; k < byCellCount[first]; k++) {
+                int b = byCell[first][k];
+                int[] cellsB = reduced[b];
+                if (b == a || cellsB.length <= cellsA.length || !containsAll(cellsB, cellsA)) continue;
+                int difference = cellsB.length - cellsA.length;
+                int remaining = reducedTargets[b] - reducedTargets[a];
+                if (remaining != 0 && remaining != difference) continue;
+                int value = remaining == 0 ? STATE_SAFE : STATE_MINE;
+                for (int cell : cellsB) {
+                    if (!contains(cellsA, cell)) state[cell] = value;
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // reduce // 제약에서 아직 확정되지 않은 변수만 남김 // 모두 미확정이면 같은 배열 반환
+    static int[] reduce(int[] cells, int[] state) {
+        int[] buffer = new int[cells.length];
+        int count = 0;
+        for (int cell : cells) {
+            if (state[cell] == STATE_UNKNOWN) buffer[count++] = cell;
+        }
+        return count == cells.length ? cells : Arrays.copyOf(buffer, count);
+    }
+
+    // reducedTarget // 확정된 지뢰를 뺀 제약의 남은 지뢰 수
+    static int reducedTarget(int[] cells, int target, int[] state) {
+        for (int cell : cells) {
+            if (state[cell] == STATE_MINE) target--;
+        }
+        return target;
+    }
+
+    // Component // 서로 변수를 공유하는 제약들의 묶음 // 역추적으로 모든 해를 열거
+    // cells는 오름차순이어야 하며 assignProbabilities에 넘기는 배열의 인덱스로 쓰임 (FrontierAnalyzer는 영역 안 번호 사용)
+    static class Component {
+        private final int[] cells;
+        private final int[][] constraints;
+        private final int[] targets;
+        private final int[][] cellConstraints;
+        private final int[] assigned;
+        private final int[] constraintMines;
+        private final int[] constraintOpen;
+        private double[] weights;
+        private double[][] mineWeights;
+        private boolean approximate;
+        private BooleanSupplier cancelled;
+        private long nodes;
+        private boolean aborted;
+
+        Component(List<Integer> cellList, List<Integer> constraintIds, List<int[]> live, List<Integer> liveTargets) {
+            this.cells = new int[cellList.size()];
+            for (int i = 0; i < cells.length; i++) cells[i] = cellList.get(i);
+            this.constraints = new int[constraintIds.size()][];
+            this.targets = new int[constraintIds.size()];
+            int[] counts = new int[cells.length];
+            for (int c = 0; c < constraints.length; c++) {
+                int[] global = live.get(constraintIds.get(c));
+                constraints[c] = new int[global.length];
+                for (int i = 0; i < global.length; i++) {
+                    constraints[c][i] = Arrays.binarySearch(cells, global[i]);
+                    counts[constraints[c][i]]++;
+                }
+                targets[c] = liveTargets.get(constraintIds.get(c));
+            }
+            this.cellConstraints = new int[cells.length][];
+            for (int i = 0; i < cells.length; i++) cellConstraints[i] = new int[counts[i]];
+            Arrays.fill(counts, 0);
+            for (int c = 0; c < constraints.length; c++) {
+                for (int local : constraints[c]) cellConstraints[local][counts[local]++] = c;
+            }
+            this.assigned = new int[cells.length];
+            this.constraintMines = new int[constraints.length];
+            this.constraintOpen = new int[constraints.length];
+        }
+
+        // enumerate // 모든 해를 열거해 지뢰 수별 해의 수와 셀별 지뢰 횟수 기록
+        // cancelled가 true를 반환하면 중단하고 false 반환 (결과는 쓸 수 없음)
+        boolean enumerate(BooleanSupplier cancelled) {
+            weights = new double[cells.length + 1];
+            mineWeights = new double[cells.length][cells.length + 1];
+            approximate = false;
+            if (cells.length > MAX_ENUMERATION_VARIABLES) {
+                approximate();
+                return true;
+            }
+            this.cancelled = cancelled;
+            nodes = 0;
+            aborted = false;
+            Arrays.fill(constraintMines, 0);
+            for (int c = 0; c < constraints.length; c++) constraintOpen[c] = constraints[c].length;
+            Arrays.fill(assigned, -1);
+            search(0, 0);
+            if (aborted) {
+                return false;
+            }
+            if (sum(weights) == 0) {
+                // 모순된 상태(잘못된 깃발 등)에서는 국소 근사로 대신함
+                approximate();
+            }
+            return true;
+        }
+
+        private void search(int position, int mines) {
+            if (aborted) return;
+            if ((++nodes & (CANCEL_CHECK_INTERVAL - 1)) == 0 && cancelled.getAsBoolean()) {
+                aborted = true;
+                return;
+            }
+            if (position == cells.length) {
+                weights[mines]++;
+                for (int i = 0; i < cells.length; i++) {
+                    if (assigned[i] == 1) mineWeights[i][mines]++;
+                }
+                return;
+            }
+            for (int value = 0; value <= 1; value++) {
+                if (assign(position, value)) {
+                    search(position + 1, mines + value);
+                }
+                unassign(position, value);
+            }
+        }
+
+        // assign // 변수에 값 대입 후 관련 제약이 여전히 만족 가능한지 확인
+        private boolean assign(int position, int value) {
+            assigned[position] = value;
+            boolean feasible = true;
+            for (int c : cellConstraints[position]) {
+                constraintOpen[c]--;
+                constraintMines[c] += value;
+                if (constraintMines[c] > targets[c] || constraintMines[c] + constraintOpen[c] < targets[c]) {
+                    feasible = false;
+                }
+            }
+            return feasible;
+        }
+
+        private void unassign(int position, int value) {
+            assigned[position] = -1;
+            for (int c : cellConstraints[position]) {
+                constraintOpen[c]++;
+                constraintMines[c] -= value;
+            }
+        }
+
+        // approximate // 열거가 불가능하거나 노드 예산을 넘긴 큰 구성요소 // 제약별 평균 밀도로 확률 근사
+        private void approximate() {
+            approximate = true;
+            Arrays.fill(weights, 0);
+            double expected = 0;
+            double[] local = new double[cells.length];
+            for (int i = 0; i < cells.length; i++) {
+                double density = 0;
+                for (int c : cellConstraints[i]) {
+                    density += (double) targets[c] / constraints[c].length;
+                }
+                local[i] = Math.max(0, Math.min(1, density / cellConstraints[i].length));
+                expected += local[i];
+            }
+            int mines = (int) Math.round(expected);
+            weights[mines] = 1;
+            for (int i = 0; i < cells.length; i++) {
+                Arrays.fill(mineWeights[i], 0);
+                mineWeights[i][mines] = local[i];
+            }
+        }
+
+        // assignProbabilities // 나머지 분포 rest로 가중한 셀별 지뢰 확률 기록
+        void assignProbabilities(double[] rest, int[] state, double[] probabilities) {
+            double total = 0;
+            for (int k = 0; k < weights.length; k++) total += weights[k] * rest[k];
+            for (int i = 0; i < cells.length; i++) {
+                double mine = 0;
+                for (int k = 0; k < weights.length; k++) mine += mineWeights[i][k] * rest[k];
+                double probability = total == 0 ? 0.5 : mine / total;
+                probabilities[cells[i]] = probability;
+                if (!approximate && total > 0) {
+                    if (mine == 0) state[cells[i]] = STATE_SAFE;
+                    else if (mine == total) state[cells[i]] = STATE_MINE;
+                }
+            }
+        }
+
+        int maxMines() {
+            return cells.length;
+        }
+
+        // weights // 지뢰 수별 해의 수 (상대값)
+        double[] weights() {
+            return weights;
+        }
+
+        // isApproximate // 정확히 열거하지 못하고 근사했는지 여부
+        boolean isApproximate() {
+            return approximate;
+        }
+    }
+
+    // interiorWeights // 경계 지뢰 수 m마다 내부 셀 배치 수 C(interior, remaining - m)의 상대값
+    // 큰 보드에서도 넘치지 않도록 최대값이 1이 되게 로그 공간에서 계산
+    static double[] interiorWeights(int interior, int remainingMines, int maxFrontierMines) {
+        double[] weights = new double[maxFrontierMines + 1];
+        if (remainingMines < 0) {
+            Arrays.fill(weights, 1);
+            return weights;
+        }
+        double[] logs = new double[weights.length];
+        double max = Double.NEGATIVE_INFINITY;
+        double log = Double.NaN;
+        for (int m = 0; m < weights.length; m++) {
+            int r = remainingMines - m;
+            if (r < 0 || r > interior) {
+                logs[m] = Double.NEGATIVE_INFINITY;
+            } else {
+                // 첫 값만 직접 계산하고 이후는 C(n, r) = C(n, r + 1) * (r + 1) / (n - r)로 이어서 계산
+                log = Double.isNaN(log) ? logBinomial(interior, r) : log + Math.log(r + 1) - Math.log(interior - r);
+                logs[m] = log;
+            }
+            max = Math.max(max, logs[m]);
+        }
+        for (int m = 0; m < weights.length; m++) {
+            weights[m] = max == Double.NEGATIVE_INFINITY ? 0 : Math.exp(logs[m] - max);
+        }
+        return weights;
+    }
+
+    // convolve // 두 지뢰 수 분포의 합성곱 // 값이 너무 커지지 않도록 최대값으로 정규화
+    static double[] convolve(double[] a, double[] b) {
+        double[] result = new double[a.length + b.length - 1];
+        double max = 0;
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == 0) continue;
+            for (int j = 0; j < b.length; j++) {
+                result[i + j] += a[i] * b[j];
+            }
+        }
+        for (double value : result) max = Math.max(max, value);
+        if (max > 0) {
+            for (int i = 0; i < result.length; i++) result[i] /= max;
+        }
+        return result;
+    }
+
+    static double weightAt(double[] weights, int index) {
+        return index < weights.length ? weights[index] : 0;
+    }
+
+    private static double sum(double[] values) {
+        double total = 0;
+        for (double value : values) total += value;
+        return total;
+    }
+
+    // logBinomial // log C(n, k)
+    static double logBinomial(int n, int k) {
+        k = Math.min(k, n - k);
+        double result = 0;
+        for (int i = 1; i <= k; i++) {
+            result += Math.log(n - k + i) - Math.log(i);
+        }
+        return result;
+    }
+
+    static int find(int[] parent, int index) {
+        while (parent[index] != index) {
+            parent[index] = parent[parent[index]];
+            index = parent[index];
+        }
+        return index;
+    }
+
+    static void union(int[] parent, int a, int b) {
+        int rootA = find(parent, a);
+        int rootB = find(parent, b);
+        if (rootA != rootB) parent[rootA] = rootB;
+    }
+
+    static boolean containsAll(int[] outer, int[] inner) {
+        for (int value : inner) {
+            if (!contains(outer, value)) return false;
+        }
+        return true;
+    }
+
+    static boolean contains(int[] values, int value) {
+        for (int v : values) {
+            if (v == value) return true;
+        }
+        return false;
+    }
+}
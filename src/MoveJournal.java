@@ -0,0 +1,511 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public class MoveJournal implements Closeable {
+    private static final Logger LOGGER = Logger.getLogger(MoveJournal.class.getName());
+    public static final byte FIRST_CLICK = 1;
+    public static final byte BOARD_SEED = 2;
+    public static final byte REVEAL = 3;
+    public static final byte FLAG = 4;
+    private static final int MAGIC = 0x4D53574A; // "MSWJ"
+    private static final int CHECKPOINT_MAGIC = 0x4D535743; // "MSWC"
+    private static final byte VERSION = 1;
+    private static final byte CHECKPOINT_VERSION = 2;
+    private static final int HEADER_BYTES = 4 + 1 + 4 + 4 + 4 + 8;
+    private static final int MOVE_BYTES = 1 + 4 + 4;
+    private static final int SEED_BYTES = 8 + 1;
+    private static final int CHECKPOINT_HEADER_BYTES = 4 + 1 + 8 + 8 + 4 + 8 + 1;
+
+    // 저널 형식 (빅 엔디언)
+    //   헤더: int magic "MSWJ", byte version, int rows, int cols, int mines, long seed (보드 풀에서 배치한 시드)
+    //   기록: byte 종류, int 셀 인덱스, int 경과 시간(ms) // BOARD_SEED는 long 시드와 byte 추측 없음 여부가 뒤따름
+    // 체크포인트: int magic "MSWC", byte version, long 저널 헤더 시드, long 저널 위치, int 경과 시간, long 시드,
+    //   byte 추측 없음 여부, 이어서 BoardFile 형식의 보드 // 첫 클릭 이후에만 기록 (그 전에는 시드에서 다시 만드는 편이 정확함)
+    //   저널 헤더 시드가 다른 체크포인트는 다른 게임의 것이므로 불러오지 않음
+
+    private final Path journalPath;
+    private final Path checkpointPath;
+    private final FileChannel channel;
+    private final BoardModel model;
+    private final Executor executor;
+    private final int checkpointInterval;
+    private final ByteBuffer record = ByteBuffer.allocate(MOVE_BYTES + SEED_BYTES);
+    private final AtomicBoolean checkpointRunning = new AtomicBoolean();
+    // delete/archive와 대기 중인 체크포인트의 파일 교체를 직렬화 // generation이 바뀌면 대기 중인 체크포인트는 버림
+    private final Object checkpointLock = new Object();
+    private int generation;
+    private final long journalSeed;
+    private final long startNanos;
+    private final int baseMillis;
+    private long seed;
+    private boolean noGuess;
+    private boolean firstClickDone;
+    private int movesSinceCheckpoint;
+    private boolean failed;
+
+    // MoveJournal 생성자 // 열린 저널 파일에 이어서 기록
+    private MoveJournal(Path journalPath, Path checkpointPath, FileChannel channel, BoardModel model,
+                        Executor executor, int checkpointInterval, long journalSeed, long seed, boolean noGuess,
+                        boolean firstClickDone, int baseMillis) {
+        this.journalPath = journalPath;
+        this.checkpointPath = checkpointPath;
+        this.channel = channel;
+        this.model = model;
+        this.executor = executor;
+        this.checkpointInterval = checkpointInterval;
+        this.journalSeed = journalSeed;
+        this.seed = seed;
+        this.noGuess = noGuess;
+        this.firstClickDone = firstClickDone;
+        this.baseMillis = baseMillis;
+        this.startNanos = System.nanoTime();
+    }
+
+    // create // 새 게임의 저널 생성 // 이전 저널과 체크포인트는 지움
+    public static MoveJournal create(Path journalPath, Path checkpointPath, BoardModel model, long seed,
+                                     Executor executor, int checkpointInterval) throws IOException {
+        Files.deleteIfExists(checkpointPath);
+        FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        header.putInt(MAGIC).put(VERSION).putInt(model.getRows()).putInt(model.getCols())
+                .putInt(model.getMineCount()).putLong(seed).flip();
+        try {
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        return new MoveJournal(journalPath, checkpointPath, channel, model, executor, checkpointInterval,
+                seed, seed, false, false, 0);
+    }
+
+    // resume // 복원한 게임의 저널을 다시 열어 이어서 기록 // 마지막에 잘린 기록은 잘라냄
+    public static MoveJournal resume(Replay replay, Path journalPath, Path checkpointPath,
+                                     Executor executor, int checkpointInterval) throws IOException {
+        FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE);
+        try {
+            channel.truncate(replay.journalLength);
+            channel.position(replay.journalLength);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        return new MoveJournal(journalPath, checkpointPath, channel, replay.model, executor, checkpointInterval,
+                replay.journalSeed, replay.seed, replay.noGuess, replay.firstClickDone, replay.elapsedMillis);
+    }
+
+    // record // 클릭/깃발/첫 클릭 재배치를 한 건 기록 // EDT에서 호출, 몇 바이트만 씀
+    // 체크포인트가 이 기록까지 포함하도록 모델에 반영한 뒤 호출
+    public void record(byte type, int index) {
+        if (type == FIRST_CLICK) {
+            firstClickDone = true;
+        }
+        record.clear();
+        record.put(type).putInt(index).putInt(getElapsedMillis());
+        write();
+    }
+
+    // recordBoardSeed // 추측 없는 보드 생성 결과 기록 // 첫 클릭 주변을 비우고 seed로 다시 배치한 보드
+    public void recordBoardSeed(int index, long boardSeed, boolean boardNoGuess) {
+        seed = boardSeed;
+        noGuess = boardNoGuess;
+        firstClickDone = true;
+        record.clear();
+        record.put(BOARD_SEED).putInt(index).putInt(getElapsedMillis()).putLong(boardSeed)
+                .put((byte) (boardNoGuess ? 1 : 0));
+        write();
+    }
+
+    // write // 기록 버퍼를 저널 끝에 쓰고 주기적으로 체크포인트 요청
+    // 쓰기가 실패하면 일부만 쓰인 바이트를 잘라내고 이 게임의 기록을 멈춤 (빠진 이동 뒤로 이어 쓰면 재생이 어긋남)
+    private void write() {
+        if (failed) return;
+        record.flip();
+        long start = -1;
+        try {
+            start = channel.position();
+            while (record.hasRemaining()) {
+                channel.write(record);
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to append move to " + journalPath + ", journaling stopped", e);
+            failed = true;
+            if (start >= 0) {
+                try {
+                    channel.truncate(start);
+                    channel.position(start);
+                } catch (IOException truncateError) {
+                    LOGGER.log(Level.WARNING, "Failed to truncate torn move in " + journalPath, truncateError);
+                }
+            }
+            return;
+        }
+        if (++movesSinceCheckpoint >= checkpointInterval) {
+            checkpoint();
+        }
+    }
+
+    // checkpoint // 스냅샷 체크포인트 // EDT에서는 비트셋 복사만 하고 인코딩과 파일 쓰기는 executor에서 수행
+    // 이전 체크포인트가 아직 쓰이는 중이면 건너뛰고 다음 기회에 다시 시도
+    public void checkpoint() {
+        if (failed || !firstClickDone || !checkpointRunning.compareAndSet(false, true)) return;
+        long position;
+        try {
+            position = channel.position();
+        } catch (IOException e) {
+            checkpointRunning.set(false);
+            return;
+        }
+        movesSinceCheckpoint = 0;
+        // 인접 지뢰 수는 불러올 때 다시 계산하므로 비트 평면 3개만 복사
+        int rows = model.getRows();
+        int cols = model.getCols();
+        long[] mineBits = model.mineBits().clone();
+        long[] flagBits = model.flagBits().clone();
+        long[] revealedBits = model.revealedBits().clone();
+        int elapsed = getElapsedMillis();
+        long snapshotSeed = seed;
+        boolean snapshotNoGuess = noGuess;
+        int snapshotGeneration;
+        synchronized (checkpointLock) {
+            snapshotGeneration = generation;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    ByteBuffer board = BoardFile.encode(rows, cols, mineBits, flagBits, revealedBits, true);
+                    writeCheckpoint(board, position, elapsed, snapshotSeed, snapshotNoGuess, snapshotGeneration);
+                } catch (IOException e) {
+                    LOGGER.log(Level.WARNING, "Failed to write checkpoint " + checkpointPath, e);
+                } finally {
+                    checkpointRunning.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            checkpointRunning.set(false);
+        }
+    }
+
+    // writeCheckpoint // 체크포인트 파일 쓰기 // 임시 파일에 쓴 뒤 원자적으로 교체
+    // 그사이 저널이 삭제되거나 보관되었으면 (새 게임이 같은 경로를 쓸 수 있으므로) 교체하지 않고 임시 파일만 지움
+    private void writeCheckpoint(ByteBuffer board, long position, int elapsed, long snapshotSeed,
+                                 boolean snapshotNoGuess, int snapshotGeneration) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(CHECKPOINT_HEADER_BYTES);
+        header.putInt(CHECKPOINT_MAGIC).put(CHECKPOINT_VERSION).putLong(journalSeed).putLong(position)
+                .putInt(elapsed).putLong(snapshotSeed).put((byte) (snapshotNoGuess ? 1 : 0)).flip();
+        ByteBuffer[] buffers = {header, board};
+        Path temp = checkpointPath.resolveSibling(checkpointPath.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffers[1].hasRemaining()) {
+                out.write(buffers);
+            }
+        }
+        synchronized (checkpointLock) {
+            if (snapshotGeneration != generation) {
+                Files.deleteIfExists(temp);
+                return;
+            }
+            Files.move(temp, checkpointPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+
+    // invalidateCheckpoints // 대기 중인 체크포인트가 파일을 교체하지 못하게 하고 남은 체크포인트 삭제
+    private void invalidateCheckpoints() throws IOException {
+        synchronized (checkpointLock) {
+            generation++;
+            Files.deleteIfExists(checkpointPath);
+        }
+    }
+
+    // getElapsedMillis // 게임 경과 시간 반환 // 복원한 게임은 저장된 시간부터 이어서 셈
+    public int getElapsedMillis() {
+        return baseMillis + (int) ((System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    // close // 저널 닫기 // 파일은 남겨 두어 다음 실행에서 이어서 할 수 있음
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to close journal " + journalPath, e);
+        }
+    }
+
+    // delete // 끝난 게임의 저널과 체크포인트 삭제
+    public void delete() {
+        close();
+        try {
+            Files.deleteIfExists(journalPath);
+            invalidateCheckpoints();
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to delete journal " + journalPath, e);
+        }
+    }
+
+    // archive // 끝난 게임의 저널을 검증용 기록으로 보관 // directory/<시드>-<종료 시각>.bin으로 옮기고 체크포인트는 삭제
+    public Path archive(Path directory) throws IOException {
+        close();
+        Files.createDirectories(directory);
+        Path target = directory.resolve(seed + "-" + System.currentTimeMillis() + ".bin");
+        Files.move(journalPath, target, StandardCopyOption.REPLACE_EXISTING);
+        invalidateCheckpoints();
+        return target;
+    }
+
+    // load // 기록 전체 재생 // 체크포인트 없이 시드부터 모든 기록을 적용 (검증용)
+    public static Replay load(Path journalPath) throws IOException {
+        return load(journalPath, null);
+    }
+
+    // load // 저장된 게임 복원 // 마지막 체크포인트를 불러오고 그 뒤의 저널 기록만 다시 적용
+    // 체크포인트가 없거나 저널과 맞지 않으면 시드부터 전체 기록을 다시 적용
+    public static Replay load(Path journalPath, Path checkpointPath) throws IOException {
+        ByteBuffer journal = readAll(journalPath);
+        if (journal.remaining() < HEADER_BYTES || journal.getInt() != MAGIC) {
+            throw new IOException("Not a move journal: " + journalPath);
+        }
+        byte version = journal.get();
+        if (version != VERSION) {
+            throw new IOException("Unsupported journal version: " + version);
+        }
+        int rows = journal.getInt();
+        int cols = journal.getInt();
+        int mines = journal.getInt();
+        long seed = journal.getLong();
+
+        Replay replay = null;
+        if (checkpointPath != null) {
+            try {
+                replay = loadCheckpoint(checkpointPath, seed, rows, cols, mines, journal.limit());
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "Ignoring unreadable checkpoint " + checkpointPath, e);
+            }
+        }
+        if (replay != null) {
+            journal.position((int) replay.journalLength);
+        } else {
+            replay = new Replay(rows, cols, mines, seed);
+            replay.journalLength = HEADER_BYTES;
+        }
+        replay.journalSeed = seed;
+        replay.replay(journal);
+        return replay;
+    }
+
+    // loadCheckpoint // 체크포인트 읽기 // 없거나 저널과 맞지 않으면 (다른 게임의 체크포인트 포함) null
+    private static Replay loadCheckpoint(Path checkpointPath, long journalSeed, int rows, int cols, int mines,
+                                         int journalLength) throws IOException {
+        ByteBuffer buffer;
+        try {
+            buffer = readAll(checkpointPath);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+        if (buffer.remaining() < CHECKPOINT_HEADER_BYTES || buffer.getInt() != CHECKPOINT_MAGIC
+                || buffer.get() != CHECKPOINT_VERSION || buffer.getLong() != journalSeed) {
+            return null;
+        }
+        long position = buffer.getLong();
+        int elapsed = buffer.getInt();
+        long seed = buffer.getLong();
+        boolean noGuess = buffer.get() != 0;
+        BoardModel model = BoardFile.decode(buffer);
+        if (position < HEADER_BYTES || position > journalLength || model.getRows() != rows
+                || model.getCols() != cols || model.getMineCount() != mines) {
+            return null;
+        }
+        Replay replay = new Replay(model, mines, new MinePlacer(seed), noGuess, elapsed);
+        replay.journalLength = position;
+        return replay;
+    }
+
+    // readAll // 파일 전체를 버퍼로 읽기
+    private static ByteBuffer readAll(Path path) throws IOException {
+        try (FileChannel in = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = in.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("File too large: " + path);
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && in.read(buffer) >= 0) {
+                // 끝까지 읽기
+            }
+            buffer.flip();
+            return buffer;
+        }
+    }
+
+    // Replay // 기록을 GameBoard와 같은 규칙으로 모델에 다시 적용 // 화면 없이 동작
+    public static class Replay {
+        private final BoardModel model;
+        private final int mines;
+        private final RevealEngine revealEngine;
+        private MinePlacer placer;
+        private long seed;
+        private long journalSeed;
+        private boolean noGuess;
+        private boolean firstClickDone;
+        private boolean gameOver;
+        private int elapsedMillis;
+        private long journalLength;
+        private int moves;
+
+        // Replay 생성자 // 시드로 보드 풀과 같은 배치를 만들고 첫 클릭 전 상태에서 시작
+        public Replay(int rows, int cols, int mines, long seed) {
+            BoardPool.Entry entry = BoardPool.generate(rows, cols, mines, seed);
+            this.model = entry.getModel();
+            this.mines = mines;
+            this.placer = entry.getPlacer();
+            this.seed = seed;
+            this.journalSeed = seed;
+            this.revealEngine = new RevealEngine(model);
+        }
+
+        // Replay 생성자 // 체크포인트 모델에서 시작 // 첫 클릭 이후 상태
+        private Replay(BoardModel model, int mines, MinePlacer placer, boolean noGuess, int elapsedMillis) {
+            this.model = model;
+            this.mines = mines;
+            this.placer = placer;
+            this.seed = placer.getSeed();
+            this.noGuess = noGuess;
+            this.firstClickDone = true;
+            this.elapsedMillis = elapsedMillis;
+            this.revealEngine = new RevealEngine(model);
+        }
+
+        // replay // 버퍼의 기록을 끝까지 적용 // 마지막에 잘린 기록은 무시
+        private void replay(ByteBuffer journal) throws IOException {
+            while (journal.remaining() >= MOVE_BYTES) {
+                int start = journal.position();
+                byte type = journal.get();
+                int index = journal.getInt();
+                int elapsed = journal.getInt();
+                long boardSeed = 0;
+                boolean boardNoGuess = false;
+                if (type == BOARD_SEED) {
+                    if (journal.remaining() < SEED_BYTES) {
+                        journal.position(start);
+                        break;
+                    }
+                    boardSeed = journal.getLong();
+                    boardNoGuess = journal.get() != 0;
+                }
+                if (index < 0 || index >= model.size()) {
+                    throw new IOException("Invalid cell index in journal: " + index);
+                }
+                if (elapsed < elapsedMillis) {
+                    throw new IOException("Move time goes backwards: " + elapsed + " < " + elapsedMillis);
+                }
+                apply(type, index, boardSeed, boardNoGuess);
+                elapsedMillis = elapsed;
+                journalLength = journal.position();
+            }
+        }
+
+        // apply // 기록 한 건 적용 // GameBoard.handleCellClick/handleRightClick과 같은 순서로 모델 변경
+        // GameBoard가 만들 수 없는 기록(끝난 뒤의 이동, 첫 클릭 전 공개, 깃발 셀 공개 등)은 IOException
+        public void apply(byte type, int index, long boardSeed, boolean boardNoGuess) throws IOException {
+            if (isFinished()) {
+                throw new IOException("Move after game end: type " + type + " at " + index);
+            }
+            if ((type == FIRST_CLICK || type == BOARD_SEED) && firstClickDone) {
+                throw new IOException("Board prepared twice at " + index);
+            }
+            switch (type) {
+                case FIRST_CLICK:
+                    placer.prepareFirstClick(model, index);
+                    firstClickDone = true;
+                    break;
+                case BOARD_SEED:
+                    model.clearMines();
+                    placer = new MinePlacer(boardSeed);
+                    placer.placeMines(model, mines, MinePlacer.neighborhood(model, index));
+                    seed = boardSeed;
+                    noGuess = boardNoGuess;
+                    firstClickDone = true;
+                    break;
+                case REVEAL:
+                    if (!firstClickDone || model.isFlagged(index)) {
+                        throw new IOException("Reveal not allowed at " + index);
+                    }
+                    if (model.isMine(index)) {
+                        model.setRevealed(index, true);
+                        gameOver = true;
+                    } else {
+                        revealEngine.reveal(index);
+                    }
+                    break;
+                case FLAG:
+                    if (!model.toggleFlag(index)) {
+                        throw new IOException("Flag on revealed cell at " + index);
+                    }
+                    break;
+                default:
+                    throw new IOException("Unknown journal record type: " + type);
+            }
+            moves++;
+        }
+
+        // getEntry // 복원한 모델과 배치기 반환 // GameBoard 생성에 사용
+        public BoardPool.Entry getEntry() {
+            return new BoardPool.Entry(model, placer);
+        }
+
+        // getModel // 복원한 보드 모델 반환
+        public BoardModel getModel() {
+            return model;
+        }
+
+        // getSeed // 현재 보드의 배치 시드 반환
+        public long getSeed() {
+            return seed;
+        }
+
+        // isNoGuess // 추측 없는 보드 여부
+        public boolean isNoGuess() {
+            return noGuess;
+        }
+
+        // isFirstClickDone // 첫 클릭 처리 여부
+        public boolean isFirstClickDone() {
+            return firstClickDone;
+        }
+
+        // isFinished // 지뢰를 밟았거나 모든 안전 셀을 공개해 끝난 게임인지 여부
+        public boolean isFinished() {
+            return gameOver || model.isCleared();
+        }
+
+        // isGameOver // 지뢰를 밟았는지 여부
+        public boolean isGameOver() {
+            return gameOver;
+        }
+
+        // getElapsedMillis // 마지막 기록 시점의 경과 시간 반환
+        public int getElapsedMillis() {
+            return elapsedMillis;
+        }
+
+        // getMoves // 적용한 기록 수 반환 (체크포인트 이후)
+        public int getMoves() {
+            return moves;
+        }
+    }
+}
@@ -0,0 +1,243 @@
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class NoGuessGenerator {
+    private final ExecutorService workers;
+    private final int parallelism;
+    private final long timeBudgetMillis;
+    private final AtomicLong totalAttempts = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong boardsGenerated = new AtomicLong();
+    private final AtomicLong boardsTimedOut = new AtomicLong();
+
+    // NoGuessGenerator 생성자 // 후보 보드를 병렬로 검사할 작업자 풀 생성
+    // timeBudgetMillis 안에 풀 수 있는 보드를 찾지 못하면 일반 보드 시드를 반환
+    public NoGuessGenerator(int parallelism, long timeBudgetMillis) {
+        if (parallelism <= 0 || timeBudgetMillis <= 0) {
+            throw new IllegalArgumentException("Invalid generator settings: " + parallelism + ", " + timeBudgetMillis);
+        }
+        this.parallelism = parallelism;
+        this.timeBudgetMillis = timeBudgetMillis;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "no-guess-generator-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // generate // 추측 없는 보드 생성 // startIndex에서 추측 없이 끝까지 풀리는 시드를 비동기로 탐색
+    // 찾은 시드는 MinePlacer에 startIndex 주변 3x3을 제외 영역으로 주면 같은 보드를 재현함
+    public CompletableFuture<Result> generate(int rows, int cols, int mines, int startIndex) {
+        CompletableFuture<Result> future = new CompletableFuture<>();
+        long startNanos = System.nanoTime();
+        long deadline = startNanos + TimeUnit.MILLISECONDS.toNanos(timeBudgetMillis);
+        long fallbackSeed = MinePlacer.newSeed();
+        SplittableRandom seeds = new SplittableRandom(fallbackSeed);
+        AtomicLong attempts = new AtomicLong();
+        AtomicInteger running = new AtomicInteger(parallelism);
+
+        for (int i = 0; i < parallelism; i++) {
+            SplittableRandom workerSeeds = seeds.split();
+            workers.execute(() -> {
+                try {
+                    BoardModel model = new BoardModel(rows, cols);
+                    RevealEngine revealEngine = new RevealEngine(model);
+                    int[] state = new int[model.size()];
+                    int[] frontier = new int[model.size()];
+                    int[] safeZone = MinePlacer.neighborhood(model, startIndex);
+                    // shutdown이 보낸 인터럽트에도 멈춰 창을 닫은 뒤 남은 시간 예산만큼 계속 돌지 않게 함
+                    while (!future.isDone() && System.nanoTime() < deadline
+                            && !Thread.currentThread().isInterrupted()) {
+                        long seed = workerSeeds.nextLong();
+                        model.clear();
+                        Arrays.fill(state, MinesweeperSolver.STATE_UNKNOWN);
+                        new MinePlacer(seed).placeMines(model, mines, safeZone);
+                        attempts.incrementAndGet();
+                        if (isSolvable(model, revealEngine, state, frontier, startIndex)) {
+                            future.complete(new Result(seed, true, attempts.get(), System.nanoTime() - startNanos));
+                            return;
+                        }
+                    }
+                } catch (RuntimeException e) {
+                    future.completeExceptionally(e);
+                } finally {
+                    if (running.decrementAndGet() == 0) {
+                        future.complete(new Result(fallbackSeed, false, attempts.get(), System.nanoTime() - startNanos));
+                    }
+                }
+            });
+        }
+
+        return future.whenComplete((result, error) -> {
+            if (result != null) {
+                totalAttempts.addAndGet(result.getAttempts());
+                totalNanos.addAndGet(result.getElapsedNanos());
+                (result.isNoGuess() ? boardsGenerated : boardsTimedOut).incrementAndGet();
+            }
+        });
+    }
+
+    // isSolvable // 시작 셀에서 추측 없이 모든 안전 셀을 공개할 수 있는지 확인
+    // 공개된 숫자 셀을 제약으로 MinesweeperSolver의 제약 전파를 돌려 안전 셀을 공개하고, 막히면 전체 지뢰 수 규칙 적용
+    // 풀이 과정에서 model의 공개 상태를 변경하므로 버릴 후보 보드에만 사용 // state는 STATE_UNKNOWN으로 채워서 넘김
+    static boolean isSolvable(BoardModel model, RevealEngine revealEngine, int[] state, int[] frontier, int start) {
+        if (model.isMine(start)) return false;
+        int frontierCount = reveal(model, revealEngine, start, frontier, 0);
+        int[] buffer = new int[8];
+        while (!model.isCleared()) {
+            // 미확정 이웃이 남은 숫자 셀만 제약으로 남기고 나머지는 경계 목록에서 제거
+            int[][] constraints = new int[frontierCount][];
+            int[] targets = new int[frontierCount];
+            int kept = 0;
+            for (int i = 0; i < frontierCount; i++) {
+                int index = frontier[i];
+                int count = hiddenNeighbors(model, index, buffer);
+                boolean open = false;
+                for (int j = 0; j < count && !open; j++) {
+                    open = state[buffer[j]] == MinesweeperSolver.STATE_UNKNOWN;
+                }
+                if (open) {
+                    frontier[kept] = index;
+                    constraints[kept] = Arrays.copyOf(buffer, count);
+                    targets[kept] = model.getAdjacentMines(index);
+                    kept++;
+                }
+            }
+            frontierCount = kept;
+            constraints = Arrays.copyOf(constraints, kept);
+            MinesweeperSolver.propagate(constraints, Arrays.copyOf(targets, kept), state);
+
+            boolean progress = false;
+            for (int[] cells : constraints) {
+                for (int cell : cells) {
+                    if (state[cell] == MinesweeperSolver.STATE_SAFE && !model.isRevealed(cell)) {
+                        frontierCount = reveal(model, revealEngine, cell, frontier, frontierCount);
+                        progress = true;
+                    }
+                }
+            }
+            if (!progress && !revealIfAllMinesKnown(model, revealEngine, state)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // reveal // 셀 공개 // 새로 공개된 숫자 셀을 경계 목록 frontier에 추가하고 새 길이 반환
+    private static int reveal(BoardModel model, RevealEngine revealEngine, int index, int[] frontier, int frontierCount) {
+        int count = revealEngine.reveal(index);
+        int[] revealed = revealEngine.getRevealed();
+        for (int i = 0; i < count; i++) {
+            if (model.getAdjacentMines(revealed[i]) > 0) {
+                frontier[frontierCount++] = revealed[i];
+            }
+        }
+        return frontierCount;
+    }
+
+    // hiddenNeighbors // 숫자 셀 주변의 공개되지 않은 셀을 out에 담고 개수 반환
+    private static int hiddenNeighbors(BoardModel model, int index, int[] out) {
+        int rows = model.getRows();
+        int cols = model.getCols();
+        int row = index / cols;
+        int col = index - row * cols;
+        int count = 0;
+        for (int nRow = Math.max(0, row - 1); nRow <= Math.min(rows - 1, row + 1); nRow++) {
+            for (int nCol = Math.max(0, col - 1); nCol <= Math.min(cols - 1, col + 1); nCol++) {
+                int neighbor = nRow * cols + nCol;
+                if (!model.isRevealed(neighbor)) {
+                    out[count++] = neighbor;
+                }
+            }
+        }
+        return count;
+    }
+
+    // revealIfAllMinesKnown // 전체 지뢰 수 규칙 // 모든 지뢰가 확정되면 남은 미공개 셀은 모두 안전
+    private static boolean revealIfAllMinesKnown(BoardModel model, RevealEngine revealEngine, int[] state) {
+        int knownMines = 0;
+        for (int value : state) {
+            if (value == MinesweeperSolver.STATE_MINE) knownMines++;
+        }
+        if (knownMines != model.getMineCount()) return false;
+        for (int index = 0; index < model.size(); index++) {
+            if (!model.isRevealed(index) && state[index] != MinesweeperSolver.STATE_MINE) {
+                revealEngine.reveal(index);
+            }
+        }
+        return true;
+    }
+
+    // getTotalAttempts // 누적 후보 보드 검사 수 반환
+    public long getTotalAttempts() {
+        return totalAttempts.get();
+    }
+
+    // getBoardsGenerated // 추측 없는 보드 생성 성공 수 반환
+    public long getBoardsGenerated() {
+        return boardsGenerated.get();
+    }
+
+    // getBoardsTimedOut // 시간 예산 초과로 일반 보드를 반환한 수
+    public long getBoardsTimedOut() {
+        return boardsTimedOut.get();
+    }
+
+    // getAttemptsPerSecond // 누적 초당 후보 보드 검사 수 반환
+    public double getAttemptsPerSecond() {
+        long nanos = totalNanos.get();
+        return nanos == 0 ? 0 : totalAttempts.get() * 1e9 / nanos;
+    }
+
+    // shutdown // 작업자 풀 종료 // 진행 중인 생성도 인터럽트로 멈춤
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    public static class Result {
+        private final long seed;
+        private final boolean noGuess;
+        private final long attempts;
+        private final long elapsedNanos;
+
+        // Result 생성자 // 생성 결과와 측정값 보관
+        public Result(long seed, boolean noGuess, long attempts, long elapsedNanos) {
+            this.seed = seed;
+            this.noGuess = noGuess;
+            this.attempts = attempts;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        // getSeed // 보드를 재현할 시드 반환
+        public long getSeed() {
+            return seed;
+        }
+
+        // isNoGuess // 추측 없이 풀 수 있는 보드인지 여부
+        public boolean isNoGuess() {
+            return noGuess;
+        }
+
+        // getAttempts // 검사한 후보 보드 수 반환
+        public long getAttempts() {
+            return attempts;
+        }
+
+        // getElapsedNanos // 생성에 걸린 시간 반환
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        // getAttemptsPerSecond // 초당 후보 보드 검사 수 반환
+        public double getAttemptsPerSecond() {
+            return elapsedNanos == 0 ? 0 : attempts * 1e9 / elapsedNanos;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public class ProbabilityService {
+    private static final Logger LOGGER = Logger.getLogger(ProbabilityService.class.getName());
+    private final FrontierAnalyzer analyzer;
+    private final ExecutorService worker;
+    private final Queue<int[]> changes = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final AtomicLong oldestPendingNanos = new AtomicLong();
+    private final AtomicLong analysesCompleted = new AtomicLong();
+    private final AtomicLong analysesCancelled = new AtomicLong();
+    private final AtomicLong totalLatencyNanos = new AtomicLong();
+    private volatile FrontierAnalyzer.Snapshot snapshot;
+    private long unpublishedSince;
+
+    // ProbabilityService 생성자 // 지뢰 확률을 계산할 작업 스레드 하나 생성
+    // FrontierAnalyzer는 작업 스레드에서만 접근하고 EDT는 바뀐 셀 상태만 큐에 넣음
+    public ProbabilityService(int rows, int cols, int mines) {
+        this.analyzer = new FrontierAnalyzer(rows, cols, mines);
+        this.worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "probability-analyzer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        schedule();
+    }
+
+    // cellsChanged // 공개/깃발/되돌리기로 바뀐 셀 전달 // EDT에서 모델을 읽어 보이는 상태만 큐에 넣고 분석 예약
+    // 진행 중인 분석은 새 변경이 들어오면 중단되고 바뀐 내용까지 반영해 다시 시작
+    public void cellsChanged(BoardModel model, int[] cells, int count) {
+        if (count <= 0) return;
+        int[] change = new int[count * 2];
+        for (int i = 0; i < count; i++) {
+            int index = cells[i];
+            change[i * 2] = index;
+            change[i * 2 + 1] = visibleValue(model, index);
+        }
+        changes.add(change);
+        oldestPendingNanos.compareAndSet(0, System.nanoTime());
+        schedule();
+    }
+
+    // cellChanged // 셀 하나가 바뀐 경우
+    public void cellChanged(BoardModel model, int index) {
+        cellsChanged(model, new int[] {index}, 1);
+    }
+
+    // visibleValue // 플레이어가 볼 수 있는 셀 상태 // MinesweeperSolver.visibleState와 같은 값
+    private static int visibleValue(BoardModel model, int index) {
+        if (model.isRevealed(index)) {
+            return model.getAdjacentMines(index);
+        }
+        return model.isFlagged(index) ? MinesweeperSolver.FLAGGED : MinesweeperSolver.UNKNOWN;
+    }
+
+    // schedule // 작업 스레드에 분석이 예약되어 있지 않으면 예약
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            try {
+                worker.execute(this::analyze);
+            } catch (RejectedExecutionException e) {
+                scheduled.set(false);
+            }
+        }
+    }
+
+    // analyze // 쌓인 변경을 반영하고 바뀐 영역만 다시 분석 // 작업 스레드에서 실행
+    private void analyze() {
+        scheduled.set(false);
+        long since = oldestPendingNanos.getAndSet(0);
+        if (since != 0 && (unpublishedSince == 0 || since < unpublishedSince)) {
+            unpublishedSince = since;
+        }
+        int[] change;
+        while ((change = changes.poll()) != null) {
+            for (int i = 0; i < change.length; i += 2) {
+                analyzer.update(change[i], change[i + 1]);
+            }
+        }
+        try {
+            if (!analyzer.analyze(() -> !changes.isEmpty() || Thread.currentThread().isInterrupted())) {
+                analysesCancelled.incrementAndGet();
+                return;
+            }
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Probability analysis failed", e);
+            return;
+        }
+        FrontierAnalyzer.Snapshot latest = analyzer.getSnapshot();
+        if (latest != snapshot) {
+            snapshot = latest;
+            analysesCompleted.incrementAndGet();
+            if (unpublishedSince != 0) {
+                totalLatencyNanos.addAndGet(System.nanoTime() - unpublishedSince);
+                unpublishedSince = 0;
+            }
+        }
+    }
+
+    // getSnapshot // 가장 최근에 완료된 확률 분석 반환 // 아직 없으면 null
+    public FrontierAnalyzer.Snapshot getSnapshot() {
+        return snapshot;
+    }
+
+    // getAnalysesCompleted // 완료된 분석 수 반환
+    public long getAnalysesCompleted() {
+        return analysesCompleted.get();
+    }
+
+    // getAnalysesCancelled // 새 변경으로 중단된 분석 수 반환
+    public long getAnalysesCancelled() {
+        return analysesCancelled.get();
+    }
+
+    // getAverageLatencyMillis // 변경이 들어온 뒤 반영된 분석이 나오기까지의 평균 시간 반환
+    public double getAverageLatencyMillis() {
+        long completed = analysesCompleted.get();
+        return completed == 0 ? 0 : totalLatencyNanos.get() / 1e6 / completed;
+    }
+
+    // shutdown // 작업 스레드 종료 // 진행 중인 분석은 중단
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+}
@@ -0,0 +1,167 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Stream;
+
+public class ReplayVerifier {
+    // 타이머는 1초 단위로 세고 저널 시각과 시작 시점이 조금 다르므로 허용 오차를 둠
+    private static final long TIME_TOLERANCE_MILLIS = 2000;
+    private static final int RECORDINGS_PER_TASK = 16;
+
+    // 메소드 이름: main
+    // 메소드 기능1: 보관된 게임 기록을 창 없이 모든 코어에서 병렬로 다시 재생해 승리 기록인지 검증
+    // 메소드 기능2: 유효하지 않은 기록과 이유, 전체 결과와 초당 검증 수 출력
+    // 사용법: ReplayVerifier [기록 파일 또는 디렉터리...]  // 생략하면 resources/replays 전체를 검증
+    public static void main(String[] args) throws IOException {
+        System.setProperty("java.awt.headless", "true");
+        List<Path> recordings = new ArrayList<>();
+        if (args.length == 0) {
+            collect(Paths.get(GameResources.REPLAYS_PATH), recordings);
+        }
+        for (String arg : args) {
+            collect(Paths.get(arg), recordings);
+        }
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+
+        long start = System.nanoTime();
+        List<Verdict> verdicts = verifyAll(recordings, pool);
+        long elapsedNanos = System.nanoTime() - start;
+
+        int valid = 0;
+        for (Verdict verdict : verdicts) {
+            if (verdict.isValid()) {
+                valid++;
+            } else {
+                System.out.printf("무효: %s (%s)%n", verdict.getPath(), verdict.getReason());
+            }
+        }
+        System.out.printf("기록 %d개 중 유효 %d개, 병렬도: %d, 초당 검증 %.0f%n", verdicts.size(), valid,
+                pool.getParallelism(), elapsedNanos == 0 ? 0 : verdicts.size() * 1e9 / elapsedNanos);
+    }
+
+    // collect // 파일은 그대로, 디렉터리는 안의 .bin 파일을 모두 추가
+    private static void collect(Path path, List<Path> recordings) throws IOException {
+        if (!Files.isDirectory(path)) {
+            if (Files.exists(path)) {
+                recordings.add(path);
+            }
+            return;
+        }
+        try (Stream<Path> files = Files.list(path)) {
+            files.filter(file -> file.getFileName().toString().endsWith(".bin"))
+                    .sorted()
+                    .forEach(recordings::add);
+        }
+    }
+
+    // verify // 기록 하나 검증 // 시드부터 모든 기록을 다시 적용해 지뢰를 밟지 않고 모든 안전 셀을 열었는지 확인
+    // claimedSeconds가 0 이상이면 마지막 기록 시각과 주장한 플레이 시간이 허용 오차 안인지도 확인
+    public static Verdict verify(Path recording, int claimedSeconds) {
+        MoveJournal.Replay replay;
+        try {
+            replay = MoveJournal.load(recording);
+        } catch (IOException | RuntimeException e) {
+            return new Verdict(recording, null, "Unreadable recording: " + e.getMessage());
+        }
+        if (replay.isGameOver()) {
+            return new Verdict(recording, replay, "Recording hits a mine");
+        }
+        if (!replay.getModel().isCleared()) {
+            return new Verdict(recording, replay,
+                    "Board not cleared: " + replay.getModel().getRemainingSafeCells() + " safe cells left");
+        }
+        if (claimedSeconds >= 0
+                && Math.abs(claimedSeconds * 1000L - replay.getElapsedMillis()) > TIME_TOLERANCE_MILLIS) {
+            return new Verdict(recording, replay,
+                    "Claimed " + claimedSeconds + "s but recording ends at " + replay.getElapsedMillis() + "ms");
+        }
+        return new Verdict(recording, replay, null);
+    }
+
+    // verifyAll // 여러 기록을 fork-join으로 나눠 검증 // 결과는 입력 순서대로 반환, 주장한 시간은 확인하지 않음
+    public static List<Verdict> verifyAll(List<Path> recordings, ForkJoinPool pool) {
+        Verdict[] verdicts = new Verdict[recordings.size()];
+        pool.invoke(new VerifyTask(recordings, verdicts, 0, verdicts.length));
+        return List.of(verdicts);
+    }
+
+    // VerifyTask // 기록 범위를 반으로 나눠 병렬 검증
+    private static class VerifyTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final List<Path> recordings;
+        private final Verdict[] verdicts;
+        private final int from;
+        private final int to;
+
+        VerifyTask(List<Path> recordings, Verdict[] verdicts, int from, int to) {
+            this.recordings = recordings;
+            this.verdicts = verdicts;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > RECORDINGS_PER_TASK) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new VerifyTask(recordings, verdicts, from, middle),
+                        new VerifyTask(recordings, verdicts, middle, to));
+                return;
+            }
+            for (int i = from; i < to; i++) {
+                verdicts[i] = verify(recordings.get(i), -1);
+            }
+        }
+    }
+
+    public static class Verdict {
+        private final Path path;
+        private final String reason;
+        private final long seed;
+        private final int moves;
+        private final int elapsedMillis;
+
+        Verdict(Path path, MoveJournal.Replay replay, String reason) {
+            this.path = path;
+            this.reason = reason;
+            this.seed = replay != null ? replay.getSeed() : 0;
+            this.moves = replay != null ? replay.getMoves() : 0;
+            this.elapsedMillis = replay != null ? replay.getElapsedMillis() : 0;
+        }
+
+        // isValid // 정상적인 승리 기록인지 반환
+        public boolean isValid() {
+            return reason == null;
+        }
+
+        // getPath // 기록 파일 경로 반환
+        public Path getPath() {
+            return path;
+        }
+
+        // getReason // 무효인 이유 반환 // 유효하면 null
+        public String getReason() {
+            return reason;
+        }
+
+        // getSeed // 마지막으로 지뢰를 배치한 시드 반환
+        public long getSeed() {
+            return seed;
+        }
+
+        // getMoves // 다시 적용한 기록 수 반환
+        public int getMoves() {
+            return moves;
+        }
+
+        // getElapsedMillis // 마지막 기록 시각 반환
+        public int getElapsedMillis() {
+            return elapsedMillis;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+public class RevealEngine {
+    private final BoardModel model;
+    private final int[] queue;
+    private int revealedCount;
+
+    // RevealEngine 생성자 // 보드 크기만큼의 작업 큐를 한 번만 할당
+    public RevealEngine(BoardModel model) {
+        this.model = model;
+        this.queue = new int[model.size()];
+    }
+
+    // reveal // 셀 공개 // 인접 지뢰가 없는 셀에서 반복적으로 주변 셀 공개
+    // 공개 비트셋을 방문 표시로 사용하므로 각 셀은 한 번만 큐에 들어감
+    // 새로 공개된 셀 수를 반환하며 인덱스는 getRevealed()에 담김
+    public int reveal(int start) {
+        revealedCount = 0;
+        if (model.isRevealed(start) || model.isFlagged(start)) {
+            return 0;
+        }
+        int rows = model.getRows();
+        int cols = model.getCols();
+        int tail = 0;
+        model.setRevealed(start, true);
+        queue[tail++] = start;
+
+        for (int head = 0; head < tail; head++) {
+            int index = queue[head];
+            if (model.isMine(index) || model.getAdjacentMines(index) != 0) continue;
+
+            int row = index / cols;
+            int col = index - row * cols;
+            int rowStart = Math.max(0, row - 1);
+            int rowEnd = Math.min(rows - 1, row + 1);
+            int colStart = Math.max(0, col - 1);
+            int colEnd = Math.min(cols - 1, col + 1);
+            for (int nRow = rowStart; nRow <= rowEnd; nRow++) {
+                for (int nCol = colStart; nCol <= colEnd; nCol++) {
+                    int neighbor = nRow * cols + nCol;
+                    if (!model.isRevealed(neighbor) && !model.isFlagged(neighbor)) {
+                        model.setRevealed(neighbor, true);
+                        queue[tail++] = neighbor;
+                    }
+                }
+            }
+        }
+        revealedCount = tail;
+        return tail;
+    }
+
+    // getRevealed // 마지막 공개로 새로 공개된 셀 인덱스 버퍼 반환 // 앞의 getRevealedCount()개만 유효
+    public int[] getRevealed() {
+        return queue;
+    }
+
+    // getRevealedCount // 마지막 공개로 새로 공개된 셀 수 반환
+    public int getRevealedCount() {
+        return revealedCount;
+    }
+}
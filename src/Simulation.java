@@ -0,0 +1,183 @@
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+public class Simulation {
+    private static final int[][] PRESETS = {{8, 8, 10}, {16, 16, 40}, {16, 30, 99}};
+    private static final String[] PRESET_NAMES = {"초급", "중급", "고급"};
+    private static final int DEFAULT_GAMES = 100_000;
+    private static final int GAMES_PER_TASK = 64;
+
+    // 메소드 이름: main
+    // 메소드 기능1: 창 없이 자동 플레이어로 여러 게임을 모든 코어에서 병렬 실행
+    // 메소드 기능2: 난이도별 승률, 게임당 클릭 수, 초당 게임 수 출력
+    // 사용법: Simulation [게임 수] [행 열 지뢰 수] [시드]  // 크기를 생략하면 기본 난이도 세 가지를 모두 실행
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_GAMES;
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : MinePlacer.newSeed();
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+
+        System.out.printf("게임 수: %d, 병렬도: %d, 시드: %d%n", games, pool.getParallelism(), seed);
+        if (args.length >= 4) {
+            int rows = Integer.parseInt(args[1]);
+            int cols = Integer.parseInt(args[2]);
+            int mines = Integer.parseInt(args[3]);
+            report("사용자 지정", run(pool, rows, cols, mines, games, seed));
+        } else {
+            for (int i = 0; i < PRESETS.length; i++) {
+                report(PRESET_NAMES[i], run(pool, PRESETS[i][0], PRESETS[i][1], PRESETS[i][2], games, seed));
+            }
+        }
+    }
+
+    // run // 같은 크기의 게임을 fork-join으로 나눠 실행하고 결과 합산
+    public static Stats run(ForkJoinPool pool, int rows, int cols, int mines, int games, long seed) {
+        long start = System.nanoTime();
+        Stats stats = pool.invoke(new GameTask(rows, cols, mines, games, new SplittableRandom(seed)));
+        stats.rows = rows;
+        stats.cols = cols;
+        stats.mines = mines;
+        stats.elapsedNanos = System.nanoTime() - start;
+        return stats;
+    }
+
+    // report // 결과 한 줄 출력
+    private static void report(String name, Stats stats) {
+        System.out.printf("%s %dx%d/%d: 승률 %.2f%%, 게임당 클릭 %.1f, 게임당 추측 %.2f, 초당 게임 %.0f%n",
+                name, stats.rows, stats.cols, stats.mines, stats.getWinRate() * 100,
+                stats.getClicksPerGame(), stats.getGuessesPerGame(), stats.getGamesPerSecond());
+    }
+
+    // playGame // 한 게임 실행 // 실제 게임과 같은 첫 클릭 처리 후 MinesweeperSolver로 끝까지 진행
+    // 확실한 셀이 없으면 지뢰 확률이 가장 낮은 셀을 추측
+    static boolean playGame(BoardModel model, RevealEngine revealEngine, MinesweeperSolver solver,
+                            int mines, long seed, Stats stats) {
+        model.clear();
+        MinePlacer placer = new MinePlacer(seed);
+        placer.placeMines(model, mines, new int[0]);
+        int first = model.index(model.getRows() / 2, model.getCols() / 2);
+        placer.prepareFirstClick(model, first);
+        revealEngine.reveal(first);
+        stats.clicks++;
+
+        while (!model.isCleared()) {
+            int[] visible = MinesweeperSolver.visibleState(model);
+            MinesweeperSolver.Result result = solver.analyze(model.getRows(), model.getCols(), visible, mines);
+            for (int index : result.getMines()) {
+                model.setFlagged(index, true);
+            }
+            int[] safeCells = result.getSafeCells();
+            if (safeCells.length > 0) {
+                for (int index : safeCells) {
+                    if (revealEngine.reveal(index) > 0) {
+                        stats.clicks++;
+                    }
+                }
+                continue;
+            }
+            int guess = result.bestGuess(visible);
+            stats.clicks++;
+            stats.guesses++;
+            if (guess < 0 || model.isMine(guess)) {
+                return false;
+            }
+            revealEngine.reveal(guess);
+        }
+        return true;
+    }
+
+    // GameTask // 게임 범위를 반으로 나눠 병렬 실행 // 분할 시점에 난수 생성기를 나눠 시드 순서가 결정적
+    private static class GameTask extends RecursiveTask<Stats> {
+        private static final long serialVersionUID = 1L;
+        private final int rows;
+        private final int cols;
+        private final int mines;
+        private final int games;
+        private final SplittableRandom seeds;
+
+        GameTask(int rows, int cols, int mines, int games, SplittableRandom seeds) {
+            this.rows = rows;
+            this.cols = cols;
+            this.mines = mines;
+            this.games = games;
+            this.seeds = seeds;
+        }
+
+        @Override
+        protected Stats compute() {
+            if (games > GAMES_PER_TASK) {
+                int half = games / 2;
+                GameTask left = new GameTask(rows, cols, mines, half, seeds.split());
+                GameTask right = new GameTask(rows, cols, mines, games - half, seeds);
+                left.fork();
+                Stats stats = right.compute();
+                stats.add(left.join());
+                return stats;
+            }
+            Stats stats = new Stats();
+            BoardModel model = new BoardModel(rows, cols);
+            RevealEngine revealEngine = new RevealEngine(model);
+            MinesweeperSolver solver = new MinesweeperSolver();
+            for (int i = 0; i < games; i++) {
+                stats.games++;
+                if (playGame(model, revealEngine, solver, mines, seeds.nextLong(), stats)) {
+                    stats.wins++;
+                }
+            }
+            stats.positions += solver.getPositionsAnalysed();
+            return stats;
+        }
+    }
+
+    public static class Stats {
+        private int rows;
+        private int cols;
+        private int mines;
+        private long games;
+        private long wins;
+        private long clicks;
+        private long guesses;
+        private long positions;
+        private long elapsedNanos;
+
+        // add // 다른 작업의 결과 합산
+        void add(Stats other) {
+            games += other.games;
+            wins += other.wins;
+            clicks += other.clicks;
+            guesses += other.guesses;
+            positions += other.positions;
+        }
+
+        // getGames // 실행한 게임 수 반환
+        public long getGames() {
+            return games;
+        }
+
+        // getWinRate // 승률 반환
+        public double getWinRate() {
+            return games == 0 ? 0 : (double) wins / games;
+        }
+
+        // getClicksPerGame // 게임당 평균 공개 클릭 수 반환
+        public double getClicksPerGame() {
+            return games == 0 ? 0 : (double) clicks / games;
+        }
+
+        // getGuessesPerGame // 게임당 평균 추측 횟수 반환
+        public double getGuessesPerGame() {
+            return games == 0 ? 0 : (double) guesses / games;
+        }
+
+        // getGamesPerSecond // 초당 게임 수 반환
+        public double getGamesPerSecond() {
+            return elapsedNanos == 0 ? 0 : games * 1e9 / elapsedNanos;
+        }
+
+        // getPositionsAnalysed // 풀이기가 분석한 국면 수 반환
+        public long getPositionsAnalysed() {
+            return positions;
+        }
+    }
+}
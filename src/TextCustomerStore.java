@@ -0,0 +1,431 @@
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class TextCustomerStore implements CustomerStore {
+    // Compact once the log grows past this size, so startup replay stays short
+    private static final long COMPACT_THRESHOLD_BYTES = 1L << 20;
+    // The snapshot's first line records which log generation continues it; older readers skip it
+    private static final String GENERATION_PREFIX = "# log generation: ";
+    private static final long CLOSE_TIMEOUT_MILLIS = 2000;
+    // Customers changed since the last compaction; their state is only in memory and the log, so they are never dropped
+    private final Map<String, Customer> dirty = new ConcurrentHashMap<>();
+    private final String dataFilePath;
+    private final Path dataPath;
+    private final Path logPath;
+    private final Path indexPath;
+    // Lookups and changes share the read lock, so different customers never wait for each other;
+    // compaction takes the write lock so it sees every change either fully applied or not at all
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final int maxBatchRecords;
+    private final long commitIntervalMillis;
+    private long generation;
+    private CustomerIndex index;
+    private FileChannel snapshot;
+    // Customers in dirty that are not in the snapshot yet
+    private final AtomicInteger added = new AtomicInteger();
+    private final AtomicLong customersLoaded = new AtomicLong();
+    private MileageCommitter committer;
+
+    // TextCustomerStore
+    // Opens the snapshot (Customer.serialize blocks), its index (<data file>.idx) and the write-ahead log (<data file>.wal)
+    // Group commit settings: at most maxBatchRecords changes per fsync,
+    // waiting up to commitIntervalMillis after the first pending change
+    public TextCustomerStore(String dataFilePath, int maxBatchRecords, long commitIntervalMillis) {
+        this.dataFilePath = dataFilePath;
+        this.dataPath = Paths.get(dataFilePath);
+        this.logPath = Paths.get(dataFilePath + ".wal");
+        this.indexPath = Paths.get(dataFilePath + ".idx");
+        this.maxBatchRecords = maxBatchRecords;
+        this.commitIntervalMillis = commitIntervalMillis;
+        loadData();
+        openLog();
+    }
+
+    // openLog
+    // Opens the log for the snapshot's generation, applies its records and starts the background writer
+    // Only the customers named in the log are loaded; they stay in memory until the next compaction
+    // Falls back to rewriting the whole file on every change if the log cannot be opened
+    private void openLog() {
+        lock.writeLock().lock();
+        try {
+            startCommitter(MileageLog.open(logPath, generation, new MileageLog.Target() {
+                @Override
+                public Customer find(String customerId) throws IOException {
+                    Customer customer = TextCustomerStore.this.find(customerId);
+                    if (customer != null) {
+                        dirty.put(customerId, customer);
+                    }
+                    return customer;
+                }
+
+                @Override
+                public void register(Customer customer) {
+                    dirty.put(customer.getCustomerId(), customer);
+                    added.incrementAndGet();
+                }
+            }));
+        } catch (IOException e) {
+            System.out.println("Error opening mileage log: " + e.getMessage());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // startCommitter
+    // Starts the background writer on the given log, or hands the log to the running writer after compaction
+    private void startCommitter(MileageLog log) {
+        if (committer == null) {
+            committer = new MileageCommitter(log, maxBatchRecords, commitIntervalMillis,
+                    COMPACT_THRESHOLD_BYTES, this::saveData);
+        } else {
+            committer.switchLog(log);
+        }
+    }
+
+    // load
+    // Returns the changed customer from memory, or reads it from the snapshot through the index
+    @Override
+    public Customer load(String customerId) throws IOException {
+        lock.readLock().lock();
+        try {
+            return find(customerId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // find
+    // Looks the customer up in memory, then in the index; must be called while holding either lock
+    private Customer find(String customerId) throws IOException {
+        Customer customer = dirty.get(customerId);
+        if (customer == null && index != null) {
+            CustomerIndex.Location location = index.find(customerId);
+            if (location != null) {
+                customer = read(location);
+                customersLoaded.incrementAndGet();
+            }
+        }
+        return customer;
+    }
+
+    // read
+    // Reads and parses one customer block from the snapshot
+    private Customer read(CustomerIndex.Location location) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(location.getLength());
+        while (buffer.hasRemaining()) {
+            if (snapshot.read(buffer, location.getOffset() + buffer.position()) < 0) {
+                throw new EOFException("Customer block past the end of " + dataFilePath);
+            }
+        }
+        return parse(buffer.array());
+    }
+
+    // parse
+    // Parses one customer block; blocks written on Windows may end their lines with \r\n
+    private static Customer parse(byte[] block) throws IOException {
+        try {
+            return Customer.deserialize(new String(block, StandardCharsets.UTF_8).replace("\r", ""));
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Invalid customer data: " + e.getMessage(), e);
+        }
+    }
+
+    // register
+    // Keeps the new customer in memory and appends the registration to the mileage log
+    @Override
+    public CompletableFuture<Void> register(Customer customer) {
+        lock.readLock().lock();
+        try {
+            dirty.put(customer.getCustomerId(), customer);
+            added.incrementAndGet();
+            if (committer != null) {
+                return committer.submit(generation, MileageLog.encodeRegister(customer));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return rewrite();
+    }
+
+    // apply
+    // Changes the customer and queues the change for the mileage log under the read lock,
+    // so a compaction (write lock) sees either both or neither
+    // The record is tagged with the log generation read under the same lock, so it matches the in-memory state
+    // A color purchase goes into a single log record so a crash cannot keep the deduction without the color
+    @Override
+    public CompletableFuture<Void> apply(Customer customer, MileageRecord record, String colorName) {
+        lock.readLock().lock();
+        try {
+            customer.applyRecord(record);
+            if (colorName != null) {
+                customer.addPurchasedColor(colorName);
+            }
+            dirty.put(customer.getCustomerId(), customer);
+            if (committer != null) {
+                return committer.submit(generation, colorName != null
+                        ? MileageLog.encodePurchase(customer.getCustomerId(), record, colorName)
+                        : MileageLog.encodeRecord(customer.getCustomerId(), record));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return rewrite();
+    }
+
+    // rewrite
+    // Without a usable log, rewrites the whole file as before
+    // Called after releasing the read lock, since compaction needs the write lock
+    private CompletableFuture<Void> rewrite() {
+        saveData();
+        return CompletableFuture.completedFuture(null);
+    }
+
+    // sync
+    // Returns a future that completes once every change made so far is on disk
+    @Override
+    public CompletableFuture<Void> sync() {
+        lock.readLock().lock();
+        try {
+            return committer != null ? committer.sync() : CompletableFuture.completedFuture(null);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // checkpoint
+    // Compacts the log into a new snapshot
+    @Override
+    public void checkpoint() throws IOException {
+        lock.writeLock().lock();
+        try {
+            compact();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // forEach
+    // Reads every customer block from the snapshot, using the in-memory state for changed customers
+    // Holds the write lock so no customer changes while it is being visited
+    @Override
+    public void forEach(CustomerVisitor visitor) throws IOException {
+        lock.writeLock().lock();
+        try {
+            Set<String> visited = new HashSet<>();
+            CustomerIndex.scan(dataPath, (customerId, offset, length, block) -> {
+                if (visited.add(customerId)) {
+                    Customer changed = dirty.get(customerId);
+                    visitor.visit(changed != null ? changed : parse(block));
+                }
+            }, true);
+            for (Customer customer : dirty.values()) {
+                if (visited.add(customer.getCustomerId())) {
+                    visitor.visit(customer);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // size
+    // Returns the number of customers in the snapshot index plus those registered since
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return (index != null ? index.size() : 0) + added.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // getCommitter
+    // Returns the background writer for queue depth and commit latency metrics, or null without a log
+    public MileageCommitter getCommitter() {
+        return committer;
+    }
+
+    // getCustomersLoaded
+    // Returns how many times a customer was read from the snapshot
+    public long getCustomersLoaded() {
+        return customersLoaded.get();
+    }
+
+    // getDirtyCustomers
+    // Returns the number of customers held in memory until the next compaction
+    public int getDirtyCustomers() {
+        return dirty.size();
+    }
+
+    // close
+    // Waits for pending changes to reach the disk, stops the background writer and closes the snapshot
+    @Override
+    public void close() throws IOException {
+        MileageCommitter current;
+        lock.readLock().lock();
+        try {
+            current = committer;
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (current != null) {
+            current.close(CLOSE_TIMEOUT_MILLIS);
+        }
+        lock.writeLock().lock();
+        try {
+            closeSnapshot();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // saveData
+    // Compacts the log; called by the background writer when the log is large or a write failed
+    private void saveData() {
+        lock.writeLock().lock();
+        try {
+            compact();
+        } catch (IOException e) {
+            System.out.println("Error saving file: " + e.getMessage());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // compact
+    // Writes a new snapshot and index and starts the next log generation; must be called while holding the write lock
+    // Blocks of unchanged customers are copied from the old snapshot without parsing them,
+    // changed and new customers are written from memory
+    // The snapshot is written to a temporary file and atomically moved into place,
+    // so a crash leaves either the old snapshot with its log or the new snapshot (old log is then stale)
+    // An index that does not match the snapshot's generation and size is rebuilt on the next start
+    // Changes still queued for the old log are already in the snapshot, so the writer drops them
+    private void compact() throws IOException {
+        long next = generation + 1;
+        Path temp = dataPath.resolveSibling(dataPath.getFileName() + ".tmp");
+        List<CustomerIndex.Entry> entries = new ArrayList<>();
+        Set<String> written = new HashSet<>();
+        byte[] newLine = "\n".getBytes(StandardCharsets.UTF_8);
+        long size;
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16)) {
+            long[] position = {0};
+            BlockWriter writeBlock = (customerId, block) -> {
+                out.write(block);
+                out.write(newLine);
+                entries.add(new CustomerIndex.Entry(customerId, position[0], block.length));
+                written.add(customerId);
+                position[0] += block.length + newLine.length;
+            };
+            byte[] header = (GENERATION_PREFIX + next + "\n").getBytes(StandardCharsets.UTF_8);
+            out.write(header);
+            position[0] = header.length;
+            if (Files.exists(dataPath)) {
+                CustomerIndex.scan(dataPath, (customerId, offset, length, block) -> {
+                    if (written.contains(customerId)) {
+                        return;
+                    }
+                    Customer changed = dirty.get(customerId);
+                    writeBlock.write(customerId, changed != null
+                            ? changed.serialize().getBytes(StandardCharsets.UTF_8) : block);
+                }, true);
+            }
+            for (Customer customer : dirty.values()) {
+                if (!written.contains(customer.getCustomerId())) {
+                    writeBlock.write(customer.getCustomerId(), customer.serialize().getBytes(StandardCharsets.UTF_8));
+                }
+            }
+            size = position[0];
+        }
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        CustomerIndex nextIndex = CustomerIndex.write(indexPath, next, size, entries);
+        try {
+            Files.move(temp, dataPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            nextIndex.close();
+            throw e;
+        }
+        closeSnapshot();
+        index = nextIndex;
+        snapshot = FileChannel.open(dataPath, StandardOpenOption.READ);
+        startCommitter(MileageLog.create(logPath, next));
+        generation = next;
+        // Everything in memory now matches the snapshot and may be read back from it
+        dirty.clear();
+        added.set(0);
+    }
+
+    // BlockWriter
+    // Writes one customer block to the new snapshot and records its position
+    private interface BlockWriter {
+        void write(String customerId, byte[] block) throws IOException;
+    }
+
+    // closeSnapshot
+    // Closes the current snapshot and index files
+    private void closeSnapshot() throws IOException {
+        if (index != null) {
+            index.close();
+            index = null;
+        }
+        if (snapshot != null) {
+            snapshot.close();
+            snapshot = null;
+        }
+    }
+
+    // loadData
+    // Reads the snapshot's generation and opens its customer index; no customer is parsed here
+    // Creates a new file if it does not exist, and rebuilds the index if it is missing or stale
+    private CustomerIndex loadData() {
+        File file = new File(dataFilePath);
+
+        if (!file.exists()) {
+            try {
+                file.getAbsoluteFile().getParentFile().mkdirs();
+                file.createNewFile();
+            } catch (IOException e) {
+                System.out.println("Error creating file: " + e.getMessage());
+                return null;
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            closeSnapshot();
+            try (BufferedReader reader = Files.newBufferedReader(dataPath)) {
+                String line = reader.readLine();
+                if (line != null && line.startsWith(GENERATION_PREFIX)) {
+                    generation = Long.parseLong(line.substring(GENERATION_PREFIX.length()).trim());
+                }
+            }
+            snapshot = FileChannel.open(dataPath, StandardOpenOption.READ);
+            index = CustomerIndex.open(indexPath, dataPath, generation);
+            return index;
+        } catch (IOException | NumberFormatException e) {
+            System.out.println("Error reading file: " + e.getMessage());
+            return null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
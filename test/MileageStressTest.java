@@ -0,0 +1,217 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MileageStressTest {
+    private static final int DEFAULT_THREADS = 16;
+    private static final int DEFAULT_OPERATIONS = 1_000;
+    // 모든 스레드가 함께 바꾸는 고객 수 // 적을수록 같은 고객 잠금을 두고 더 자주 겨룸
+    private static final int SHARED_CUSTOMERS = 8;
+    // 메모리에 두는 고객 수를 일부러 작게 잡아 내보내기와 다시 읽기가 변경과 겹치게 함
+    private static final int MAX_RESIDENT_CUSTOMERS = 4;
+    // 이 횟수마다 한 번 체크포인트(텍스트 파일은 압축)를 변경과 동시에 실행
+    private static final int CHECKPOINT_EVERY = 200;
+    private static final int REGISTER_RACES = 100;
+    // mvn test에서 돌리는 규모 // 빌드를 오래 붙잡지 않으면서 고객 잠금 경합과 내보내기가 충분히 겹치는 정도
+    private static final int TEST_THREADS = 8;
+    private static final int TEST_OPERATIONS = 500;
+
+    // textStore // 텍스트 저장소에서 잃어버린 변경이 없는지 확인 // 실패하면 빌드 실패
+    @Test
+    void textStore() throws Exception {
+        assertTrue(runInTempDirectory("text", TEST_THREADS, TEST_OPERATIONS), "text store lost updates");
+    }
+
+    // embeddedStore // 내장 키-값 저장소에서 잃어버린 변경이 없는지 확인 // 실패하면 빌드 실패
+    @Test
+    void embeddedStore() throws Exception {
+        assertTrue(runInTempDirectory("embedded", TEST_THREADS, TEST_OPERATIONS), "embedded store lost updates");
+    }
+
+    // 메소드 이름: main
+    // 메소드 기능1: 여러 스레드가 같은 고객과 각자의 고객에게 마일리지를 동시에 적립·차감
+    // 메소드 기능2: 잔액과 기록 수가 성공한 변경의 합과 맞는지, 다시 연 뒤에도 맞는지 확인 // 어긋나면 종료 코드 1
+    // 메소드 기능3: 같은 아이디를 여러 스레드가 동시에 가입해 정확히 한 번만 성공하는지 확인
+    // 사용법: MileageStressTest [스레드 수] [스레드당 변경 수] [text|embedded]  // 저장소를 생략하면 둘 다 실행
+    public static void main(String[] args) throws Exception {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_THREADS;
+        int operations = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_OPERATIONS;
+        String[] stores = args.length > 2 ? new String[]{args[2]} : new String[]{"text", "embedded"};
+        boolean passed = true;
+        for (String store : stores) {
+            passed &= runInTempDirectory(store, threads, operations);
+        }
+        if (!passed) {
+            System.exit(1);
+        }
+    }
+
+    // runInTempDirectory // 임시 디렉터리에 저장소를 만들어 run 실행 후 정리
+    static boolean runInTempDirectory(String storeType, int threads, int operations) throws Exception {
+        Path directory = Files.createTempDirectory("mileage-stress");
+        try {
+            return run(storeType, directory, threads, operations);
+        } finally {
+            deleteRecursively(directory);
+        }
+    }
+
+    // run // 한 저장소에서 가입 경쟁과 동시 변경을 실행하고 결과 확인
+    static boolean run(String storeType, Path directory, int threads, int operations) throws Exception {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < SHARED_CUSTOMERS; i++) {
+            ids.add("shared" + i);
+        }
+        for (int i = 0; i < threads; i++) {
+            ids.add("own" + i);
+        }
+        AtomicLongArray credits = new AtomicLongArray(ids.size());
+        AtomicLongArray debits = new AtomicLongArray(ids.size());
+        AtomicLongArray records = new AtomicLongArray(ids.size());
+
+        CustomerMileageManager manager = open(storeType, directory);
+        for (String id : ids) {
+            manager.registerCustomer(new Customer(id, id, "password"));
+        }
+        int registered = registerRace(manager, threads);
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        List<Throwable> errors = new ArrayList<>();
+        long begin = System.nanoTime();
+        for (int t = 0; t < threads; t++) {
+            int own = SHARED_CUSTOMERS + t;
+            long seed = t;
+            Thread worker = new Thread(() -> {
+                SplittableRandom random = new SplittableRandom(seed);
+                try {
+                    start.await();
+                    for (int i = 0; i < operations; i++) {
+                        int customer = random.nextInt(4) == 0 ? own : random.nextInt(SHARED_CUSTOMERS);
+                        int amount = 1 + random.nextInt(10);
+                        if (random.nextInt(3) == 0) {
+                            if (manager.useMileage(ids.get(customer), amount, "스트레스 차감")) {
+                                debits.addAndGet(customer, amount);
+                                records.incrementAndGet(customer);
+                            }
+                        } else {
+                            manager.addMileage(ids.get(customer), amount, "스트레스 적립");
+                            credits.addAndGet(customer, amount);
+                            records.incrementAndGet(customer);
+                        }
+                        if (seed == 0 && i % CHECKPOINT_EVERY == CHECKPOINT_EVERY - 1) {
+                            manager.saveData();
+                        }
+                    }
+                } catch (Throwable e) {
+                    synchronized (errors) {
+                        errors.add(e);
+                    }
+                }
+            }, "mileage-stress-" + t);
+            workers.add(worker);
+            worker.start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        manager.sync().join();
+        long elapsed = System.nanoTime() - begin;
+
+        boolean passed = errors.isEmpty() && registered == REGISTER_RACES;
+        for (Throwable error : errors) {
+            error.printStackTrace();
+        }
+        if (registered != REGISTER_RACES) {
+            System.out.printf("가입 경쟁: %d개 아이디 중 %d개 성공%n", REGISTER_RACES, registered);
+        }
+        passed &= verify("변경 직후", manager, ids, credits, debits, records);
+        manager.close();
+        CustomerMileageManager reopened = open(storeType, directory);
+        passed &= verify("다시 연 뒤", reopened, ids, credits, debits, records);
+        reopened.close();
+
+        System.out.printf("%s 저장소: 스레드 %d, 변경 %d, %.0f ms, %s%n", storeType, threads,
+                (long) threads * operations, elapsed / 1e6, passed ? "통과" : "실패");
+        return passed;
+    }
+
+    // open // 저장소 종류에 맞는 관리자 열기 // 메모리에 두는 고객 수를 작게 잡음
+    private static CustomerMileageManager open(String storeType, Path directory) throws IOException {
+        CustomerStore store = "embedded".equals(storeType)
+                ? EmbeddedCustomerStore.open(directory.resolve("user_mileage.db"))
+                : new TextCustomerStore(directory.resolve("user_mileage.txt").toString(), 64, 1);
+        return new CustomerMileageManager(store, MAX_RESIDENT_CUSTOMERS);
+    }
+
+    // registerRace // 모든 스레드가 같은 아이디들을 동시에 가입 // 성공한 가입 수 반환
+    private static int registerRace(CustomerMileageManager manager, int threads) throws InterruptedException {
+        AtomicInteger successes = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < REGISTER_RACES; i++) {
+                    String id = "race" + i;
+                    if (manager.registerCustomer(new Customer(id, id, "password"))) {
+                        successes.incrementAndGet();
+                    }
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        return successes.get();
+    }
+
+    // verify // 고객마다 잔액이 적립 합 - 차감 합과 같고 기록 수가 성공한 변경 수와 같은지 확인
+    private static boolean verify(String phase, CustomerMileageManager manager, List<String> ids,
+                                  AtomicLongArray credits, AtomicLongArray debits, AtomicLongArray records) {
+        boolean passed = true;
+        for (int i = 0; i < ids.size(); i++) {
+            Customer customer = manager.getCustomer(ids.get(i));
+            long expected = credits.get(i) - debits.get(i);
+            if (customer == null) {
+                System.out.printf("%s: %s 고객이 없음%n", phase, ids.get(i));
+                passed = false;
+            } else if (customer.getMileage() != expected
+                    || customer.getMileageRecords().size() != records.get(i)) {
+                System.out.printf("%s: %s 잔액 %d (예상 %d), 기록 %d건 (예상 %d건)%n", phase, ids.get(i),
+                        customer.getMileage(), expected, customer.getMileageRecords().size(), records.get(i));
+                passed = false;
+            }
+        }
+        return passed;
+    }
+
+    // deleteRecursively // 임시 디렉터리 정리
+    private static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}